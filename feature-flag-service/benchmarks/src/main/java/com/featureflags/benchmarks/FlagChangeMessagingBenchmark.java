@@ -0,0 +1,90 @@
+package com.featureflags.benchmarks;
+
+import com.featureflags.config.RedisConfig;
+import com.featureflags.dto.FlagChangeDTO;
+import com.featureflags.dto.FlagChangesDTO;
+import com.featureflags.entity.FlagChange;
+import com.featureflags.service.FlagChangeMessagingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Cost of publishing a batch of {@code changes} flag changes: {@code serialize} is the JSON encoding through
+ * the {@link RedisConfig} template's Jackson serializer alone; {@code publish} is
+ * {@link FlagChangeMessagingService#publish} over pub/sub, a Lettuce round trip to the in-process Redis.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlagChangeMessagingBenchmark {
+
+    @Param({"1", "50"})
+    public int changes;
+
+    private InProcessRedis redis;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisSerializer<Object> serializer;
+    private FlagChangeMessagingService messagingService;
+    private FlagChangesDTO batch;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        redis = InProcessRedis.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", redis.getPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisTemplate<String, Object> redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+        serializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        messagingService = new FlagChangeMessagingService(redisTemplate, "pubsub", 10_000, "benchmark");
+
+        List<FlagChangeDTO> events = IntStream.range(0, changes)
+                .mapToObj(i -> {
+                    FlagChange change = new FlagChange(FlagChange.UPDATED, (long) i, "flag_" + i, i % 2 == 0);
+                    change.setVersion(100L + i);
+                    return new FlagChangeDTO(change);
+                })
+                .toList();
+        batch = FlagChangesDTO.of(99, 99 + changes, events);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        connectionFactory.destroy();
+        redis.close();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(batch);
+    }
+
+    @Benchmark
+    public FlagChangesDTO publish() {
+        messagingService.publish(batch);
+        return batch;
+    }
+}
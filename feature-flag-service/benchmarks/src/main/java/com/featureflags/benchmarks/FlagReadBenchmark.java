@@ -0,0 +1,82 @@
+package com.featureflags.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.featureflags.dto.FeatureFlagResponseDTO;
+import com.featureflags.service.FeatureFlagService;
+import com.featureflags.service.FlagSnapshot;
+import com.featureflags.service.FlagSnapshotCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flag reads at catalog sizes of {@code flags}. {@code getAllFlags} and {@code getFlagByName} are served from
+ * the in-memory snapshot; {@code reloadSnapshot} is what every reconcile pays to build it (read all
+ * rows, map them to DTOs, index them); {@code writeAllFlagsJson} is the body of {@code GET /api/flags}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class FlagReadBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int flags;
+
+    private FlagServiceContext service;
+    private FeatureFlagService flagService;
+    private FlagSnapshotCache snapshotCache;
+    private ObjectMapper objectMapper;
+    private String[] names;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        service = FlagServiceContext.start(flags);
+        flagService = service.getBean(FeatureFlagService.class);
+        snapshotCache = service.getBean(FlagSnapshotCache.class);
+        objectMapper = service.getBean(ObjectMapper.class);
+        names = flagService.getAllFlags().stream().map(FeatureFlagResponseDTO::getName).toArray(String[]::new);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        service.close();
+    }
+
+    @Benchmark
+    public List<FeatureFlagResponseDTO> getAllFlags() {
+        return flagService.getAllFlags();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public FeatureFlagResponseDTO getFlagByName() {
+        return flagService.getFlagByName(names[next++ % names.length]);
+    }
+
+    @Benchmark
+    public FlagSnapshot reloadSnapshot() {
+        return snapshotCache.reload();
+    }
+
+    @Benchmark
+    public byte[] writeAllFlagsJson() throws IOException {
+        return objectMapper.writeValueAsBytes(flagService.getAllFlags());
+    }
+}
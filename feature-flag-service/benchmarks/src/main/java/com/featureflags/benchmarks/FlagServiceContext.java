@@ -0,0 +1,91 @@
+package com.featureflags.benchmarks;
+
+import com.featureflags.FeatureFlagApplication;
+import com.featureflags.service.FlagSnapshotCache;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * The whole feature flag service, minus the web server, on an in-memory H2 database and an
+ * {@link InProcessRedis}, seeded with a given number of flags. Background reconcile and changelog
+ * pruning are pushed out so they do not run during a measurement.
+ */
+final class FlagServiceContext implements AutoCloseable {
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private final InProcessRedis redis;
+    private final ConfigurableApplicationContext context;
+
+    private FlagServiceContext(InProcessRedis redis, ConfigurableApplicationContext context) {
+        this.redis = redis;
+        this.context = context;
+    }
+
+    static FlagServiceContext start(int flags) throws IOException {
+        InProcessRedis redis = InProcessRedis.start();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(FeatureFlagApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:flags-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.data.redis.url=" + redis.getUrl(),
+                        "--flags.snapshot.reconcile-interval=PT1H",
+                        "--flags.changelog.prune-interval=PT1H",
+                        "--flags.instance-id=benchmark",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.featureflags=WARN",
+                        "--logging.level.org.springframework.data.redis=WARN");
+        FlagServiceContext service = new FlagServiceContext(redis, context);
+        service.seed(flags);
+        return service;
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    InProcessRedis getRedis() {
+        return redis;
+    }
+
+    /**
+     * Ids of the seeded flags, in insertion order
+     */
+    List<Long> flagIds() {
+        return getBean(JdbcTemplate.class).queryForList("SELECT id FROM feature_flags ORDER BY id", Long.class);
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        redis.close();
+    }
+
+    // Inserted with JDBC batches rather than through the service: seeding 100k flags one write at a time
+    // would write 100k changelog rows and versions
+    private void seed(int flags) {
+        JdbcTemplate jdbc = getBean(JdbcTemplate.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < flags; from += INSERT_BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>(INSERT_BATCH_SIZE);
+            IntStream.range(from, Math.min(from + INSERT_BATCH_SIZE, flags)).forEach(i -> rows.add(new Object[]{
+                    "flag_" + i, i % 2 == 0, "Benchmark flag " + i, now, now}));
+            jdbc.batchUpdate("INSERT INTO feature_flags (name, enabled, description, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?)", rows);
+        }
+        getBean(FlagSnapshotCache.class).reload();
+    }
+}
@@ -0,0 +1,58 @@
+package com.featureflags.benchmarks;
+
+import com.featureflags.dto.FeatureFlagResponseDTO;
+import com.featureflags.service.FeatureFlagService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code toggleFlag} throughput with {@code flags} flags: the write transaction with its changelog entry and
+ * version bump, then the snapshot update after commit. The outbox relay publishes the changes to the
+ * in-process Redis in the background, as it would in production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class FlagToggleBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int flags;
+
+    private FlagServiceContext service;
+    private FeatureFlagService flagService;
+    private Long[] ids;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        service = FlagServiceContext.start(flags);
+        flagService = service.getBean(FeatureFlagService.class);
+        ids = service.flagIds().toArray(Long[]::new);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        service.close();
+    }
+
+    @Benchmark
+    public FeatureFlagResponseDTO toggleFlag() {
+        return flagService.toggleFlag(ids[next++ % ids.length]);
+    }
+}
@@ -0,0 +1,150 @@
+package com.featureflags.benchmarks;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Minimal RESP server on loopback standing in for Redis, so publishing pays for serialization and a real
+ * socket round trip without an external process. It understands just enough for the feature flag service:
+ * PUBLISH, XADD and the hash commands answer as Redis would for an empty server (nothing is stored,
+ * nobody is subscribed), it speaks RESP2 only, and anything else is answered with OK.
+ */
+final class InProcessRedis implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final Map<String, LongAdder> commandCounts = new ConcurrentHashMap<>();
+    private final AtomicLong streamSequence = new AtomicLong();
+
+    private InProcessRedis(ServerSocket serverSocket) {
+        this.serverSocket = serverSocket;
+    }
+
+    static InProcessRedis start() throws IOException {
+        InProcessRedis redis = new InProcessRedis(new ServerSocket(0, 128, InetAddress.getLoopbackAddress()));
+        Thread.ofPlatform().name("in-process-redis").daemon().start(redis::accept);
+        return redis;
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    String getUrl() {
+        return "redis://127.0.0.1:" + getPort();
+    }
+
+    /**
+     * How many times a command (upper case, e.g. {@code PUBLISH}) has been received
+     */
+    long commandCount(String command) {
+        LongAdder count = commandCounts.get(command);
+        return count != null ? count.sum() : 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                Thread.ofPlatform().name("in-process-redis-connection").daemon().start(() -> serve(socket));
+            } catch (IOException e) {
+                // Closed
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            String[] command;
+            while ((command = readCommand(in)) != null) {
+                reply(command, out);
+                // Flush once the client has sent everything it pipelined
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            // Client went away
+        }
+    }
+
+    private void reply(String[] command, OutputStream out) throws IOException {
+        String name = command.length > 0 ? command[0].toUpperCase(Locale.ROOT) : "";
+        commandCounts.computeIfAbsent(name, key -> new LongAdder()).increment();
+        switch (name) {
+            // Clients fall back to RESP2 when the server does not know HELLO, as with Redis before 6
+            case "HELLO" -> write(out, "-ERR unknown command 'HELLO'\r\n");
+            case "PING" -> write(out, "+PONG\r\n");
+            case "PUBLISH", "HSET", "HDEL", "DEL" -> write(out, ":0\r\n");
+            case "XADD" -> bulk(out, System.currentTimeMillis() + "-" + streamSequence.incrementAndGet());
+            case "HGETALL", "HKEYS", "HVALS" -> write(out, "*0\r\n");
+            case "HGET", "GET" -> write(out, "$-1\r\n");
+            default -> write(out, "+OK\r\n");
+        }
+    }
+
+    private static String[] readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) {
+            return null;
+        }
+        if (header.isEmpty() || header.charAt(0) != '*') {
+            // Inline command
+            return header.trim().split("\\s+");
+        }
+        String[] arguments = new String[Integer.parseInt(header.substring(1))];
+        for (int i = 0; i < arguments.length; i++) {
+            String length = readLine(in);
+            if (length == null) {
+                return null;
+            }
+            byte[] argument = in.readNBytes(Integer.parseInt(length.substring(1)));
+            in.readNBytes(2);
+            arguments[i] = new String(argument, StandardCharsets.UTF_8);
+        }
+        return arguments;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\r') {
+                in.read();
+                return line.toString();
+            }
+            line.append((char) b);
+        }
+        return null;
+    }
+
+    private static void bulk(OutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        write(out, "$" + bytes.length + "\r\n");
+        out.write(bytes);
+        write(out, "\r\n");
+    }
+
+    private static void write(OutputStream out, String value) throws IOException {
+        out.write(value.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -2,17 +2,41 @@ package com.featureflags.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.featureflags.service.FlagChangeSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+
+import java.time.Duration;
 
 @Configuration
 public class RedisConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(RedisConfig.class);
+
     public static final String FEATURE_FLAGS_CHANNEL = "feature-flags-updates";
+    public static final String FEATURE_FLAGS_STREAM = "feature-flags-events";
+    public static final String STREAM_EVENT_FIELD = "event";
+    // Hash of consuming instance id to the flag-set version it has applied
+    public static final String FLAG_INSTANCES_KEY = "feature-flags-instances";
+
+    // Pause after a failed stream read so a Redis outage does not turn into a hot retry loop
+    private static final Duration STREAM_ERROR_BACKOFF = Duration.ofSeconds(1);
 
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
@@ -34,4 +58,51 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
-}
\ No newline at end of file
+
+    /**
+     * Every instance listens to the batches it publishes itself, so a write taken by another instance
+     * reaches this one's snapshot and stream subscribers without waiting for the reconcile
+     */
+    @Bean
+    @ConditionalOnExpression("!'${flags.events.transport:pubsub}'.trim().equalsIgnoreCase('stream')")
+    public RedisMessageListenerContainer flagChangeListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                     FlagChangeSubscriber subscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(subscriber, new ChannelTopic(FEATURE_FLAGS_CHANNEL));
+        return container;
+    }
+
+    /**
+     * Same as {@link #flagChangeListenerContainer} when batches only go to the stream; each instance
+     * reads it on its own from the tail, the startup snapshot load covers everything before
+     */
+    // The stream container does not auto-start; the context still stops it on shutdown
+    @Bean(initMethod = "start")
+    @ConditionalOnProperty(name = "flags.events.transport", havingValue = "stream")
+    public StreamMessageListenerContainer<String, MapRecord<String, String, String>> flagChangeStreamContainer(
+            RedisConnectionFactory connectionFactory,
+            FlagChangeSubscriber subscriber) {
+
+        StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+                StreamMessageListenerContainerOptions.builder()
+                        .pollTimeout(Duration.ofSeconds(2))
+                        .serializer(new StringRedisSerializer())
+                        .errorHandler(e -> {
+                            logger.warn("Reading flag change stream failed: {}", e.getMessage());
+                            try {
+                                Thread.sleep(STREAM_ERROR_BACKOFF.toMillis());
+                            } catch (InterruptedException interrupted) {
+                                Thread.currentThread().interrupt();
+                            }
+                        })
+                        .build();
+
+        StreamMessageListenerContainer<String, MapRecord<String, String, String>> container =
+                StreamMessageListenerContainer.create(connectionFactory, options);
+        container.register(StreamReadRequest.builder(StreamOffset.create(FEATURE_FLAGS_STREAM, ReadOffset.lastConsumed()))
+                .cancelOnError(e -> false)
+                .build(), subscriber);
+        return container;
+    }
+}
@@ -1,17 +1,27 @@
 package com.featureflags.controller;
 
+import com.featureflags.dto.BulkFlagRequestDTO;
+import com.featureflags.dto.BulkFlagResponseDTO;
 import com.featureflags.dto.FeatureFlagRequestDTO;
 import com.featureflags.dto.FeatureFlagResponseDTO;
+import com.featureflags.dto.FlagChangesDTO;
+import com.featureflags.dto.FlagPropagationDTO;
+import com.featureflags.dto.FlagQueryDTO;
 import com.featureflags.service.FeatureFlagService;
+import com.featureflags.service.FlagEventBroadcaster;
+import com.featureflags.service.FlagPropagationService;
+import com.featureflags.service.FlagSnapshot;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/flags")
@@ -21,20 +31,70 @@ public class FeatureFlagController {
     private static final Logger logger = LoggerFactory.getLogger(FeatureFlagController.class);
 
     private final FeatureFlagService service;
+    private final FlagEventBroadcaster broadcaster;
+    private final FlagPropagationService propagationService;
 
     @Autowired
-    public FeatureFlagController(FeatureFlagService service) {
+    public FeatureFlagController(FeatureFlagService service, FlagEventBroadcaster broadcaster,
+                                 FlagPropagationService propagationService) {
         this.service = service;
+        this.broadcaster = broadcaster;
+        this.propagationService = propagationService;
     }
 
     /**
-     * Get all feature flags
+     * Get all feature flags, only the changes since {@code sinceVersion}, or a filtered page (see {@link FlagQueryDTO}).
+     * The unfiltered list and the changes carry the flag-set version as ETag, so a matching If-None-Match
+     * is answered with 304 from memory, before any changelog query; {@code view=SUMMARY} returns only
+     * id, name and enabled.
      */
     @GetMapping
-    public ResponseEntity<List<FeatureFlagResponseDTO>> getAllFlags() {
+    public ResponseEntity<?> getAllFlags(@RequestParam(required = false) Long sinceVersion,
+                                         @Valid FlagQueryDTO query,
+                                         WebRequest request) {
+        if (sinceVersion != null || !query.isPaged()) {
+            long version = service.getSnapshot().getVersion();
+            if (request.checkNotModified(etag(version))) {
+                logger.debug("GET /api/flags - Client is at version {}, not modified", version);
+                return versioned(version).build();
+            }
+        }
+
+        if (sinceVersion != null) {
+            logger.debug("GET /api/flags?sinceVersion={} - Fetching feature flag changes", sinceVersion);
+            FlagChangesDTO changes = service.getChangesSince(sinceVersion);
+            return versioned(changes.getVersion()).body(changes);
+        }
+
+        if (query.isPaged()) {
+            logger.debug("GET /api/flags - Fetching page of feature flags after id {}", query.getAfterId());
+            return ResponseEntity.ok(service.findFlags(query));
+        }
+
         logger.debug("GET /api/flags - Fetching all feature flags");
-        List<FeatureFlagResponseDTO> flags = service.getAllFlags();
-        return ResponseEntity.ok(flags);
+        FlagSnapshot snapshot = service.getSnapshot();
+        return versioned(snapshot.getVersion())
+                .body(query.getView() == FlagQueryDTO.View.SUMMARY ? snapshot.getSummaries() : snapshot.getFlags());
+    }
+
+    /**
+     * Stream flag changes as Server-Sent Events: a snapshot, then changes per flag-set version.
+     * Reconnecting clients send the last event id (a version) back as Last-Event-ID to resume.
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamFlags(@RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        logger.debug("GET /api/flags/stream - Subscribing (Last-Event-ID {})", lastEventId);
+        return broadcaster.subscribe(lastEventId);
+    }
+
+    /**
+     * Which consuming instances have applied flag-set {@code version}, by default the current one
+     */
+    @GetMapping("/propagation")
+    public ResponseEntity<FlagPropagationDTO> getPropagation(@RequestParam(required = false) Long version) {
+        long target = version != null ? version : service.getSnapshot().getVersion();
+        logger.debug("GET /api/flags/propagation - Checking propagation of version {}", target);
+        return ResponseEntity.ok(propagationService.getPropagation(target));
     }
 
     /**
@@ -67,6 +127,15 @@ public class FeatureFlagController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdFlag);
     }
 
+    /**
+     * Create, update, toggle and delete many flags in one transaction
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkFlagResponseDTO> applyBulk(@Valid @RequestBody BulkFlagRequestDTO request) {
+        logger.info("POST /api/flags/bulk - Applying {} flag operations", request.getOperations().size());
+        return ResponseEntity.ok(service.applyBulk(request));
+    }
+
     /**
      * Update an existing feature flag
      */
@@ -109,6 +178,20 @@ public class FeatureFlagController {
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * 200 builder carrying the flag-set version as a strong ETag; Spring turns it into a 304
+     * when it matches If-None-Match. no-cache makes browsers revalidate instead of guessing freshness.
+     */
+    private ResponseEntity.BodyBuilder versioned(long version) {
+        return ResponseEntity.ok()
+                .eTag(etag(version))
+                .cacheControl(CacheControl.noCache());
+    }
+
+    private static String etag(long version) {
+        return "\"" + version + "\"";
+    }
+
     /**
      * Health check endpoint
      */
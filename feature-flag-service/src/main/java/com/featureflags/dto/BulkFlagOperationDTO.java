@@ -0,0 +1,87 @@
+package com.featureflags.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import com.featureflags.entity.FlagTargeting;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * One operation of a bulk flag request, addressing the flag by name.
+ * CREATE and UPDATE need {@code enabled} and replace description and targeting; TOGGLE and DELETE only need the name.
+ */
+public class BulkFlagOperationDTO {
+
+    public enum Type { CREATE, UPDATE, TOGGLE, DELETE }
+
+    @NotNull(message = "Operation type is required")
+    private Type op;
+
+    @NotBlank(message = "Flag name is required")
+    private String name;
+
+    private Boolean enabled;
+
+    private String description;
+
+    @Valid
+    private FlagTargeting targeting;
+
+    // Constructors
+    public BulkFlagOperationDTO() {}
+
+    public BulkFlagOperationDTO(Type op, String name, Boolean enabled, String description) {
+        this.op = op;
+        this.name = name;
+        this.enabled = enabled;
+        this.description = description;
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "Enabled status is required for CREATE and UPDATE")
+    public boolean isEnabledPresentWhenRequired() {
+        return enabled != null || (op != Type.CREATE && op != Type.UPDATE);
+    }
+
+    // Getters and Setters
+    public Type getOp() {
+        return op;
+    }
+
+    public void setOp(Type op) {
+        this.op = op;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public FlagTargeting getTargeting() {
+        return targeting;
+    }
+
+    public void setTargeting(FlagTargeting targeting) {
+        this.targeting = targeting;
+    }
+}
@@ -0,0 +1,35 @@
+package com.featureflags.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Body of {@code POST /api/flags/bulk}; all operations succeed or fail together
+ */
+public class BulkFlagRequestDTO {
+
+    public static final int MAX_OPERATIONS = 1000;
+
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = MAX_OPERATIONS, message = "At most " + MAX_OPERATIONS + " operations per request")
+    private List<@Valid BulkFlagOperationDTO> operations;
+
+    // Constructors
+    public BulkFlagRequestDTO() {}
+
+    public BulkFlagRequestDTO(List<BulkFlagOperationDTO> operations) {
+        this.operations = operations;
+    }
+
+    // Getters and Setters
+    public List<BulkFlagOperationDTO> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<BulkFlagOperationDTO> operations) {
+        this.operations = operations;
+    }
+}
@@ -0,0 +1,31 @@
+package com.featureflags.dto;
+
+import java.util.List;
+
+/**
+ * Result of a bulk flag request: the single flag-set version it produced and the resulting flags
+ */
+public class BulkFlagResponseDTO {
+
+    private long version;
+    private int created;
+    private int updated;
+    private int deleted;
+    private List<FeatureFlagResponseDTO> flags;
+
+    public BulkFlagResponseDTO(long version, int created, int updated, int deleted,
+                               List<FeatureFlagResponseDTO> flags) {
+        this.version = version;
+        this.created = created;
+        this.updated = updated;
+        this.deleted = deleted;
+        this.flags = flags;
+    }
+
+    // Getters
+    public long getVersion() { return version; }
+    public int getCreated() { return created; }
+    public int getUpdated() { return updated; }
+    public int getDeleted() { return deleted; }
+    public List<FeatureFlagResponseDTO> getFlags() { return flags; }
+}
@@ -1,5 +1,7 @@
 package com.featureflags.dto;
 
+import com.featureflags.entity.FlagTargeting;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -13,6 +15,9 @@ public class FeatureFlagRequestDTO {
 
     private String description;
 
+    @Valid
+    private FlagTargeting targeting;
+
     // Constructors
     public FeatureFlagRequestDTO() {}
 
@@ -46,4 +51,12 @@ public class FeatureFlagRequestDTO {
     public void setDescription(String description) {
         this.description = description;
     }
+
+    public FlagTargeting getTargeting() {
+        return targeting;
+    }
+
+    public void setTargeting(FlagTargeting targeting) {
+        this.targeting = targeting;
+    }
 }
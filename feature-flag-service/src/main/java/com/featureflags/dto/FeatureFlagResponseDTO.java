@@ -1,6 +1,7 @@
 package com.featureflags.dto;
 
 import com.featureflags.entity.FeatureFlag;
+import com.featureflags.entity.FlagTargeting;
 
 import java.time.LocalDateTime;
 
@@ -10,6 +11,7 @@ public class FeatureFlagResponseDTO {
     private String name;
     private Boolean enabled;
     private String description;
+    private FlagTargeting targeting;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -21,6 +23,7 @@ public class FeatureFlagResponseDTO {
         this.name = featureFlag.getName();
         this.enabled = featureFlag.getEnabled();
         this.description = featureFlag.getDescription();
+        this.targeting = featureFlag.getTargeting();
         this.createdAt = featureFlag.getCreatedAt();
         this.updatedAt = featureFlag.getUpdatedAt();
     }
@@ -58,6 +61,14 @@ public class FeatureFlagResponseDTO {
         this.description = description;
     }
 
+    public FlagTargeting getTargeting() {
+        return targeting;
+    }
+
+    public void setTargeting(FlagTargeting targeting) {
+        this.targeting = targeting;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,18 @@
+package com.featureflags.dto;
+
+import com.featureflags.entity.FlagTargeting;
+
+/**
+ * What a flag evaluator needs ({@code view=SUMMARY}): name, state and targeting, without description
+ * and audit timestamps. Paged summary queries select only these columns
+ */
+public interface FeatureFlagSummary {
+
+    Long getId();
+
+    String getName();
+
+    Boolean getEnabled();
+
+    FlagTargeting getTargeting();
+}
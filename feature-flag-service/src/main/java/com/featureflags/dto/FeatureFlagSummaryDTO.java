@@ -0,0 +1,41 @@
+package com.featureflags.dto;
+
+import com.featureflags.entity.FlagTargeting;
+
+/**
+ * {@link FeatureFlagSummary} of a flag held in the in-memory snapshot, or read by a summary page query
+ */
+public class FeatureFlagSummaryDTO implements FeatureFlagSummary {
+
+    private final Long id;
+    private final String name;
+    private final Boolean enabled;
+    private final FlagTargeting targeting;
+
+    public FeatureFlagSummaryDTO(FeatureFlagResponseDTO flag) {
+        this.id = flag.getId();
+        this.name = flag.getName();
+        this.enabled = flag.getEnabled();
+        this.targeting = flag.getTargeting();
+    }
+
+    public FeatureFlagSummaryDTO(Long id, String name, Boolean enabled, FlagTargeting targeting) {
+        this.id = id;
+        this.name = name;
+        this.enabled = enabled;
+        this.targeting = targeting;
+    }
+
+    // Getters
+    @Override
+    public Long getId() { return id; }
+
+    @Override
+    public String getName() { return name; }
+
+    @Override
+    public Boolean getEnabled() { return enabled; }
+
+    @Override
+    public FlagTargeting getTargeting() { return targeting; }
+}
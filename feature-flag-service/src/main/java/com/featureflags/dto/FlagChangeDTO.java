@@ -0,0 +1,59 @@
+package com.featureflags.dto;
+
+import com.featureflags.entity.FlagChange;
+import com.featureflags.entity.FlagTargeting;
+
+import java.time.LocalDateTime;
+
+public class FlagChangeDTO {
+
+    private Long version;
+    private String changeType; // CREATED, UPDATED, DELETED
+    private Long flagId;
+    private String flagName;
+    private Boolean enabled;
+    private FlagTargeting targeting;
+    private LocalDateTime changedAt;
+
+    // Constructors
+    public FlagChangeDTO() {}
+
+    public FlagChangeDTO(FlagChange change) {
+        this.version = change.getVersion();
+        this.changeType = change.getChangeType();
+        this.flagId = change.getFlagId();
+        this.flagName = change.getFlagName();
+        this.enabled = change.getEnabled();
+        this.targeting = change.getTargeting();
+        this.changedAt = change.getChangedAt();
+    }
+
+    // Getters
+    public Long getVersion() {
+        return version;
+    }
+
+    public String getChangeType() {
+        return changeType;
+    }
+
+    public Long getFlagId() {
+        return flagId;
+    }
+
+    public String getFlagName() {
+        return flagName;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public FlagTargeting getTargeting() {
+        return targeting;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+}
@@ -0,0 +1,60 @@
+package com.featureflags.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Changes to the flag set between two versions.
+ * When {@code resetRequired} is set the changelog no longer covers {@code fromVersion}; {@code flags}
+ * then holds the full flag list at {@code version} and replaces whatever the client has.
+ * Batches sent over Redis also carry the publishing instance and the publish time in epoch microseconds,
+ * from which consumers measure propagation lag.
+ */
+public class FlagChangesDTO {
+
+    private long fromVersion;
+    private long version;
+    private boolean resetRequired;
+    private List<FlagChangeDTO> changes;
+    private List<FeatureFlagResponseDTO> flags;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String origin;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long publishedAtMicros;
+
+    public FlagChangesDTO(long fromVersion, long version, boolean resetRequired,
+                          List<FlagChangeDTO> changes, List<FeatureFlagResponseDTO> flags) {
+        this.fromVersion = fromVersion;
+        this.version = version;
+        this.resetRequired = resetRequired;
+        this.changes = changes;
+        this.flags = flags;
+    }
+
+    public static FlagChangesDTO of(long fromVersion, long version, List<FlagChangeDTO> changes) {
+        return new FlagChangesDTO(fromVersion, version, false, changes, null);
+    }
+
+    public static FlagChangesDTO reset(long fromVersion, long version, List<FeatureFlagResponseDTO> flags) {
+        return new FlagChangesDTO(fromVersion, version, true, List.of(), flags);
+    }
+
+    /**
+     * Stamp the batch just before it is sent
+     */
+    public FlagChangesDTO published(String origin, long publishedAtMicros) {
+        this.origin = origin;
+        this.publishedAtMicros = publishedAtMicros;
+        return this;
+    }
+
+    // Getters
+    public long getFromVersion() { return fromVersion; }
+    public long getVersion() { return version; }
+    public boolean isResetRequired() { return resetRequired; }
+    public List<FlagChangeDTO> getChanges() { return changes; }
+    public List<FeatureFlagResponseDTO> getFlags() { return flags; }
+    public String getOrigin() { return origin; }
+    public Long getPublishedAtMicros() { return publishedAtMicros; }
+}
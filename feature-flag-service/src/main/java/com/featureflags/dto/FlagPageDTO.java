@@ -0,0 +1,21 @@
+package com.featureflags.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated flag listing; {@code nextAfterId} is null on the last page
+ */
+public class FlagPageDTO<T> {
+
+    private List<T> items;
+    private Long nextAfterId;
+
+    public FlagPageDTO(List<T> items, Long nextAfterId) {
+        this.items = items;
+        this.nextAfterId = nextAfterId;
+    }
+
+    // Getters
+    public List<T> getItems() { return items; }
+    public Long getNextAfterId() { return nextAfterId; }
+}
@@ -0,0 +1,34 @@
+package com.featureflags.dto;
+
+import java.util.List;
+
+/**
+ * Which consuming instances have applied a flag-set version. {@code complete} means every live
+ * instance has; stale instances (no report within the timeout) are listed but not waited for.
+ */
+public class FlagPropagationDTO {
+
+    private final long version;
+    private final boolean complete;
+    private final int applied;
+    private final int pending;
+    private final int stale;
+    private final List<InstancePropagationDTO> instances;
+
+    public FlagPropagationDTO(long version, List<InstancePropagationDTO> instances) {
+        this.version = version;
+        this.instances = instances;
+        this.applied = (int) instances.stream().filter(InstancePropagationDTO::isApplied).count();
+        this.stale = (int) instances.stream().filter(instance -> instance.isStale() && !instance.isApplied()).count();
+        this.pending = instances.size() - applied - stale;
+        this.complete = pending == 0;
+    }
+
+    // Getters
+    public long getVersion() { return version; }
+    public boolean isComplete() { return complete; }
+    public int getApplied() { return applied; }
+    public int getPending() { return pending; }
+    public int getStale() { return stale; }
+    public List<InstancePropagationDTO> getInstances() { return instances; }
+}
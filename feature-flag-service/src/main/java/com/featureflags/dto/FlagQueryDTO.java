@@ -0,0 +1,108 @@
+package com.featureflags.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Query parameters of {@code GET /api/flags}. Any filter, {@code limit} or {@code afterId} switches the
+ * listing to a keyset-paginated database query ordered by id; {@code afterId} is the
+ * {@code nextAfterId} of the previous page.
+ */
+public class FlagQueryDTO {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    public enum View { FULL, SUMMARY }
+
+    @Min(value = 0, message = "afterId must not be negative")
+    private Long afterId;
+
+    @Min(value = 1, message = "limit must be at least 1")
+    @Max(value = MAX_LIMIT, message = "limit must be at most " + MAX_LIMIT)
+    private Integer limit;
+
+    private Boolean enabled;
+
+    private String namePrefix;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedAfter;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedBefore;
+
+    private View view = View.FULL;
+
+    /**
+     * Whether the request asks for a page rather than the whole (snapshot-served) flag list
+     */
+    public boolean isPaged() {
+        return afterId != null || limit != null || enabled != null || namePrefix != null
+                || updatedAfter != null || updatedBefore != null;
+    }
+
+    public int getLimitOrDefault() {
+        return limit != null ? limit : DEFAULT_LIMIT;
+    }
+
+    // Getters and Setters
+    public Long getAfterId() {
+        return afterId;
+    }
+
+    public void setAfterId(Long afterId) {
+        this.afterId = afterId;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(Boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getNamePrefix() {
+        return namePrefix;
+    }
+
+    public void setNamePrefix(String namePrefix) {
+        this.namePrefix = namePrefix;
+    }
+
+    public LocalDateTime getUpdatedAfter() {
+        return updatedAfter;
+    }
+
+    public void setUpdatedAfter(LocalDateTime updatedAfter) {
+        this.updatedAfter = updatedAfter;
+    }
+
+    public LocalDateTime getUpdatedBefore() {
+        return updatedBefore;
+    }
+
+    public void setUpdatedBefore(LocalDateTime updatedBefore) {
+        this.updatedBefore = updatedBefore;
+    }
+
+    public View getView() {
+        return view;
+    }
+
+    public void setView(View view) {
+        this.view = view;
+    }
+}
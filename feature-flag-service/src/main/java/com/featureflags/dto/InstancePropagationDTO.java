@@ -0,0 +1,78 @@
+package com.featureflags.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Flag-set version one consuming instance has applied, as it last reported it to Redis.
+ * {@code applied} and {@code stale} are filled in against the version being asked about.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class InstancePropagationDTO {
+
+    private String instanceId;
+    private Long appliedVersion;
+    private Long appliedAtMillis;
+    private Long reportedAtMillis;
+    private Double lastLagMillis;
+    private boolean applied;
+    private boolean stale;
+
+    public InstancePropagationDTO() {}
+
+    // Getters and Setters
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public void setInstanceId(String instanceId) {
+        this.instanceId = instanceId;
+    }
+
+    public Long getAppliedVersion() {
+        return appliedVersion;
+    }
+
+    public void setAppliedVersion(Long appliedVersion) {
+        this.appliedVersion = appliedVersion;
+    }
+
+    public Long getAppliedAtMillis() {
+        return appliedAtMillis;
+    }
+
+    public void setAppliedAtMillis(Long appliedAtMillis) {
+        this.appliedAtMillis = appliedAtMillis;
+    }
+
+    public Long getReportedAtMillis() {
+        return reportedAtMillis;
+    }
+
+    public void setReportedAtMillis(Long reportedAtMillis) {
+        this.reportedAtMillis = reportedAtMillis;
+    }
+
+    public Double getLastLagMillis() {
+        return lastLagMillis;
+    }
+
+    public void setLastLagMillis(Double lastLagMillis) {
+        this.lastLagMillis = lastLagMillis;
+    }
+
+    public boolean isApplied() {
+        return applied;
+    }
+
+    public void setApplied(boolean applied) {
+        this.applied = applied;
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    public void setStale(boolean stale) {
+        this.stale = stale;
+    }
+}
@@ -1,6 +1,7 @@
 package com.featureflags.entity;
 
 import jakarta.persistence.*;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.data.annotation.CreatedDate;
@@ -11,7 +12,11 @@ import java.time.LocalDateTime;
 import java.util.Objects;
 
 @Entity
-@Table(name = "feature_flags")
+@Table(name = "feature_flags", indexes = {
+        // Keyset pages filtered by state or by modification time
+        @Index(name = "idx_feature_flags_enabled", columnList = "enabled, id"),
+        @Index(name = "idx_feature_flags_updated_at", columnList = "updated_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class FeatureFlag {
 
@@ -30,6 +35,11 @@ public class FeatureFlag {
     @Column(length = 500)
     private String description;
 
+    @Convert(converter = FlagTargetingConverter.class)
+    @Column(length = FlagTargetingConverter.MAX_LENGTH)
+    @Valid
+    private FlagTargeting targeting;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -80,6 +90,14 @@ public class FeatureFlag {
         this.description = description;
     }
 
+    public FlagTargeting getTargeting() {
+        return targeting;
+    }
+
+    public void setTargeting(FlagTargeting targeting) {
+        this.targeting = targeting;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,122 @@
+package com.featureflags.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the flag changelog, stamped with the flag-set version of the mutation that produced it.
+ * The changelog doubles as the event outbox: rows are written unpublished in the flag's own transaction
+ * and {@code FlagChangeOutboxRelay} marks them published once the event is in Redis.
+ */
+@Entity
+@Table(name = "flag_changes", indexes = {
+        @Index(name = "idx_flag_changes_version", columnList = "version"),
+        @Index(name = "idx_flag_changes_changed_at", columnList = "changed_at"),
+        @Index(name = "idx_flag_changes_published", columnList = "published, id")
+})
+public class FlagChange {
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "change_type", nullable = false, length = 16)
+    private String changeType;
+
+    @Column(name = "flag_id")
+    private Long flagId;
+
+    @Column(name = "flag_name", nullable = false)
+    private String flagName;
+
+    private Boolean enabled;
+
+    // Targeting in effect after the change, so consumers can rebuild evaluators from events alone
+    @Convert(converter = FlagTargetingConverter.class)
+    @Column(length = FlagTargetingConverter.MAX_LENGTH)
+    private FlagTargeting targeting;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    // Null for rows written before the outbox existed, so the relay never replays old history
+    private Boolean published;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    // Constructors
+    public FlagChange() {}
+
+    public FlagChange(String changeType, Long flagId, String flagName, Boolean enabled) {
+        this.changeType = changeType;
+        this.flagId = flagId;
+        this.flagName = flagName;
+        this.enabled = enabled;
+        this.changedAt = LocalDateTime.now();
+        this.published = false;
+    }
+
+    public FlagChange(String changeType, FeatureFlag flag) {
+        this(changeType, flag.getId(), flag.getName(), DELETED.equals(changeType) ? false : flag.getEnabled());
+        this.targeting = DELETED.equals(changeType) ? null : flag.getTargeting();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public String getChangeType() {
+        return changeType;
+    }
+
+    public Long getFlagId() {
+        return flagId;
+    }
+
+    public String getFlagName() {
+        return flagName;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public FlagTargeting getTargeting() {
+        return targeting;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public Boolean getPublished() {
+        return published;
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public void markPublished(LocalDateTime publishedAt) {
+        this.published = true;
+        this.publishedAt = publishedAt;
+    }
+}
@@ -0,0 +1,56 @@
+package com.featureflags.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Single-row counter holding the global flag-set version.
+ * Every mutation increments it under a row lock, so versions are gap-free and strictly ordered.
+ */
+@Entity
+@Table(name = "flag_set_version")
+public class FlagSetVersion {
+
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public FlagSetVersion() {}
+
+    public FlagSetVersion(Long id, Long version) {
+        this.id = id;
+        this.version = version;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Advance to the next version and return it
+     */
+    public long increment() {
+        version = version + 1;
+        updatedAt = LocalDateTime.now();
+        return version;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,111 @@
+package com.featureflags.entity;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Who gets an enabled flag. Rules are checked in order and the first one whose conditions all match
+ * decides: the user is in if their bucket falls within the rule's rollout percentage. Users matching
+ * no rule fall through to {@code rollout}. Buckets come from a stable hash of flag name and user key,
+ * so a user keeps their answer as a rollout grows. A disabled flag is off for everyone.
+ * <p>
+ * The attribute {@code key} is the user key itself, so an {@code IN} condition on it is a segment list.
+ */
+public class FlagTargeting {
+
+    public static final String KEY_ATTRIBUTE = "key";
+
+    public enum Operator { IN, NOT_IN }
+
+    @Valid
+    private List<Rule> rules = new ArrayList<>();
+
+    @DecimalMin("0") @DecimalMax("100")
+    private double rollout = 100;
+
+    // Getters and Setters
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules != null ? rules : new ArrayList<>();
+    }
+
+    public double getRollout() {
+        return rollout;
+    }
+
+    public void setRollout(double rollout) {
+        this.rollout = rollout;
+    }
+
+    public static class Rule {
+
+        @NotEmpty(message = "A targeting rule needs at least one condition")
+        @Valid
+        private List<Condition> conditions = new ArrayList<>();
+
+        @DecimalMin("0") @DecimalMax("100")
+        private double rollout = 100;
+
+        public List<Condition> getConditions() {
+            return conditions;
+        }
+
+        public void setConditions(List<Condition> conditions) {
+            this.conditions = conditions;
+        }
+
+        public double getRollout() {
+            return rollout;
+        }
+
+        public void setRollout(double rollout) {
+            this.rollout = rollout;
+        }
+    }
+
+    public static class Condition {
+
+        @NotBlank(message = "Condition attribute is required")
+        private String attribute;
+
+        @NotNull(message = "Condition operator is required")
+        private Operator operator;
+
+        @NotEmpty(message = "Condition values are required")
+        private List<String> values = new ArrayList<>();
+
+        public String getAttribute() {
+            return attribute;
+        }
+
+        public void setAttribute(String attribute) {
+            this.attribute = attribute;
+        }
+
+        public Operator getOperator() {
+            return operator;
+        }
+
+        public void setOperator(Operator operator) {
+            this.operator = operator;
+        }
+
+        public List<String> getValues() {
+            return values;
+        }
+
+        public void setValues(List<String> values) {
+            this.values = values;
+        }
+    }
+}
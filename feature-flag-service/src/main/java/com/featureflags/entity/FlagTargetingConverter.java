@@ -0,0 +1,42 @@
+package com.featureflags.entity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@link FlagTargeting} as a JSON column; null means no targeting (on for everyone when enabled)
+ */
+@Converter
+public class FlagTargetingConverter implements AttributeConverter<FlagTargeting, String> {
+
+    // Column length of targeting JSON; segment lists larger than this belong in a segment store
+    public static final int MAX_LENGTH = 20000;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Override
+    public String convertToDatabaseColumn(FlagTargeting targeting) {
+        if (targeting == null) {
+            return null;
+        }
+        try {
+            return MAPPER.writeValueAsString(targeting);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize flag targeting", e);
+        }
+    }
+
+    @Override
+    public FlagTargeting convertToEntityAttribute(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return MAPPER.readValue(json, FlagTargeting.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not read flag targeting", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.featureflags.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Single row the outbox relay locks for the length of each batch, so only one instance relays at a time
+ * and batches reach subscribers in version order.
+ */
+@Entity
+@Table(name = "flag_outbox_relay_lock")
+public class OutboxRelayLock {
+
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    // Constructors
+    public OutboxRelayLock() {}
+
+    public OutboxRelayLock(Long id) {
+        this.id = id;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+}
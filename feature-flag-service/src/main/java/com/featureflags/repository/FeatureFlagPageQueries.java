@@ -0,0 +1,23 @@
+package com.featureflags.repository;
+
+import com.featureflags.dto.FeatureFlagSummary;
+import com.featureflags.dto.FlagQueryDTO;
+import com.featureflags.entity.FeatureFlag;
+
+import java.util.List;
+
+/**
+ * Keyset-paginated flag listings, filtered by whichever of the query's filters are set
+ */
+public interface FeatureFlagPageQueries {
+
+    /**
+     * Up to {@code limit} flags after {@code afterId} that match the query's filters, in id order
+     */
+    List<FeatureFlag> findPage(FlagQueryDTO query, long afterId, int limit);
+
+    /**
+     * Same page as {@link #findPage}, selecting only id, name, enabled and targeting
+     */
+    List<FeatureFlagSummary> findSummaryPage(FlagQueryDTO query, long afterId, int limit);
+}
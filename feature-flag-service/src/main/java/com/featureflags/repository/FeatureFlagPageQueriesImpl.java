@@ -0,0 +1,115 @@
+package com.featureflags.repository;
+
+import com.featureflags.dto.FeatureFlagSummary;
+import com.featureflags.dto.FeatureFlagSummaryDTO;
+import com.featureflags.dto.FlagQueryDTO;
+import com.featureflags.entity.FeatureFlag;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds each page query from only the filters the request sets. A single statement with
+ * {@code (:p IS NULL OR ...)} catch-alls gets a generic plan on PostgreSQL that cannot use the
+ * {@code (enabled, id)} and {@code (updated_at, id)} indexes; here each filter combination is its own statement.
+ * <p>
+ * The unique index on {@code name} only serves {@code LIKE 'prefix%'} under the C collation, so on
+ * PostgreSQL a {@code text_pattern_ops} index is created on startup for the name prefix filter.
+ */
+public class FeatureFlagPageQueriesImpl implements FeatureFlagPageQueries {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeatureFlagPageQueriesImpl.class);
+
+    private static final String CREATE_NAME_PATTERN_INDEX =
+            "CREATE INDEX IF NOT EXISTS idx_feature_flags_name_pattern ON feature_flags (name text_pattern_ops)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public FeatureFlagPageQueriesImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<FeatureFlag> findPage(FlagQueryDTO query, long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FeatureFlag> page = cb.createQuery(FeatureFlag.class);
+        Root<FeatureFlag> flag = page.from(FeatureFlag.class);
+        page.select(flag)
+                .where(filters(cb, flag, query, afterId))
+                .orderBy(cb.asc(flag.get("id")));
+        return entityManager.createQuery(page).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<FeatureFlagSummary> findSummaryPage(FlagQueryDTO query, long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FeatureFlagSummaryDTO> page = cb.createQuery(FeatureFlagSummaryDTO.class);
+        Root<FeatureFlag> flag = page.from(FeatureFlag.class);
+        page.select(cb.construct(FeatureFlagSummaryDTO.class,
+                        flag.get("id"), flag.get("name"), flag.get("enabled"), flag.get("targeting")))
+                .where(filters(cb, flag, query, afterId))
+                .orderBy(cb.asc(flag.get("id")));
+        return new ArrayList<>(entityManager.createQuery(page).setMaxResults(limit).getResultList());
+    }
+
+    private Predicate[] filters(CriteriaBuilder cb, Root<FeatureFlag> flag, FlagQueryDTO query, long afterId) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.greaterThan(flag.get("id"), afterId));
+        if (query.getEnabled() != null) {
+            predicates.add(cb.equal(flag.get("enabled"), query.getEnabled()));
+        }
+        if (query.getNamePrefix() != null) {
+            predicates.add(cb.like(flag.get("name"), likePrefix(query.getNamePrefix()), '\\'));
+        }
+        if (query.getUpdatedAfter() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(flag.<LocalDateTime>get("updatedAt"), query.getUpdatedAfter()));
+        }
+        if (query.getUpdatedBefore() != null) {
+            predicates.add(cb.lessThan(flag.<LocalDateTime>get("updatedAt"), query.getUpdatedBefore()));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+
+    /**
+     * LIKE pattern matching names that start with {@code prefix} literally
+     */
+    static String likePrefix(String prefix) {
+        return prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    /**
+     * Index for the name prefix filter; JPA index definitions cannot name an operator class
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureNamePatternIndex() {
+        try {
+            String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            if ("PostgreSQL".equals(database)) {
+                jdbcTemplate.execute(CREATE_NAME_PATTERN_INDEX);
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Could not create the flag name prefix index; prefix filters fall back to scanning: {}",
+                    e.getMessage());
+        }
+    }
+}
@@ -8,7 +8,7 @@ import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
 @Repository
-public interface FeatureFlagRepository extends JpaRepository<FeatureFlag, Long> {
+public interface FeatureFlagRepository extends JpaRepository<FeatureFlag, Long>, FeatureFlagPageQueries {
 
     /**
      * Find a feature flag by its name
@@ -0,0 +1,118 @@
+package com.featureflags.repository;
+
+import com.featureflags.entity.FeatureFlag;
+import com.featureflags.entity.FlagChange;
+import com.featureflags.entity.FlagTargetingConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC batch writes for flags and their changelog rows, one round trip per statement type.
+ * Both tables use identity ids, which stop Hibernate from batching inserts; callers run inside the
+ * surrounding JPA transaction, whose connection the JDBC template shares.
+ */
+@Repository
+public class FlagBatchRepository {
+
+    private static final String SELECT_FLAGS_BY_NAME =
+            "SELECT id, name, enabled, description, targeting, created_at, updated_at FROM feature_flags WHERE name IN (:names)";
+    private static final String INSERT_FLAG =
+            "INSERT INTO feature_flags (name, enabled, description, targeting, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_FLAG =
+            "UPDATE feature_flags SET enabled = ?, description = ?, targeting = ?, updated_at = ? WHERE id = ?";
+    private static final String DELETE_FLAGS = "DELETE FROM feature_flags WHERE id IN (:ids)";
+    private static final String INSERT_CHANGE =
+            "INSERT INTO flag_changes (version, change_type, flag_id, flag_name, enabled, targeting, changed_at, published) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final FlagTargetingConverter TARGETING = new FlagTargetingConverter();
+
+    private static final RowMapper<FeatureFlag> FLAG_MAPPER = (rs, rowNum) -> {
+        FeatureFlag flag = new FeatureFlag(rs.getString("name"), rs.getBoolean("enabled"), rs.getString("description"));
+        flag.setId(rs.getLong("id"));
+        flag.setTargeting(TARGETING.convertToEntityAttribute(rs.getString("targeting")));
+        flag.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+        flag.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
+        return flag;
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public FlagBatchRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Load the flags with the given names in one query; missing names are simply absent
+     */
+    public List<FeatureFlag> findFlagsByName(Collection<String> names) {
+        if (names.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SELECT_FLAGS_BY_NAME, new MapSqlParameterSource("names", names), FLAG_MAPPER);
+    }
+
+    /**
+     * Batch insert new flags and return them as stored, with their generated ids
+     */
+    public List<FeatureFlag> insertFlags(List<FeatureFlag> flags) {
+        if (flags.isEmpty()) {
+            return List.of();
+        }
+        jdbcTemplate.getJdbcOperations().batchUpdate(INSERT_FLAG, flags.stream()
+                .map(flag -> new Object[] {
+                        flag.getName(), flag.getEnabled(), flag.getDescription(),
+                        TARGETING.convertToDatabaseColumn(flag.getTargeting()),
+                        Timestamp.valueOf(flag.getCreatedAt()), Timestamp.valueOf(flag.getUpdatedAt())})
+                .toList());
+        // Names are unique; reading them back is portable where batch generated keys are not
+        return findFlagsByName(flags.stream().map(FeatureFlag::getName).toList());
+    }
+
+    /**
+     * Batch update the enabled state, description and targeting of existing flags
+     */
+    public void updateFlags(List<FeatureFlag> flags) {
+        if (flags.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.getJdbcOperations().batchUpdate(UPDATE_FLAG, flags.stream()
+                .map(flag -> new Object[] {
+                        flag.getEnabled(), flag.getDescription(), TARGETING.convertToDatabaseColumn(flag.getTargeting()),
+                        Timestamp.valueOf(flag.getUpdatedAt()), flag.getId()})
+                .toList());
+    }
+
+    /**
+     * Delete flags by id in one statement
+     */
+    public void deleteFlags(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(DELETE_FLAGS, new MapSqlParameterSource("ids", ids));
+    }
+
+    /**
+     * Batch insert changelog rows; they are read back through {@link FlagChangeRepository}
+     */
+    public void insertChanges(List<FlagChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.getJdbcOperations().batchUpdate(INSERT_CHANGE, changes.stream()
+                .map(change -> new Object[] {
+                        change.getVersion(), change.getChangeType(), change.getFlagId(), change.getFlagName(),
+                        change.getEnabled(), TARGETING.convertToDatabaseColumn(change.getTargeting()),
+                        Timestamp.valueOf(change.getChangedAt()), change.getPublished()})
+                .toList());
+    }
+}
@@ -0,0 +1,67 @@
+package com.featureflags.repository;
+
+import com.featureflags.entity.FlagChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface FlagChangeRepository extends JpaRepository<FlagChange, Long> {
+
+    /**
+     * Changes with a version in (fromVersion, toVersion], oldest first
+     */
+    @Query("SELECT c FROM FlagChange c WHERE c.version > :fromVersion AND c.version <= :toVersion " +
+            "ORDER BY c.version ASC, c.id ASC")
+    List<FlagChange> findChangesBetween(Long fromVersion, Long toVersion);
+
+    /**
+     * Ids of the flags changed in versions (fromVersion, toVersion]; contains null if a change has no flag id
+     */
+    @Query("SELECT DISTINCT c.flagId FROM FlagChange c WHERE c.version > :fromVersion AND c.version <= :toVersion")
+    List<Long> findChangedFlagIds(Long fromVersion, Long toVersion);
+
+    /**
+     * Oldest version still present in the changelog, or null if it is empty
+     */
+    @Query("SELECT MIN(c.version) FROM FlagChange c")
+    Long findOldestVersion();
+
+    /**
+     * Oldest unpublished outbox rows in version order; only called by the relay holding the
+     * {@link com.featureflags.entity.OutboxRelayLock}
+     */
+    @Query("SELECT c FROM FlagChange c WHERE c.published = false ORDER BY c.version ASC, c.id ASC")
+    List<FlagChange> findUnpublished(Pageable pageable);
+
+    /**
+     * Every unpublished outbox row of one version, for a version with more changes than a relay batch
+     */
+    @Query("SELECT c FROM FlagChange c WHERE c.published = false AND c.version = :version ORDER BY c.id ASC")
+    List<FlagChange> findUnpublishedByVersion(Long version);
+
+    /**
+     * Number of outbox rows waiting to be published
+     */
+    @Query("SELECT COUNT(c) FROM FlagChange c WHERE c.published = false")
+    long countUnpublished();
+
+    /**
+     * Change time of the oldest unpublished outbox row, or null if none is waiting
+     */
+    @Query("SELECT MIN(c.changedAt) FROM FlagChange c WHERE c.published = false")
+    LocalDateTime findOldestUnpublishedChangedAt();
+
+    /**
+     * Remove published changelog entries older than the retention cutoff; unpublished outbox rows are kept
+     * however old they are, so a long broker outage delays events instead of losing them
+     */
+    @Modifying
+    @Query("DELETE FROM FlagChange c WHERE c.changedAt < :cutoff AND c.published = true")
+    int deletePublishedOlderThan(LocalDateTime cutoff);
+}
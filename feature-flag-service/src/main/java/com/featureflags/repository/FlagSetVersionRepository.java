@@ -0,0 +1,21 @@
+package com.featureflags.repository;
+
+import com.featureflags.entity.FlagSetVersion;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface FlagSetVersionRepository extends JpaRepository<FlagSetVersion, Long> {
+
+    /**
+     * Load the version row with a pessimistic write lock, serializing concurrent mutations
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM FlagSetVersion v WHERE v.id = :id")
+    Optional<FlagSetVersion> findForUpdate(Long id);
+}
@@ -0,0 +1,24 @@
+package com.featureflags.repository;
+
+import com.featureflags.entity.OutboxRelayLock;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface OutboxRelayLockRepository extends JpaRepository<OutboxRelayLock, Long> {
+
+    /**
+     * Lock the relay row, or return empty without waiting if another relay holds it (SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT l FROM OutboxRelayLock l WHERE l.id = :id")
+    Optional<OutboxRelayLock> tryLock(Long id);
+}
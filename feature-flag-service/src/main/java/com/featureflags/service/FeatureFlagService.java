@@ -1,20 +1,35 @@
 package com.featureflags.service;
 
+import com.featureflags.dto.BulkFlagOperationDTO;
+import com.featureflags.dto.BulkFlagRequestDTO;
+import com.featureflags.dto.BulkFlagResponseDTO;
 import com.featureflags.dto.FeatureFlagRequestDTO;
 import com.featureflags.dto.FeatureFlagResponseDTO;
 import com.featureflags.dto.FeatureFlagStatsDTO;
+import com.featureflags.dto.FeatureFlagSummary;
+import com.featureflags.dto.FlagChangesDTO;
+import com.featureflags.dto.FlagPageDTO;
+import com.featureflags.dto.FlagQueryDTO;
 import com.featureflags.entity.FeatureFlag;
+import com.featureflags.entity.FlagChange;
 import com.featureflags.exception.ResourceNotFoundException;
 import com.featureflags.exception.DuplicateResourceException;
 import com.featureflags.repository.FeatureFlagRepository;
+import com.featureflags.repository.FlagBatchRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -23,46 +38,99 @@ public class FeatureFlagService {
     private static final Logger logger = LoggerFactory.getLogger(FeatureFlagService.class);
 
     private final FeatureFlagRepository repository;
-    private final FlagChangeMessagingService messagingService;
+    private final FlagBatchRepository batchRepository;
+    private final FlagSnapshotCache snapshotCache;
+    private final FlagChangeLog changeLog;
+    private final FlagChangeOutboxRelay outboxRelay;
 
     @Autowired
     public FeatureFlagService(FeatureFlagRepository repository,
-                              FlagChangeMessagingService messagingService) {
+                              FlagBatchRepository batchRepository,
+                              FlagSnapshotCache snapshotCache,
+                              FlagChangeLog changeLog,
+                              FlagChangeOutboxRelay outboxRelay) {
         this.repository = repository;
-        this.messagingService = messagingService;
+        this.batchRepository = batchRepository;
+        this.snapshotCache = snapshotCache;
+        this.changeLog = changeLog;
+        this.outboxRelay = outboxRelay;
     }
 
     /**
-     * Get all feature flags
+     * Current flag snapshot, carrying the flag-set version used as the ETag of the flag list
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FlagSnapshot getSnapshot() {
+        return snapshotCache.current();
+    }
+
+    /**
+     * Changes since the given flag-set version; answered from memory when the client is up to date,
+     * and with the whole snapshot when the changelog no longer reaches back that far
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FlagChangesDTO getChangesSince(long sinceVersion) {
+        FlagSnapshot snapshot = snapshotCache.current();
+        if (sinceVersion == snapshot.getVersion()) {
+            return FlagChangesDTO.of(sinceVersion, snapshot.getVersion(), List.of());
+        }
+
+        FlagChangesDTO changes = changeLog.changesSince(sinceVersion);
+        if (changes.isResetRequired()) {
+            FlagSnapshot latest = snapshotCache.current();
+            return FlagChangesDTO.reset(sinceVersion, latest.getVersion(), latest.getFlags());
+        }
+        return changes;
+    }
+
+    /**
+     * Get all feature flags, served from the in-memory snapshot
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<FeatureFlagResponseDTO> getAllFlags() {
         logger.debug("Fetching all feature flags");
-        return repository.findAll().stream()
-                .map(FeatureFlagResponseDTO::new)
-                .collect(Collectors.toList());
+        return snapshotCache.current().getFlags();
     }
 
     /**
-     * Get a specific feature flag by ID
+     * One keyset page of flags matching the query, read from the database with only the columns the view needs
      */
     @Transactional(readOnly = true)
+    public FlagPageDTO<?> findFlags(FlagQueryDTO query) {
+        long afterId = query.getAfterId() != null ? query.getAfterId() : 0L;
+        int limit = query.getLimitOrDefault();
+        logger.debug("Fetching page of feature flags after id {} (limit {})", afterId, limit);
+
+        if (query.getView() == FlagQueryDTO.View.SUMMARY) {
+            List<FeatureFlagSummary> page = repository.findSummaryPage(query, afterId, limit);
+            return new FlagPageDTO<>(page, page.size() == limit ? page.get(page.size() - 1).getId() : null);
+        }
+
+        List<FeatureFlagResponseDTO> page = repository.findPage(query, afterId, limit)
+                .stream()
+                .map(FeatureFlagResponseDTO::new)
+                .toList();
+        return new FlagPageDTO<>(page, page.size() == limit ? page.get(page.size() - 1).getId() : null);
+    }
+
+    /**
+     * Get a specific feature flag by ID, served from the in-memory snapshot
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public FeatureFlagResponseDTO getFlagById(Long id) {
         logger.debug("Fetching feature flag with id: {}", id);
-        FeatureFlag flag = repository.findById(id)
+        return snapshotCache.current().findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Feature flag not found with id: " + id));
-        return new FeatureFlagResponseDTO(flag);
     }
 
     /**
-     * Get a specific feature flag by name
+     * Get a specific feature flag by name, served from the in-memory snapshot
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public FeatureFlagResponseDTO getFlagByName(String name) {
         logger.debug("Fetching feature flag with name: {}", name);
-        FeatureFlag flag = repository.findByName(name)
+        return snapshotCache.current().findByName(name)
                 .orElseThrow(() -> new ResourceNotFoundException("Feature flag not found with name: " + name));
-        return new FeatureFlagResponseDTO(flag);
     }
 
     /**
@@ -82,12 +150,14 @@ public class FeatureFlagService {
                 request.getEnabled(),
                 request.getDescription()
         );
+        flag.setTargeting(request.getTargeting());
 
         FeatureFlag savedFlag = repository.save(flag);
         logger.info("Created feature flag: {} with id: {}", savedFlag.getName(), savedFlag.getId());
-
-        // Publish creation event
-        messagingService.publishFlagCreated(savedFlag.getName(), savedFlag.getEnabled());
+        // The changelog row is also the outbox entry for the creation event
+        long version = changeLog.record(new FlagChange(FlagChange.CREATED, savedFlag));
+        snapshotCache.applyAfterCommit(version, List.of(savedFlag), List.of());
+        outboxRelay.relayAfterCommit();
 
         return new FeatureFlagResponseDTO(savedFlag);
     }
@@ -115,17 +185,19 @@ public class FeatureFlagService {
         existingFlag.setName(request.getName());
         existingFlag.setEnabled(request.getEnabled());
         existingFlag.setDescription(request.getDescription());
+        existingFlag.setTargeting(request.getTargeting());
 
         FeatureFlag updatedFlag = repository.save(existingFlag);
         logger.info("Updated feature flag: {}", updatedFlag.getName());
-
-        // Publish update event (use new name if changed)
-        messagingService.publishFlagUpdated(updatedFlag.getName(), updatedFlag.getEnabled());
-
-        // If name changed, also publish deletion event for old name
+        // Update event under the new name; a rename also deletes the old name
+        List<FlagChange> changes = new ArrayList<>();
+        changes.add(new FlagChange(FlagChange.UPDATED, updatedFlag));
         if (!oldName.equals(updatedFlag.getName())) {
-            messagingService.publishFlagDeleted(oldName);
+            changes.add(new FlagChange(FlagChange.DELETED, updatedFlag.getId(), oldName, false));
         }
+        long version = changeLog.record(changes);
+        snapshotCache.applyAfterCommit(version, List.of(updatedFlag), List.of());
+        outboxRelay.relayAfterCommit();
 
         return new FeatureFlagResponseDTO(updatedFlag);
     }
@@ -140,11 +212,11 @@ public class FeatureFlagService {
                 .orElseThrow(() -> new ResourceNotFoundException("Feature flag not found with id: " + id));
 
         String flagName = flag.getName();
+        long version = changeLog.record(new FlagChange(FlagChange.DELETED, flag));
         repository.delete(flag);
         logger.info("Deleted feature flag: {}", flagName);
-
-        // Publish deletion event
-        messagingService.publishFlagDeleted(flagName);
+        snapshotCache.applyAfterCommit(version, List.of(), List.of(id));
+        outboxRelay.relayAfterCommit();
     }
 
     /**
@@ -159,14 +231,94 @@ public class FeatureFlagService {
         flag.setEnabled(!flag.getEnabled());
         FeatureFlag updatedFlag = repository.save(flag);
         logger.info("Toggled feature flag: {} to {}", updatedFlag.getName(), updatedFlag.getEnabled());
-
-        // Publish update event
-        logger.info("Starting to Publish feature flag: {} to {}", updatedFlag.getName(), updatedFlag.getEnabled());
-        messagingService.publishFlagUpdated(updatedFlag.getName(), updatedFlag.getEnabled());
+        long version = changeLog.record(new FlagChange(FlagChange.UPDATED, updatedFlag));
+        snapshotCache.applyAfterCommit(version, List.of(updatedFlag), List.of());
+        outboxRelay.relayAfterCommit();
 
         return new FeatureFlagResponseDTO(updatedFlag);
     }
 
+    /**
+     * Apply many flag operations in one transaction: one query to resolve names, one JDBC batch per
+     * statement type, and a single flag-set version (so a single change notification) for all of them
+     */
+    public BulkFlagResponseDTO applyBulk(BulkFlagRequestDTO request) {
+        List<BulkFlagOperationDTO> operations = request.getOperations();
+        logger.info("Applying {} bulk flag operations", operations.size());
+
+        Set<String> names = new HashSet<>();
+        for (BulkFlagOperationDTO operation : operations) {
+            if (!names.add(operation.getName())) {
+                throw new DuplicateResourceException("Bulk request names feature flag more than once: " + operation.getName());
+            }
+        }
+
+        Map<String, FeatureFlag> existing = new HashMap<>();
+        for (FeatureFlag flag : batchRepository.findFlagsByName(names)) {
+            existing.put(flag.getName(), flag);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<FeatureFlag> toCreate = new ArrayList<>();
+        List<FeatureFlag> toUpdate = new ArrayList<>();
+        List<FeatureFlag> toDelete = new ArrayList<>();
+        for (BulkFlagOperationDTO operation : operations) {
+            FeatureFlag flag = existing.get(operation.getName());
+            if (operation.getOp() == BulkFlagOperationDTO.Type.CREATE) {
+                if (flag != null) {
+                    throw new DuplicateResourceException("Feature flag already exists with name: " + operation.getName());
+                }
+                FeatureFlag created = new FeatureFlag(operation.getName(), operation.getEnabled(), operation.getDescription());
+                created.setTargeting(operation.getTargeting());
+                created.setCreatedAt(now);
+                created.setUpdatedAt(now);
+                toCreate.add(created);
+                continue;
+            }
+
+            if (flag == null) {
+                throw new ResourceNotFoundException("Feature flag not found with name: " + operation.getName());
+            }
+            switch (operation.getOp()) {
+                case UPDATE -> {
+                    flag.setEnabled(operation.getEnabled());
+                    flag.setDescription(operation.getDescription());
+                    flag.setTargeting(operation.getTargeting());
+                }
+                case TOGGLE -> flag.setEnabled(!flag.getEnabled());
+                case DELETE -> {
+                    toDelete.add(flag);
+                    continue;
+                }
+                default -> throw new IllegalStateException("Unexpected operation: " + operation.getOp());
+            }
+            flag.setUpdatedAt(now);
+            toUpdate.add(flag);
+        }
+
+        List<FeatureFlag> created = batchRepository.insertFlags(toCreate);
+        batchRepository.updateFlags(toUpdate);
+        List<Long> deletedIds = toDelete.stream().map(FeatureFlag::getId).toList();
+        batchRepository.deleteFlags(deletedIds);
+
+        List<FlagChange> changes = new ArrayList<>();
+        created.forEach(flag -> changes.add(new FlagChange(FlagChange.CREATED, flag)));
+        toUpdate.forEach(flag -> changes.add(new FlagChange(FlagChange.UPDATED, flag)));
+        toDelete.forEach(flag -> changes.add(new FlagChange(FlagChange.DELETED, flag)));
+        long version = changeLog.record(changes);
+        List<FeatureFlag> saved = new ArrayList<>(created);
+        saved.addAll(toUpdate);
+        snapshotCache.applyAfterCommit(version, saved, deletedIds);
+        outboxRelay.relayAfterCommit();
+
+        logger.info("Applied bulk flag operations at version {}: {} created, {} updated, {} deleted",
+                version, created.size(), toUpdate.size(), toDelete.size());
+        List<FeatureFlagResponseDTO> flags = new ArrayList<>();
+        created.forEach(flag -> flags.add(new FeatureFlagResponseDTO(flag)));
+        toUpdate.forEach(flag -> flags.add(new FeatureFlagResponseDTO(flag)));
+        return new BulkFlagResponseDTO(version, created.size(), toUpdate.size(), toDelete.size(), flags);
+    }
+
     /**
      * Get statistics about feature flags
      */
@@ -0,0 +1,166 @@
+package com.featureflags.service;
+
+import com.featureflags.dto.FlagChangeDTO;
+import com.featureflags.dto.FlagChangesDTO;
+import com.featureflags.entity.FlagChange;
+import com.featureflags.entity.FlagSetVersion;
+import com.featureflags.repository.FlagBatchRepository;
+import com.featureflags.repository.FlagChangeRepository;
+import com.featureflags.repository.FlagSetVersionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Global flag-set version and the changelog behind it.
+ * Each mutation bumps the version under a pessimistic lock on the version row and records
+ * its changes with that version, in the same transaction as the flag write itself.
+ */
+@Service
+public class FlagChangeLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlagChangeLog.class);
+
+    private final FlagSetVersionRepository versionRepository;
+    private final FlagChangeRepository changeRepository;
+    private final FlagBatchRepository batchRepository;
+    private final Duration retention;
+
+    @Autowired
+    public FlagChangeLog(FlagSetVersionRepository versionRepository,
+                         FlagChangeRepository changeRepository,
+                         FlagBatchRepository batchRepository,
+                         @Value("${flags.changelog.retention:P7D}") Duration retention) {
+        this.versionRepository = versionRepository;
+        this.changeRepository = changeRepository;
+        this.batchRepository = batchRepository;
+        this.retention = retention;
+    }
+
+    /**
+     * Create the version row up front, so concurrent first writes lock it instead of racing to insert it
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureVersionRow() {
+        if (versionRepository.existsById(FlagSetVersion.SINGLETON_ID)) {
+            return;
+        }
+        try {
+            versionRepository.saveAndFlush(new FlagSetVersion(FlagSetVersion.SINGLETON_ID, 0L));
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Flag-set version row was created concurrently");
+        }
+    }
+
+    /**
+     * Record a single flag change and return the new flag-set version
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long record(FlagChange change) {
+        return record(List.of(change));
+    }
+
+    /**
+     * Record the changes of one mutation under a single new flag-set version
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long record(List<FlagChange> changes) {
+        FlagSetVersion row = versionRepository.findForUpdate(FlagSetVersion.SINGLETON_ID)
+                .orElseGet(() -> versionRepository.save(new FlagSetVersion(FlagSetVersion.SINGLETON_ID, 0L)));
+        long version = row.increment();
+
+        changes.forEach(change -> change.setVersion(version));
+        batchRepository.insertChanges(changes);
+        logger.debug("Recorded {} flag change(s) at version {}", changes.size(), version);
+        return version;
+    }
+
+    /**
+     * Current flag-set version; 0 before the first recorded mutation
+     */
+    @Transactional(readOnly = true)
+    public long currentVersion() {
+        return versionRepository.findById(FlagSetVersion.SINGLETON_ID)
+                .map(FlagSetVersion::getVersion)
+                .orElse(0L);
+    }
+
+    /**
+     * Changes after {@code sinceVersion}, keeping only the latest change per flag name
+     */
+    @Transactional(readOnly = true)
+    public FlagChangesDTO changesSince(long sinceVersion) {
+        // Read the version first: every change up to it has committed together with it
+        long version = currentVersion();
+        if (sinceVersion == version) {
+            return FlagChangesDTO.of(sinceVersion, version, List.of());
+        }
+
+        Long oldest = changeRepository.findOldestVersion();
+        if (sinceVersion > version || oldest == null || oldest > sinceVersion + 1) {
+            logger.debug("Changelog does not cover version {} (current {}, oldest retained {})",
+                    sinceVersion, version, oldest);
+            return FlagChangesDTO.reset(sinceVersion, version, null);
+        }
+
+        return FlagChangesDTO.of(sinceVersion, version,
+                latestPerFlag(changeRepository.findChangesBetween(sinceVersion, version)));
+    }
+
+    /**
+     * Ids of the flags changed after {@code sinceVersion} up to {@code version}; empty if the changelog no
+     * longer reaches back to {@code sinceVersion} or holds a change without a flag id
+     */
+    @Transactional(readOnly = true)
+    public Optional<Set<Long>> changedFlagIds(long sinceVersion, long version) {
+        Long oldest = changeRepository.findOldestVersion();
+        if (oldest == null || oldest > sinceVersion + 1) {
+            return Optional.empty();
+        }
+        List<Long> ids = changeRepository.findChangedFlagIds(sinceVersion, version);
+        return ids.contains(null) ? Optional.empty() : Optional.of(new HashSet<>(ids));
+    }
+
+    /**
+     * Collapse changes (oldest first) to the latest one per flag name, ordered by when that latest change happened
+     */
+    public static List<FlagChangeDTO> latestPerFlag(List<FlagChange> changes) {
+        Map<String, FlagChangeDTO> latestByName = new LinkedHashMap<>();
+        for (FlagChange change : changes) {
+            latestByName.remove(change.getFlagName());
+            latestByName.put(change.getFlagName(), new FlagChangeDTO(change));
+        }
+        return new ArrayList<>(latestByName.values());
+    }
+
+    /**
+     * Drop published changelog entries older than the retention period; clients further behind get a reset.
+     * The relay publishes in version order, so the kept entries are still a contiguous range of versions.
+     */
+    @Scheduled(fixedDelayString = "${flags.changelog.prune-interval:PT1H}")
+    @Transactional
+    public void prune() {
+        int removed = changeRepository.deletePublishedOlderThan(LocalDateTime.now().minus(retention));
+        if (removed > 0) {
+            logger.info("Pruned {} published flag changelog entries older than {}", removed, retention);
+        }
+    }
+}
@@ -1,63 +1,89 @@
 package com.featureflags.service;
 
 import com.featureflags.config.RedisConfig;
-import com.featureflags.dto.FlagChangeEvent;
+import com.featureflags.dto.FlagChangesDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Publishes flag change batches over Redis pub/sub, a Redis Stream, or both, stamped with this
+ * instance's id and the publish time. Called by
+ * {@link FlagChangeOutboxRelay} once the changes have committed, never from inside a flag write.
+ * A batch has the same shape as the delta sync response: the latest change per flag between
+ * {@code fromVersion} and {@code version}, sent as one message.
+ * Pub/sub is fire-and-forget; the stream keeps the most recent events (trimmed to roughly
+ * {@code flags.events.stream-max-length}) so a consumer that was disconnected can catch up.
+ */
 @Service
 public class FlagChangeMessagingService {
 
     private static final Logger logger = LoggerFactory.getLogger(FlagChangeMessagingService.class);
 
+    private static final byte[] STREAM_KEY = RedisConfig.FEATURE_FLAGS_STREAM.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EVENT_FIELD = RedisConfig.STREAM_EVENT_FIELD.getBytes(StandardCharsets.UTF_8);
+
+    enum Transport { PUBSUB, STREAM, BOTH }
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final Transport transport;
+    private final long streamMaxLength;
+    private final String instanceId;
 
     @Autowired
-    public FlagChangeMessagingService(RedisTemplate<String, Object> redisTemplate) {
+    public FlagChangeMessagingService(RedisTemplate<String, Object> redisTemplate,
+                                      @Value("${flags.events.transport:pubsub}") String transport,
+                                      @Value("${flags.events.stream-max-length:10000}") long streamMaxLength,
+                                      @Value("${flags.instance-id:${HOSTNAME:localhost}:${server.port:8080}}") String instanceId) {
         this.redisTemplate = redisTemplate;
+        this.transport = Transport.valueOf(transport.trim().toUpperCase(Locale.ROOT));
+        this.streamMaxLength = streamMaxLength;
+        this.instanceId = instanceId;
+        logger.info("Publishing flag change events via {}", this.transport);
     }
 
     /**
-     * Publish a flag change event to Redis
+     * Publish a batch of flag changes to Redis; failures propagate so the outbox relay can retry
      */
-    public void publishFlagChange(String flagName, Boolean enabled, String changeType) {
-        try {
-            FlagChangeEvent event = new FlagChangeEvent(flagName, enabled, changeType);
-
-            logger.info("Publishing flag change event: {} - {} - {}",
-                    flagName, enabled, changeType);
+    public void publish(FlagChangesDTO batch) {
+        logger.info("Publishing {} flag change(s) for versions {} to {}",
+                batch.getChanges().size(), batch.getFromVersion() + 1, batch.getVersion());
 
-            redisTemplate.convertAndSend(RedisConfig.FEATURE_FLAGS_CHANNEL, event);
-
-            logger.debug("Successfully published flag change event for flag: {}", flagName);
-
-        } catch (Exception e) {
-            logger.error("Failed to publish flag change event for flag: {}", flagName, e);
-            // Don't throw exception - messaging failure shouldn't break the main operation
+        batch.published(instanceId, ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now()));
+        if (transport != Transport.STREAM) {
+            redisTemplate.convertAndSend(RedisConfig.FEATURE_FLAGS_CHANNEL, batch);
+        }
+        if (transport != Transport.PUBSUB) {
+            appendToStream(batch);
         }
-    }
-
-    /**
-     * Publish flag creation event
-     */
-    public void publishFlagCreated(String flagName, Boolean enabled) {
-        publishFlagChange(flagName, enabled, "CREATED");
-    }
 
-    /**
-     * Publish flag update event
-     */
-    public void publishFlagUpdated(String flagName, Boolean enabled) {
-        publishFlagChange(flagName, enabled, "UPDATED");
+        logger.debug("Successfully published flag changes up to version {}", batch.getVersion());
     }
 
     /**
-     * Publish flag deletion event
+     * XADD the batch with approximate MAXLEN trimming, in one round trip
      */
-    public void publishFlagDeleted(String flagName) {
-        publishFlagChange(flagName, false, "DELETED");
+    @SuppressWarnings("unchecked")
+    private void appendToStream(FlagChangesDTO batch) {
+        // Same JSON as the pub/sub payload, so both consumers parse it the same way
+        byte[] payload = ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(batch);
+        RecordId id = redisTemplate.execute((RedisCallback<RecordId>) connection -> connection.streamCommands().xAdd(
+                StreamRecords.rawBytes(Map.of(EVENT_FIELD, payload)).withStreamKey(STREAM_KEY),
+                XAddOptions.maxlen(streamMaxLength).approximateTrimming(true)));
+        logger.debug("Appended flag change batch {} to stream {}", id, RedisConfig.FEATURE_FLAGS_STREAM);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,269 @@
+package com.featureflags.service;
+
+import com.featureflags.dto.FlagChangeDTO;
+import com.featureflags.dto.FlagChangesDTO;
+import com.featureflags.entity.FlagChange;
+import com.featureflags.entity.OutboxRelayLock;
+import com.featureflags.repository.FlagChangeRepository;
+import com.featureflags.repository.OutboxRelayLockRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relays committed flag changes from the outbox ({@code flag_changes}) to Redis.
+ * Runs on a single background thread, woken right after each flag write commits and on a poll interval
+ * as a fallback. A wake-up waits {@code flags.outbox.coalesce-window} so a burst of writes (bulk toggles,
+ * rollouts) lands in one batch; each batch is collapsed to the latest change per flag and published as a
+ * single message, then marked published in the same transaction. Each batch runs under the
+ * {@link OutboxRelayLock} row lock, so with several instances only one relays at a time and batches are
+ * published in version order. If Redis fails the whole batch stays pending and the relay backs off. A crash
+ * between publishing and committing the mark republishes the batch, so delivery is at-least-once.
+ */
+@Component
+public class FlagChangeOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlagChangeOutboxRelay.class);
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofMillis(500);
+
+    private final FlagChangeRepository changeRepository;
+    private final OutboxRelayLockRepository lockRepository;
+    private final FlagChangeMessagingService messagingService;
+    private final TransactionTemplate transaction;
+    private final int batchSize;
+    private final Duration maxBackoff;
+    private final Duration coalesceWindow;
+
+    private final ScheduledExecutorService executor =
+            Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "flag-outbox-relay"));
+    private final AtomicBoolean relayQueued = new AtomicBoolean();
+
+    // Only touched by the relay thread
+    private Duration backoff = Duration.ZERO;
+    private long retryAtNanos;
+
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong oldestPendingMillis = new AtomicLong();
+    private final Timer publishLag;
+    private final Counter publishFailures;
+    private final Counter coalesced;
+
+    @Autowired
+    public FlagChangeOutboxRelay(FlagChangeRepository changeRepository,
+                                 OutboxRelayLockRepository lockRepository,
+                                 FlagChangeMessagingService messagingService,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${flags.outbox.batch-size:100}") int batchSize,
+                                 @Value("${flags.outbox.max-backoff:PT30S}") Duration maxBackoff,
+                                 @Value("${flags.outbox.coalesce-window:PT0.05S}") Duration coalesceWindow) {
+        this.changeRepository = changeRepository;
+        this.lockRepository = lockRepository;
+        this.messagingService = messagingService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBackoff = maxBackoff;
+        this.coalesceWindow = coalesceWindow;
+
+        Gauge.builder("flags.outbox.pending", pendingCount, AtomicLong::get)
+                .description("Flag change events committed but not yet published")
+                .register(meterRegistry);
+        TimeGauge.builder("flags.outbox.oldest.age", oldestPendingMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Age of the oldest unpublished flag change event")
+                .register(meterRegistry);
+        this.publishLag = Timer.builder("flags.outbox.publish.lag")
+                .description("Time from a flag change to its event being published")
+                .register(meterRegistry);
+        this.publishFailures = Counter.builder("flags.outbox.publish.failures")
+                .description("Outbox relay runs stopped by a publishing failure")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("flags.outbox.coalesced")
+                .description("Flag changes dropped from a batch because a later change to the same flag superseded them")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Create the relay lock row up front; relays only ever lock it, never insert it
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureLockRow() {
+        if (lockRepository.existsById(OutboxRelayLock.SINGLETON_ID)) {
+            return;
+        }
+        try {
+            lockRepository.saveAndFlush(new OutboxRelayLock(OutboxRelayLock.SINGLETON_ID));
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Outbox relay lock row was created concurrently");
+        }
+    }
+
+    /**
+     * Relay pending events once the surrounding transaction commits (immediately if there is none)
+     */
+    public void relayAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            requestRelay();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                requestRelay();
+            }
+        });
+    }
+
+    /**
+     * Fallback poll for rows a wake-up missed: another instance's writes, a restart, a failed publish
+     */
+    @Scheduled(fixedDelayString = "${flags.outbox.poll-interval:PT1S}")
+    public void poll() {
+        requestRelay();
+    }
+
+    /**
+     * Queue a relay run on the relay thread after the coalescing window; at most one run is queued at a time,
+     * so requests arriving within the window share it
+     */
+    public void requestRelay() {
+        if (relayQueued.compareAndSet(false, true)) {
+            executor.schedule(() -> {
+                relayQueued.set(false);
+                relayPending();
+            }, coalesceWindow.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void relayPending() {
+        if (System.nanoTime() < retryAtNanos) {
+            return;
+        }
+
+        try {
+            BatchResult result;
+            do {
+                result = transaction.execute(status -> relayBatch());
+                if (result.failure() != null) {
+                    throw result.failure();
+                }
+            } while (result.more());
+            backoff = Duration.ZERO;
+        } catch (RuntimeException e) {
+            publishFailures.increment();
+            backoff = backoff.isZero() ? INITIAL_BACKOFF : min(backoff.multipliedBy(2), maxBackoff);
+            retryAtNanos = System.nanoTime() + backoff.toNanos();
+            logger.warn("Publishing flag change events failed, retrying in {} ms: {}", backoff.toMillis(), e.getMessage());
+        } finally {
+            updateLag();
+        }
+    }
+
+    /**
+     * Publish one batch as a single message and mark it; on failure nothing is marked so events stay in order.
+     * A batch holds whole versions only: consumers treat a message as every change up to its version.
+     */
+    private BatchResult relayBatch() {
+        if (lockRepository.tryLock(OutboxRelayLock.SINGLETON_ID).isEmpty()) {
+            if (!lockRepository.existsById(OutboxRelayLock.SINGLETON_ID)) {
+                // Deleted behind our back; recreate it and relay on the next run
+                lockRepository.saveAndFlush(new OutboxRelayLock(OutboxRelayLock.SINGLETON_ID));
+            } else {
+                // Another instance is relaying; it publishes these rows in order
+                logger.debug("Outbox relay lock is held by another instance, skipping this run");
+            }
+            return new BatchResult(false, null);
+        }
+
+        List<FlagChange> changes = changeRepository.findUnpublished(PageRequest.of(0, batchSize));
+        if (changes.isEmpty()) {
+            return new BatchResult(false, null);
+        }
+        boolean more = changes.size() == batchSize;
+        if (more) {
+            changes = wholeVersions(changes);
+        }
+
+        List<FlagChangeDTO> latest = FlagChangeLog.latestPerFlag(changes);
+        long fromVersion = changes.get(0).getVersion() - 1;
+        long version = changes.get(changes.size() - 1).getVersion();
+        try {
+            messagingService.publish(FlagChangesDTO.of(fromVersion, version, latest));
+        } catch (RuntimeException e) {
+            return new BatchResult(false, e);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (FlagChange change : changes) {
+            change.markPublished(now);
+            publishLag.record(Duration.between(change.getChangedAt(), now));
+        }
+        coalesced.increment(changes.size() - latest.size());
+        logger.debug("Relayed {} flag change events as {} changes", changes.size(), latest.size());
+        return new BatchResult(more, null);
+    }
+
+    /**
+     * A full page may end partway through a version (a bulk write records up to 1000 changes under one):
+     * leave that version to the next batch, or, if it fills the whole page, read all of it
+     */
+    private List<FlagChange> wholeVersions(List<FlagChange> page) {
+        long lastVersion = page.get(page.size() - 1).getVersion();
+        if (page.get(0).getVersion() == lastVersion) {
+            return changeRepository.findUnpublishedByVersion(lastVersion);
+        }
+        int end = page.size();
+        while (page.get(end - 1).getVersion() == lastVersion) {
+            end--;
+        }
+        return page.subList(0, end);
+    }
+
+    private void updateLag() {
+        try {
+            pendingCount.set(changeRepository.countUnpublished());
+            LocalDateTime oldest = changeRepository.findOldestUnpublishedChangedAt();
+            oldestPendingMillis.set(oldest != null ? Duration.between(oldest, LocalDateTime.now()).toMillis() : 0);
+        } catch (RuntimeException e) {
+            logger.debug("Could not update outbox lag metrics: {}", e.getMessage());
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private record BatchResult(boolean more, RuntimeException failure) {}
+}
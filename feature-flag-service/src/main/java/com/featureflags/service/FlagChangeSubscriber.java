@@ -0,0 +1,60 @@
+package com.featureflags.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.featureflags.config.RedisConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Catches this instance's snapshot up to each flag change batch published over Redis, so a write taken
+ * by another instance reaches reads and stream subscribers here within one publish rather than on the
+ * next reconcile. The relay on any instance may publish any instance's writes, so batches are not
+ * filtered by origin; one for a version the snapshot already has (such as this instance's own write) is a no-op.
+ */
+@Component
+public class FlagChangeSubscriber implements MessageListener, StreamListener<String, MapRecord<String, String, String>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlagChangeSubscriber.class);
+
+    private final FlagSnapshotCache snapshotCache;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public FlagChangeSubscriber(FlagSnapshotCache snapshotCache, ObjectMapper objectMapper) {
+        this.snapshotCache = snapshotCache;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        onBatch(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void onMessage(MapRecord<String, String, String> record) {
+        onBatch(record.getValue().get(RedisConfig.STREAM_EVENT_FIELD));
+    }
+
+    void onBatch(String payload) {
+        try {
+            long version = objectMapper.readTree(payload).path("version").asLong(-1);
+            if (version < 0) {
+                logger.debug("Ignoring flag change message without a version: {}", payload);
+                return;
+            }
+            FlagSnapshot snapshot = snapshotCache.catchUp(version);
+            logger.debug("Flag change batch up to version {} received; snapshot at version {}", version, snapshot.getVersion());
+        } catch (Exception e) {
+            // The reconcile still picks the change up
+            logger.warn("Failed to catch up with published flag change batch: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.featureflags.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.featureflags.dto.FlagChangesDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pushes flag changes to Server-Sent Events subscribers of {@code GET /api/flags/stream}.
+ * A subscriber first gets a {@code snapshot} event (or, when resuming with {@code Last-Event-ID}, the
+ * {@code changes} since that version if the changelog still covers it), then a {@code changes} event
+ * per new flag-set version. Event ids are flag-set versions.
+ * <p>
+ * Each event is serialized once and queued per subscriber, and each queue is drained on its own virtual
+ * thread: a send blocked on a client that stopped reading parks only that thread, so one slow client never
+ * holds up the others. A subscriber that falls {@code flags.sse.max-queued-events} behind is disconnected
+ * and resumes from its last event id when it reconnects.
+ * <p>
+ * Changes written on other instances arrive here through {@link FlagChangeSubscriber}, which catches the
+ * snapshot up as each batch is published.
+ */
+@Component
+public class FlagEventBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlagEventBroadcaster.class);
+
+    public static final String SNAPSHOT_EVENT = "snapshot";
+    public static final String CHANGES_EVENT = "changes";
+
+    private final FeatureFlagService flagService;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final Duration retry;
+    private final int maxSubscribers;
+    private final int maxQueuedEvents;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatcher =
+            Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "flag-sse-dispatch"));
+    private final ExecutorService senders;
+    private final Counter dropped;
+
+    // Only touched by the dispatcher thread
+    private long lastBroadcastVersion = -1;
+
+    @Autowired
+    public FlagEventBroadcaster(FeatureFlagService flagService,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry,
+                                @Value("${flags.sse.timeout:PT30M}") Duration timeout,
+                                @Value("${flags.sse.retry:PT2S}") Duration retry,
+                                @Value("${flags.sse.max-subscribers:10000}") int maxSubscribers,
+                                @Value("${flags.sse.max-queued-events:32}") int maxQueuedEvents) {
+        this.flagService = flagService;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.retry = retry;
+        this.maxSubscribers = maxSubscribers;
+        this.maxQueuedEvents = maxQueuedEvents;
+
+        // Unbounded on purpose: at most one drain per subscriber runs at a time, and subscribers are capped
+        this.senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("flag-sse-sender-", 0).factory());
+
+        Gauge.builder("flags.sse.subscribers", subscribers, Set::size)
+                .description("Connected flag change stream subscribers")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("flags.sse.dropped")
+                .description("Stream subscribers disconnected for falling too far behind")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Open a stream for a new subscriber, resuming after {@code lastEventId} when given
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many flag stream subscribers");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        // Registered before the initial event is read, so no broadcast can fall in between
+        subscribers.add(subscriber);
+
+        FlagChangesDTO initial;
+        try {
+            initial = lastEventId != null
+                    ? flagService.getChangesSince(lastEventId)
+                    : snapshotOf(flagService.getSnapshot());
+        } catch (RuntimeException e) {
+            subscribers.remove(subscriber);
+            throw e;
+        }
+        subscriber.start(initial.getVersion(), build(initial));
+        logger.debug("Flag stream subscriber joined at version {} (Last-Event-ID {})", initial.getVersion(), lastEventId);
+        return emitter;
+    }
+
+    /**
+     * Broadcast the changes behind each new snapshot; the changelog query runs once per version, off the caller's thread
+     */
+    @EventListener
+    public void onSnapshotUpdated(FlagSnapshotUpdatedEvent event) {
+        dispatcher.execute(() -> {
+            if (lastBroadcastVersion < 0 || event.previousVersion() == null) {
+                lastBroadcastVersion = event.snapshot().getVersion();
+            }
+            if (event.snapshot().getVersion() <= lastBroadcastVersion || subscribers.isEmpty()) {
+                lastBroadcastVersion = Math.max(lastBroadcastVersion, event.snapshot().getVersion());
+                return;
+            }
+
+            try {
+                FlagChangesDTO changes = flagService.getChangesSince(lastBroadcastVersion);
+                Set<DataWithMediaType> data = build(changes);
+                for (Subscriber subscriber : subscribers) {
+                    subscriber.offer(changes.getVersion(), data);
+                }
+                lastBroadcastVersion = changes.getVersion();
+            } catch (RuntimeException e) {
+                // Left at the old version, so the next snapshot update broadcasts these changes too
+                logger.error("Failed to broadcast flag changes after version {}", lastBroadcastVersion, e);
+            }
+        });
+    }
+
+    /**
+     * Keep idle connections open through proxies and detect clients that went away
+     */
+    @Scheduled(fixedDelayString = "${flags.sse.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Set<DataWithMediaType> data = SseEmitter.event().comment("heartbeat").build();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offerHeartbeat(data);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private FlagChangesDTO snapshotOf(FlagSnapshot snapshot) {
+        return FlagChangesDTO.reset(0, snapshot.getVersion(), snapshot.getFlags());
+    }
+
+    private Set<DataWithMediaType> build(FlagChangesDTO changes) {
+        try {
+            return SseEmitter.event()
+                    .id(Long.toString(changes.getVersion()))
+                    .name(changes.isResetRequired() ? SNAPSHOT_EVENT : CHANGES_EVENT)
+                    .reconnectTime(retry.toMillis())
+                    .data(objectMapper.writeValueAsString(changes))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize flag changes", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdown();
+        senders.shutdown();
+        for (Subscriber subscriber : new ArrayList<>(subscribers)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    /**
+     * Per-subscriber send queue; events are sent in order, one drain at a time, skipping versions already sent
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final ArrayDeque<Set<DataWithMediaType>> queue = new ArrayDeque<>();
+        // Broadcasts that arrive before the initial event is queued
+        private final List<Pending> early = new ArrayList<>();
+        private boolean started;
+        private boolean draining;
+        private boolean closed;
+        private long version = -1;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized void start(long initialVersion, Set<DataWithMediaType> initial) {
+            started = true;
+            enqueue(initialVersion, initial);
+            for (Pending pending : early) {
+                enqueue(pending.version(), pending.data());
+            }
+            early.clear();
+        }
+
+        synchronized void offer(long eventVersion, Set<DataWithMediaType> data) {
+            if (!started) {
+                early.add(new Pending(eventVersion, data));
+                return;
+            }
+            enqueue(eventVersion, data);
+        }
+
+        synchronized void offerHeartbeat(Set<DataWithMediaType> data) {
+            if (started && queue.isEmpty() && !draining && !closed) {
+                queue.add(data);
+                scheduleDrain();
+            }
+        }
+
+        private void enqueue(long eventVersion, Set<DataWithMediaType> data) {
+            if (closed || eventVersion <= version) {
+                return;
+            }
+            if (queue.size() >= maxQueuedEvents) {
+                dropped.increment();
+                logger.warn("Disconnecting flag stream subscriber stuck at version {}", version);
+                close();
+                emitter.complete();
+                return;
+            }
+            version = eventVersion;
+            queue.add(data);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining) {
+                draining = true;
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Set<DataWithMediaType> next;
+                synchronized (this) {
+                    next = closed ? null : queue.poll();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(next);
+                } catch (IOException | IllegalStateException e) {
+                    logger.debug("Flag stream subscriber went away: {}", e.getMessage());
+                    synchronized (this) {
+                        close();
+                        draining = false;
+                    }
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+
+        private void close() {
+            closed = true;
+            queue.clear();
+            subscribers.remove(this);
+        }
+    }
+
+    private record Pending(long version, Set<DataWithMediaType> data) {}
+}
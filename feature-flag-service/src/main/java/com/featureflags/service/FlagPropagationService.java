@@ -0,0 +1,74 @@
+package com.featureflags.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.featureflags.config.RedisConfig;
+import com.featureflags.dto.FlagPropagationDTO;
+import com.featureflags.dto.InstancePropagationDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reports how far a flag-set version has propagated. Each consuming instance writes the version it has
+ * applied into the {@link RedisConfig#FLAG_INSTANCES_KEY} hash after every batch and on a heartbeat;
+ * an instance that has not reported within {@code flags.propagation.instance-timeout} counts as stale.
+ */
+@Service
+public class FlagPropagationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlagPropagationService.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration instanceTimeout;
+    private final Clock clock;
+
+    @Autowired
+    public FlagPropagationService(StringRedisTemplate redisTemplate,
+                                  ObjectMapper objectMapper,
+                                  @Value("${flags.propagation.instance-timeout:PT1M}") Duration instanceTimeout) {
+        this(redisTemplate, objectMapper, instanceTimeout, Clock.systemUTC());
+    }
+
+    FlagPropagationService(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                           Duration instanceTimeout, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.instanceTimeout = instanceTimeout;
+        this.clock = clock;
+    }
+
+    /**
+     * Every reporting instance and whether it has applied {@code version}
+     */
+    public FlagPropagationDTO getPropagation(long version) {
+        Map<Object, Object> reports = redisTemplate.opsForHash().entries(RedisConfig.FLAG_INSTANCES_KEY);
+        long staleBefore = clock.millis() - instanceTimeout.toMillis();
+
+        List<InstancePropagationDTO> instances = new ArrayList<>(reports.size());
+        for (Map.Entry<Object, Object> report : reports.entrySet()) {
+            try {
+                InstancePropagationDTO instance = objectMapper.readValue((String) report.getValue(), InstancePropagationDTO.class);
+                instance.setInstanceId((String) report.getKey());
+                instance.setApplied(instance.getAppliedVersion() != null && instance.getAppliedVersion() >= version);
+                instance.setStale(instance.getReportedAtMillis() == null || instance.getReportedAtMillis() < staleBefore);
+                instances.add(instance);
+            } catch (JsonProcessingException e) {
+                logger.warn("Ignoring unreadable propagation report from instance '{}'", report.getKey());
+            }
+        }
+        instances.sort(Comparator.comparing(InstancePropagationDTO::getInstanceId));
+        return new FlagPropagationDTO(version, instances);
+    }
+}
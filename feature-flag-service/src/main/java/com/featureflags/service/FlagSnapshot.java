@@ -0,0 +1,159 @@
+package com.featureflags.service;
+
+import com.featureflags.dto.FeatureFlagResponseDTO;
+import com.featureflags.dto.FeatureFlagSummary;
+import com.featureflags.dto.FeatureFlagSummaryDTO;
+import com.featureflags.entity.FeatureFlag;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable view of every feature flag at one flag-set version, indexed by id and by name.
+ * A new snapshot replaces the old one as a whole, so readers never see a half-applied change;
+ * {@link #apply} builds the next one from this one without touching the database.
+ */
+public final class FlagSnapshot {
+
+    private final List<FeatureFlagResponseDTO> flags;
+    private final List<FeatureFlagSummary> summaries;
+    private final Map<Long, FeatureFlagResponseDTO> byId;
+    private final Map<String, FeatureFlagResponseDTO> byName;
+    private final long version;
+    private final Instant loadedAt;
+
+    private FlagSnapshot(long version, List<FeatureFlagResponseDTO> flags, Instant loadedAt) {
+        Map<Long, FeatureFlagResponseDTO> ids = new LinkedHashMap<>();
+        Map<String, FeatureFlagResponseDTO> names = new LinkedHashMap<>();
+        for (FeatureFlagResponseDTO flag : flags) {
+            ids.put(flag.getId(), flag);
+            names.put(flag.getName(), flag);
+        }
+
+        this.flags = List.copyOf(flags);
+        this.summaries = flags.stream().<FeatureFlagSummary>map(FeatureFlagSummaryDTO::new).toList();
+        this.byId = Map.copyOf(ids);
+        this.byName = Map.copyOf(names);
+        this.version = version;
+        this.loadedAt = loadedAt;
+    }
+
+    private FlagSnapshot(long version, List<FeatureFlagResponseDTO> flags, List<FeatureFlagSummary> summaries,
+                         Map<Long, FeatureFlagResponseDTO> byId, Map<String, FeatureFlagResponseDTO> byName,
+                         Instant loadedAt) {
+        this.flags = Collections.unmodifiableList(flags);
+        this.summaries = Collections.unmodifiableList(summaries);
+        this.byId = Collections.unmodifiableMap(byId);
+        this.byName = Collections.unmodifiableMap(byName);
+        this.version = version;
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * Build a snapshot of the given flag-set version from loaded entities, ordered by id
+     */
+    public static FlagSnapshot of(long version, List<FeatureFlag> entities) {
+        List<FeatureFlagResponseDTO> flags = entities.stream()
+                .sorted(Comparator.comparing(FeatureFlag::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(FeatureFlagResponseDTO::new)
+                .toList();
+        return new FlagSnapshot(version, flags, Instant.now());
+    }
+
+    /**
+     * Copy of this snapshot at {@code version} with the {@code saved} flags added or replaced and
+     * {@code deletedIds} removed. Unchanged flags and their summaries are shared, so only the changed
+     * flags are mapped; the rest is a reference copy.
+     */
+    public FlagSnapshot apply(long version, Collection<FeatureFlag> saved, Collection<Long> deletedIds) {
+        Map<Long, FeatureFlagResponseDTO> ids = new HashMap<>(byId);
+        Map<String, FeatureFlagResponseDTO> names = new HashMap<>(byName);
+        Set<Long> removed = new HashSet<>(deletedIds);
+        for (Long id : removed) {
+            FeatureFlagResponseDTO old = ids.remove(id);
+            if (old != null) {
+                names.remove(old.getName(), old);
+            }
+        }
+
+        TreeMap<Long, FeatureFlagResponseDTO> changed = new TreeMap<>();
+        for (FeatureFlag entity : saved) {
+            FeatureFlagResponseDTO flag = new FeatureFlagResponseDTO(entity);
+            FeatureFlagResponseDTO old = ids.put(flag.getId(), flag);
+            if (old != null) {
+                // A rename frees the old name
+                names.remove(old.getName(), old);
+            }
+            names.put(flag.getName(), flag);
+            changed.put(flag.getId(), flag);
+        }
+
+        // Merge the changed flags into the id-ordered list
+        List<FeatureFlagResponseDTO> mergedFlags = new ArrayList<>(ids.size());
+        List<FeatureFlagSummary> mergedSummaries = new ArrayList<>(ids.size());
+        Iterator<FeatureFlagResponseDTO> pending = changed.values().iterator();
+        FeatureFlagResponseDTO next = pending.hasNext() ? pending.next() : null;
+        for (int i = 0; i < flags.size(); i++) {
+            FeatureFlagResponseDTO flag = flags.get(i);
+            while (next != null && next.getId() < flag.getId()) {
+                mergedFlags.add(next);
+                mergedSummaries.add(new FeatureFlagSummaryDTO(next));
+                next = pending.hasNext() ? pending.next() : null;
+            }
+            if (next != null && next.getId().equals(flag.getId())) {
+                mergedFlags.add(next);
+                mergedSummaries.add(new FeatureFlagSummaryDTO(next));
+                next = pending.hasNext() ? pending.next() : null;
+            } else if (!removed.contains(flag.getId())) {
+                mergedFlags.add(flag);
+                mergedSummaries.add(summaries.get(i));
+            }
+        }
+        while (next != null) {
+            mergedFlags.add(next);
+            mergedSummaries.add(new FeatureFlagSummaryDTO(next));
+            next = pending.hasNext() ? pending.next() : null;
+        }
+        return new FlagSnapshot(version, mergedFlags, mergedSummaries, ids, names, Instant.now());
+    }
+
+    public List<FeatureFlagResponseDTO> getFlags() {
+        return flags;
+    }
+
+    public List<FeatureFlagSummary> getSummaries() {
+        return summaries;
+    }
+
+    public Optional<FeatureFlagResponseDTO> findById(Long id) {
+        return Optional.ofNullable(id != null ? byId.get(id) : null);
+    }
+
+    public Optional<FeatureFlagResponseDTO> findByName(String name) {
+        return Optional.ofNullable(name != null ? byName.get(name) : null);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return flags.size();
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+}
@@ -0,0 +1,201 @@
+package com.featureflags.service;
+
+import com.featureflags.entity.FeatureFlag;
+import com.featureflags.repository.FeatureFlagRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the current {@link FlagSnapshot} that flag reads are served from.
+ * Writes are applied to a copy of the snapshot once their transaction has committed, so a write costs
+ * the flags it changed rather than a re-read of the whole table. Writes made on other instances are
+ * caught up from the changelog when their change batch is published ({@link FlagChangeSubscriber}); a
+ * periodic reconcile re-reads everything to pick up anything missed or changed directly in the database. If a reload
+ * fails the previous snapshot keeps serving reads. Each new flag-set version is announced as a {@link FlagSnapshotUpdatedEvent}.
+ */
+@Component
+public class FlagSnapshotCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlagSnapshotCache.class);
+
+    private final FeatureFlagRepository repository;
+    private final FlagChangeLog changeLog;
+    private final TransactionTemplate readTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Serializes reloads so a slow, older read can never replace a newer snapshot
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile FlagSnapshot current;
+
+    @Autowired
+    public FlagSnapshotCache(FeatureFlagRepository repository,
+                             FlagChangeLog changeLog,
+                             PlatformTransactionManager transactionManager,
+                             ApplicationEventPublisher eventPublisher) {
+        this.repository = repository;
+        this.changeLog = changeLog;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Current snapshot, loading it from the database on first use
+     */
+    public FlagSnapshot current() {
+        FlagSnapshot snapshot = current;
+        return snapshot != null ? snapshot : reload();
+    }
+
+    /**
+     * Apply a write of flag-set {@code version} once the surrounding transaction commits (immediately if
+     * there is none). Falls back to a full reload if the snapshot is not at the version just before it.
+     */
+    public void applyAfterCommit(long version, Collection<FeatureFlag> saved, Collection<Long> deletedIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(version, saved, deletedIds);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    apply(version, saved, deletedIds);
+                } catch (RuntimeException e) {
+                    // The write itself succeeded; the next reconcile will catch up
+                    logger.error("Failed to apply flag-set version {} to the snapshot after commit", version, e);
+                }
+            }
+        });
+    }
+
+    FlagSnapshot apply(long version, Collection<FeatureFlag> saved, Collection<Long> deletedIds) {
+        reloadLock.lock();
+        try {
+            FlagSnapshot previous = current;
+            if (previous == null || previous.getVersion() < version - 1) {
+                // Missed a version (another instance wrote, or a later commit got here first)
+                return reload();
+            }
+            if (previous.getVersion() >= version) {
+                // A reload already read the version first and this write after it
+                return previous;
+            }
+            FlagSnapshot snapshot = previous.apply(version, saved, deletedIds);
+            swap(previous, snapshot);
+            return snapshot;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * Bring the snapshot up to at least {@code version} after another instance wrote it, reading only the
+     * flags the changelog names for the missing versions. Falls back to a full reload if it no longer covers them.
+     */
+    public FlagSnapshot catchUp(long version) {
+        reloadLock.lock();
+        try {
+            FlagSnapshot previous = current;
+            if (previous == null) {
+                return reload();
+            }
+            if (previous.getVersion() >= version) {
+                return previous;
+            }
+            FlagSnapshot snapshot = readTransaction.execute(status -> {
+                long latest = changeLog.currentVersion();
+                if (latest <= previous.getVersion()) {
+                    return previous;
+                }
+                Optional<Set<Long>> changedIds = changeLog.changedFlagIds(previous.getVersion(), latest);
+                if (changedIds.isEmpty()) {
+                    return FlagSnapshot.of(latest, repository.findAll());
+                }
+                // Changed flags that no longer exist were deleted
+                List<FeatureFlag> saved = repository.findAllById(changedIds.get());
+                Set<Long> deletedIds = new HashSet<>(changedIds.get());
+                saved.forEach(flag -> deletedIds.remove(flag.getId()));
+                return previous.apply(latest, saved, deletedIds);
+            });
+            swap(previous, snapshot);
+            return snapshot;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * Read all flags in a fresh transaction and swap in the new snapshot
+     */
+    public FlagSnapshot reload() {
+        reloadLock.lock();
+        try {
+            // Version before flags: the flags may then be newer than the version, never older,
+            // so a client syncing from this version at worst re-applies a change it already has
+            FlagSnapshot snapshot = readTransaction.execute(status -> {
+                long version = changeLog.currentVersion();
+                return FlagSnapshot.of(version, repository.findAll());
+            });
+            swap(current, snapshot);
+            return snapshot;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    // Called with reloadLock held
+    private void swap(FlagSnapshot previous, FlagSnapshot snapshot) {
+        current = snapshot;
+        logger.debug("Loaded flag snapshot version {} with {} flags", snapshot.getVersion(), snapshot.size());
+        if (previous == null || previous.getVersion() != snapshot.getVersion()) {
+            eventPublisher.publishEvent(new FlagSnapshotUpdatedEvent(
+                    previous != null ? previous.getVersion() : null, snapshot));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            FlagSnapshot snapshot = reload();
+            logger.info("Initialized flag snapshot version {} with {} flags", snapshot.getVersion(), snapshot.size());
+        } catch (RuntimeException e) {
+            logger.error("Failed to load flag snapshot on startup; will retry on first read", e);
+        }
+    }
+
+    /**
+     * Periodically re-read the database to pick up changes that were not caught up from a published batch
+     */
+    @Scheduled(fixedDelayString = "${flags.snapshot.reconcile-interval:PT30S}",
+            initialDelayString = "${flags.snapshot.reconcile-interval:PT30S}")
+    public void reconcile() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            logger.warn("Flag snapshot reconcile failed, keeping snapshot loaded at {}: {}",
+                    current != null ? current.getLoadedAt() : null, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.featureflags.service;
+
+/**
+ * Published by {@link FlagSnapshotCache} when it installs a snapshot with a new flag-set version.
+ * {@code previousVersion} is null for the first snapshot loaded by this instance.
+ */
+public record FlagSnapshotUpdatedEvent(Long previousVersion, FlagSnapshot snapshot) {}
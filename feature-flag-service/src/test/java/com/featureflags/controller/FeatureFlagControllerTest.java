@@ -0,0 +1,58 @@
+package com.featureflags.controller;
+
+import com.featureflags.service.FeatureFlagService;
+import com.featureflags.service.FlagEventBroadcaster;
+import com.featureflags.service.FlagPropagationService;
+import com.featureflags.service.FlagSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class FeatureFlagControllerTest {
+
+    @Mock
+    private FeatureFlagService service;
+
+    @Mock
+    private FlagEventBroadcaster broadcaster;
+
+    @Mock
+    private FlagPropagationService propagationService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new FeatureFlagController(service, broadcaster, propagationService))
+                .build();
+    }
+
+    @Test
+    void getAllFlags_SinceVersionWithCurrentETag_AnswersNotModifiedWithoutReadingChanges() throws Exception {
+        // Given
+        when(service.getSnapshot()).thenReturn(FlagSnapshot.of(7L, List.of()));
+
+        // When / Then
+        mockMvc.perform(get("/api/flags").param("sinceVersion", "5").header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7\""));
+        verify(service, never()).getChangesSince(anyLong());
+    }
+}
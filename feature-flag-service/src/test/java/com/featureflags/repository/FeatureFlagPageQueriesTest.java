@@ -0,0 +1,92 @@
+package com.featureflags.repository;
+
+import com.featureflags.dto.FeatureFlagSummary;
+import com.featureflags.dto.FlagQueryDTO;
+import com.featureflags.entity.FeatureFlag;
+import com.featureflags.entity.FlagTargeting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class FeatureFlagPageQueriesTest {
+
+    @Autowired
+    private FeatureFlagRepository repository;
+
+    private List<FeatureFlag> flags;
+
+    @BeforeEach
+    void setUp() {
+        FeatureFlag darkMode = new FeatureFlag("dark_mode", true, "Dark theme");
+        FlagTargeting targeting = new FlagTargeting();
+        targeting.setRollout(25);
+        darkMode.setTargeting(targeting);
+        flags = repository.saveAllAndFlush(List.of(
+                darkMode,
+                new FeatureFlag("darkXmode", true, "Not matched by the literal underscore"),
+                new FeatureFlag("dark_sidebar", false, null),
+                new FeatureFlag("beta_search", true, null)));
+    }
+
+    @Test
+    void findPage_PrefixWithWildcardCharacters_MatchesLiterally() {
+        // Given
+        FlagQueryDTO query = new FlagQueryDTO();
+        query.setNamePrefix("dark_");
+
+        // When
+        List<FeatureFlag> page = repository.findPage(query, 0L, 10);
+
+        // Then
+        assertThat(page).extracting(FeatureFlag::getName).containsExactly("dark_mode", "dark_sidebar");
+    }
+
+    @Test
+    void findPage_EnabledFilter_ContinuesAfterIdWithLimit() {
+        // Given
+        FlagQueryDTO query = new FlagQueryDTO();
+        query.setEnabled(true);
+
+        // When
+        List<FeatureFlag> first = repository.findPage(query, 0L, 2);
+        List<FeatureFlag> next = repository.findPage(query, first.get(1).getId(), 2);
+
+        // Then
+        assertThat(first).extracting(FeatureFlag::getName).containsExactly("dark_mode", "darkXmode");
+        assertThat(next).extracting(FeatureFlag::getName).containsExactly("beta_search");
+    }
+
+    @Test
+    void findPage_UpdatedRange_AppliesBothBounds() {
+        // Given
+        FlagQueryDTO updatedLastHour = new FlagQueryDTO();
+        updatedLastHour.setUpdatedAfter(LocalDateTime.now().minusHours(1));
+        updatedLastHour.setUpdatedBefore(LocalDateTime.now().plusMinutes(1));
+        FlagQueryDTO updatedEarlier = new FlagQueryDTO();
+        updatedEarlier.setUpdatedBefore(LocalDateTime.now().minusHours(1));
+
+        // When & Then
+        assertThat(repository.findPage(updatedLastHour, 0L, 10)).hasSize(flags.size());
+        assertThat(repository.findPage(updatedEarlier, 0L, 10)).isEmpty();
+    }
+
+    @Test
+    void findSummaryPage_NoFilters_SelectsSummaryColumns() {
+        // When
+        List<FeatureFlagSummary> page = repository.findSummaryPage(new FlagQueryDTO(), flags.get(0).getId() - 1, 1);
+
+        // Then
+        assertThat(page).hasSize(1);
+        FeatureFlagSummary summary = page.get(0);
+        assertThat(summary.getName()).isEqualTo("dark_mode");
+        assertThat(summary.getEnabled()).isTrue();
+        assertThat(summary.getTargeting().getRollout()).isEqualTo(25);
+    }
+}
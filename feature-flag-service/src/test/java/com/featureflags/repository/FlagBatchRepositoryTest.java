@@ -0,0 +1,110 @@
+package com.featureflags.repository;
+
+import com.featureflags.dto.BulkFlagOperationDTO;
+import com.featureflags.dto.BulkFlagRequestDTO;
+import com.featureflags.dto.BulkFlagResponseDTO;
+import com.featureflags.entity.FeatureFlag;
+import com.featureflags.entity.FlagChange;
+import com.featureflags.entity.FlagTargeting;
+import com.featureflags.service.FeatureFlagService;
+import com.featureflags.service.FlagChangeLog;
+import com.featureflags.service.FlagChangeOutboxRelay;
+import com.featureflags.service.FlagSnapshotCache;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({FeatureFlagService.class, FlagChangeLog.class, FlagBatchRepository.class})
+class FlagBatchRepositoryTest {
+
+    @Autowired
+    private FeatureFlagService featureFlagService;
+
+    @Autowired
+    private FlagBatchRepository batchRepository;
+
+    @Autowired
+    private FeatureFlagRepository flagRepository;
+
+    @Autowired
+    private FlagChangeRepository changeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private FlagSnapshotCache snapshotCache;
+
+    @MockBean
+    private FlagChangeOutboxRelay outboxRelay;
+
+    private Map<String, FeatureFlag> existing;
+
+    @BeforeEach
+    void setUp() {
+        existing = flagRepository.saveAllAndFlush(List.of(
+                        new FeatureFlag("dark_mode", false, "Dark theme"),
+                        new FeatureFlag("beta_search", true, null),
+                        new FeatureFlag("legacy_player", true, "Old player")))
+                .stream()
+                .collect(Collectors.toMap(FeatureFlag::getName, Function.identity()));
+    }
+
+    @Test
+    void applyBulk_MixedOperations_WritesFlagsAndChangelog() {
+        // Given
+        FlagTargeting targeting = new FlagTargeting();
+        targeting.setRollout(50);
+        BulkFlagOperationDTO create = new BulkFlagOperationDTO(BulkFlagOperationDTO.Type.CREATE, "new_checkout", true, "Checkout v2");
+        create.setTargeting(targeting);
+        BulkFlagRequestDTO request = new BulkFlagRequestDTO(List.of(
+                create,
+                new BulkFlagOperationDTO(BulkFlagOperationDTO.Type.UPDATE, "dark_mode", true, "Dark theme for everyone"),
+                new BulkFlagOperationDTO(BulkFlagOperationDTO.Type.TOGGLE, "beta_search", null, null),
+                new BulkFlagOperationDTO(BulkFlagOperationDTO.Type.DELETE, "legacy_player", null, null)));
+
+        // When
+        BulkFlagResponseDTO response = featureFlagService.applyBulk(request);
+        entityManager.clear();
+
+        // Then
+        Map<String, FeatureFlag> stored = batchRepository
+                .findFlagsByName(List.of("new_checkout", "dark_mode", "beta_search", "legacy_player"))
+                .stream()
+                .collect(Collectors.toMap(FeatureFlag::getName, Function.identity()));
+        assertThat(stored).containsOnlyKeys("new_checkout", "dark_mode", "beta_search");
+        assertThat(stored.get("new_checkout").getId()).isNotNull();
+        assertThat(stored.get("new_checkout").getTargeting().getRollout()).isEqualTo(50);
+        assertThat(stored.get("dark_mode").getEnabled()).isTrue();
+        assertThat(stored.get("dark_mode").getDescription()).isEqualTo("Dark theme for everyone");
+        assertThat(stored.get("beta_search").getEnabled()).isFalse();
+        assertThat(flagRepository.existsById(existing.get("legacy_player").getId())).isFalse();
+
+        List<FlagChange> changes = changeRepository.findChangesBetween(0L, response.getVersion());
+        assertThat(changes)
+                .extracting(FlagChange::getVersion, FlagChange::getChangeType, FlagChange::getFlagId,
+                        FlagChange::getFlagName, FlagChange::getEnabled, FlagChange::getPublished)
+                .containsExactlyInAnyOrder(
+                        tuple(response.getVersion(), FlagChange.CREATED, stored.get("new_checkout").getId(), "new_checkout", true, false),
+                        tuple(response.getVersion(), FlagChange.UPDATED, existing.get("dark_mode").getId(), "dark_mode", true, false),
+                        tuple(response.getVersion(), FlagChange.UPDATED, existing.get("beta_search").getId(), "beta_search", false, false),
+                        tuple(response.getVersion(), FlagChange.DELETED, existing.get("legacy_player").getId(), "legacy_player", false, false));
+        assertThat(changes)
+                .filteredOn(change -> change.getFlagName().equals("new_checkout"))
+                .singleElement()
+                .satisfies(change -> assertThat(change.getTargeting().getRollout()).isEqualTo(50));
+    }
+}
@@ -1,11 +1,20 @@
 package com.featureflags.service;
 
+import com.featureflags.dto.BulkFlagOperationDTO;
+import com.featureflags.dto.BulkFlagRequestDTO;
+import com.featureflags.dto.BulkFlagResponseDTO;
 import com.featureflags.dto.FeatureFlagRequestDTO;
 import com.featureflags.dto.FeatureFlagResponseDTO;
+import com.featureflags.dto.FlagChangesDTO;
+import com.featureflags.dto.FlagPageDTO;
+import com.featureflags.dto.FlagQueryDTO;
 import com.featureflags.entity.FeatureFlag;
+import com.featureflags.entity.FlagChange;
+import com.featureflags.entity.FlagTargeting;
 import com.featureflags.exception.ResourceNotFoundException;
 import com.featureflags.exception.DuplicateResourceException;
 import com.featureflags.repository.FeatureFlagRepository;
+import com.featureflags.repository.FlagBatchRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,7 +39,16 @@ class FeatureFlagServiceTest {
     private FeatureFlagRepository repository;
 
     @Mock
-    private FlagChangeMessagingService messagingService;
+    private FlagBatchRepository batchRepository;
+
+    @Mock
+    private FlagChangeOutboxRelay outboxRelay;
+
+    @Mock
+    private FlagSnapshotCache snapshotCache;
+
+    @Mock
+    private FlagChangeLog changeLog;
 
     @InjectMocks
     private FeatureFlagService featureFlagService;
@@ -48,7 +66,7 @@ class FeatureFlagServiceTest {
     @Test
     void getAllFlags_ReturnsAllFlags() {
         // Given
-        when(repository.findAll()).thenReturn(Arrays.asList(testFlag));
+        when(snapshotCache.current()).thenReturn(FlagSnapshot.of(1L, Arrays.asList(testFlag)));
 
         // When
         List<FeatureFlagResponseDTO> result = featureFlagService.getAllFlags();
@@ -56,13 +74,13 @@ class FeatureFlagServiceTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getName()).isEqualTo("dark_mode");
-        verify(repository).findAll();
+        verifyNoInteractions(repository);
     }
 
     @Test
     void getFlagById_ExistingFlag_ReturnsFlag() {
         // Given
-        when(repository.findById(1L)).thenReturn(Optional.of(testFlag));
+        when(snapshotCache.current()).thenReturn(FlagSnapshot.of(1L, List.of(testFlag)));
 
         // When
         FeatureFlagResponseDTO result = featureFlagService.getFlagById(1L);
@@ -75,7 +93,7 @@ class FeatureFlagServiceTest {
     @Test
     void getFlagById_NonExistingFlag_ThrowsException() {
         // Given
-        when(repository.findById(1L)).thenReturn(Optional.empty());
+        when(snapshotCache.current()).thenReturn(FlagSnapshot.of(1L, List.of()));
 
         // When & Then
         assertThatThrownBy(() -> featureFlagService.getFlagById(1L))
@@ -96,7 +114,35 @@ class FeatureFlagServiceTest {
         // Then
         assertThat(result).isNotNull();
         verify(repository).save(any(FeatureFlag.class));
-        verify(messagingService).publishFlagCreated(anyString(), anyBoolean());
+        verify(changeLog).record(argThat((FlagChange change) -> FlagChange.CREATED.equals(change.getChangeType())));
+        verify(snapshotCache).applyAfterCommit(0L, List.of(testFlag), List.of());
+        verify(outboxRelay).relayAfterCommit();
+    }
+
+    @Test
+    void createFlag_WithTargeting_RecordsTargetingInChangelog() {
+        // Given
+        FlagTargeting.Condition condition = new FlagTargeting.Condition();
+        condition.setAttribute(FlagTargeting.KEY_ATTRIBUTE);
+        condition.setOperator(FlagTargeting.Operator.IN);
+        condition.setValues(List.of("user-1", "user-2"));
+        FlagTargeting.Rule rule = new FlagTargeting.Rule();
+        rule.setConditions(List.of(condition));
+        FlagTargeting targeting = new FlagTargeting();
+        targeting.setRules(List.of(rule));
+        targeting.setRollout(0);
+
+        FeatureFlagRequestDTO request = new FeatureFlagRequestDTO("beta_search", true, "Beta search");
+        request.setTargeting(targeting);
+        when(repository.existsByName("beta_search")).thenReturn(false);
+        when(repository.save(any(FeatureFlag.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        FeatureFlagResponseDTO result = featureFlagService.createFlag(request);
+
+        // Then
+        assertThat(result.getTargeting()).isSameAs(targeting);
+        verify(changeLog).record(argThat((FlagChange change) -> change.getTargeting() == targeting));
     }
 
     @Test
@@ -124,7 +170,38 @@ class FeatureFlagServiceTest {
         // Then
         assertThat(result).isNotNull();
         verify(repository).save(any(FeatureFlag.class));
-        verify(messagingService).publishFlagUpdated(anyString(), anyBoolean());
+        verify(changeLog).record(argThat((FlagChange change) -> FlagChange.UPDATED.equals(change.getChangeType())));
+        verify(outboxRelay).relayAfterCommit();
+    }
+
+    @Test
+    void getChangesSince_CurrentVersion_AnsweredFromSnapshot() {
+        // Given
+        when(snapshotCache.current()).thenReturn(FlagSnapshot.of(7L, List.of(testFlag)));
+
+        // When
+        FlagChangesDTO result = featureFlagService.getChangesSince(7L);
+
+        // Then
+        assertThat(result.getVersion()).isEqualTo(7L);
+        assertThat(result.getChanges()).isEmpty();
+        assertThat(result.isResetRequired()).isFalse();
+        verifyNoInteractions(changeLog, repository);
+    }
+
+    @Test
+    void getChangesSince_NotCoveredByChangelog_ReturnsFullSnapshot() {
+        // Given
+        when(snapshotCache.current()).thenReturn(FlagSnapshot.of(7L, List.of(testFlag)));
+        when(changeLog.changesSince(2L)).thenReturn(FlagChangesDTO.reset(2L, 7L, null));
+
+        // When
+        FlagChangesDTO result = featureFlagService.getChangesSince(2L);
+
+        // Then
+        assertThat(result.isResetRequired()).isTrue();
+        assertThat(result.getVersion()).isEqualTo(7L);
+        assertThat(result.getFlags()).extracting(FeatureFlagResponseDTO::getName).containsExactly("dark_mode");
     }
 
     @Test
@@ -137,6 +214,74 @@ class FeatureFlagServiceTest {
 
         // Then
         verify(repository).delete(testFlag);
-        verify(messagingService).publishFlagDeleted("dark_mode");
+        verify(changeLog).record(argThat((FlagChange change) ->
+                FlagChange.DELETED.equals(change.getChangeType()) && "dark_mode".equals(change.getFlagName())));
+        verify(outboxRelay).relayAfterCommit();
+    }
+
+    @Test
+    void applyBulk_MixedOperations_WritesBatchesUnderOneVersion() {
+        // Given
+        FeatureFlag maintenance = new FeatureFlag("maintenance_mode", false, null);
+        maintenance.setId(2L);
+        when(batchRepository.findFlagsByName(anyCollection())).thenReturn(List.of(testFlag, maintenance));
+        when(batchRepository.insertFlags(anyList())).thenAnswer(invocation -> {
+            List<FeatureFlag> created = invocation.getArgument(0);
+            created.get(0).setId(3L);
+            return created;
+        });
+        when(changeLog.record(anyList())).thenReturn(8L);
+        BulkFlagRequestDTO request = new BulkFlagRequestDTO(List.of(
+                new BulkFlagOperationDTO(BulkFlagOperationDTO.Type.CREATE, "beta_search", true, null),
+                new BulkFlagOperationDTO(BulkFlagOperationDTO.Type.TOGGLE, "dark_mode", null, null),
+                new BulkFlagOperationDTO(BulkFlagOperationDTO.Type.DELETE, "maintenance_mode", null, null)));
+
+        // When
+        BulkFlagResponseDTO result = featureFlagService.applyBulk(request);
+
+        // Then
+        assertThat(result.getVersion()).isEqualTo(8L);
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getDeleted()).isEqualTo(1);
+        assertThat(testFlag.getEnabled()).isFalse();
+        verify(batchRepository).updateFlags(List.of(testFlag));
+        verify(batchRepository).deleteFlags(List.of(2L));
+        verify(changeLog, times(1)).record(argThat((List<FlagChange> changes) -> changes.size() == 3));
+        verify(outboxRelay).relayAfterCommit();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void applyBulk_UnknownFlag_WritesNothing() {
+        // Given
+        when(batchRepository.findFlagsByName(anyCollection())).thenReturn(List.of(testFlag));
+        BulkFlagRequestDTO request = new BulkFlagRequestDTO(List.of(
+                new BulkFlagOperationDTO(BulkFlagOperationDTO.Type.TOGGLE, "dark_mode", null, null),
+                new BulkFlagOperationDTO(BulkFlagOperationDTO.Type.UPDATE, "missing_flag", true, null)));
+
+        // When & Then
+        assertThatThrownBy(() -> featureFlagService.applyBulk(request))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("missing_flag");
+        verify(batchRepository, never()).updateFlags(anyList());
+        verifyNoInteractions(changeLog);
+    }
+
+    @Test
+    void findFlags_FullPage_ReturnsCursor() {
+        // Given
+        FlagQueryDTO query = new FlagQueryDTO();
+        query.setLimit(1);
+        query.setNamePrefix("dark_");
+        when(repository.findPage(query, 0L, 1)).thenReturn(List.of(testFlag));
+
+        // When
+        FlagPageDTO<?> page = featureFlagService.findFlags(query);
+
+        // Then
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNextAfterId()).isEqualTo(1L);
+        verifyNoInteractions(snapshotCache);
     }
 }
@@ -0,0 +1,102 @@
+package com.featureflags.service;
+
+import com.featureflags.dto.FlagChangeDTO;
+import com.featureflags.dto.FlagChangesDTO;
+import com.featureflags.entity.FlagChange;
+import com.featureflags.entity.FlagSetVersion;
+import com.featureflags.repository.FlagBatchRepository;
+import com.featureflags.repository.FlagChangeRepository;
+import com.featureflags.repository.FlagSetVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FlagChangeLogTest {
+
+    @Mock
+    private FlagSetVersionRepository versionRepository;
+
+    @Mock
+    private FlagChangeRepository changeRepository;
+
+    @Mock
+    private FlagBatchRepository batchRepository;
+
+    private FlagChangeLog changeLog;
+
+    @BeforeEach
+    void setUp() {
+        changeLog = new FlagChangeLog(versionRepository, changeRepository, batchRepository, Duration.ofDays(7));
+    }
+
+    @Test
+    void record_Rename_StampsAllChangesWithOneNewVersion() {
+        // Given
+        when(versionRepository.findForUpdate(FlagSetVersion.SINGLETON_ID))
+                .thenReturn(Optional.of(new FlagSetVersion(FlagSetVersion.SINGLETON_ID, 4L)));
+        FlagChange updated = new FlagChange(FlagChange.UPDATED, 1L, "dark_theme", true);
+        FlagChange deleted = new FlagChange(FlagChange.DELETED, 1L, "dark_mode", false);
+
+        // When
+        long version = changeLog.record(List.of(updated, deleted));
+
+        // Then
+        assertThat(version).isEqualTo(5L);
+        assertThat(updated.getVersion()).isEqualTo(5L);
+        assertThat(deleted.getVersion()).isEqualTo(5L);
+        verify(batchRepository).insertChanges(List.of(updated, deleted));
+    }
+
+    @Test
+    void changesSince_CoveredVersion_ReturnsLatestChangePerFlag() {
+        // Given
+        when(versionRepository.findById(FlagSetVersion.SINGLETON_ID))
+                .thenReturn(Optional.of(new FlagSetVersion(FlagSetVersion.SINGLETON_ID, 6L)));
+        when(changeRepository.findOldestVersion()).thenReturn(1L);
+        when(changeRepository.findChangesBetween(3L, 6L)).thenReturn(List.of(
+                change(4L, FlagChange.UPDATED, "dark_mode", true),
+                change(5L, FlagChange.CREATED, "new_search", true),
+                change(6L, FlagChange.UPDATED, "dark_mode", false)));
+
+        // When
+        FlagChangesDTO result = changeLog.changesSince(3L);
+
+        // Then
+        assertThat(result.isResetRequired()).isFalse();
+        assertThat(result.getVersion()).isEqualTo(6L);
+        assertThat(result.getChanges()).extracting(FlagChangeDTO::getFlagName).containsExactly("new_search", "dark_mode");
+        assertThat(result.getChanges().get(1).getEnabled()).isFalse();
+    }
+
+    @Test
+    void changesSince_VersionPrunedFromChangelog_RequiresReset() {
+        // Given
+        when(versionRepository.findById(FlagSetVersion.SINGLETON_ID))
+                .thenReturn(Optional.of(new FlagSetVersion(FlagSetVersion.SINGLETON_ID, 20L)));
+        when(changeRepository.findOldestVersion()).thenReturn(12L);
+
+        // When
+        FlagChangesDTO result = changeLog.changesSince(3L);
+
+        // Then
+        assertThat(result.isResetRequired()).isTrue();
+        assertThat(result.getChanges()).isEmpty();
+        verify(changeRepository, never()).findChangesBetween(anyLong(), anyLong());
+    }
+
+    private FlagChange change(long version, String type, String name, boolean enabled) {
+        FlagChange change = new FlagChange(type, 1L, name, enabled);
+        change.setVersion(version);
+        return change;
+    }
+}
@@ -1,17 +1,27 @@
 package com.featureflags.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.featureflags.config.RedisConfig;
-import com.featureflags.dto.FlagChangeEvent;
+import com.featureflags.dto.FlagChangeDTO;
+import com.featureflags.dto.FlagChangesDTO;
+import com.featureflags.entity.FlagChange;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class FlagChangeMessagingServiceTest {
@@ -19,42 +29,67 @@ class FlagChangeMessagingServiceTest {
     @Mock
     private RedisTemplate<String, Object> redisTemplate;
 
-    @InjectMocks
     private FlagChangeMessagingService messagingService;
 
+    @BeforeEach
+    void setUp() {
+        messagingService = new FlagChangeMessagingService(redisTemplate, "pubsub", 1000, "ff-1");
+    }
+
     @Test
-    void publishFlagCreated_CallsRedisTemplate() {
+    void publish_Created_CallsRedisTemplateWithOriginAndPublishTime() {
         // When
-        messagingService.publishFlagCreated("test_flag", true);
+        messagingService.publish(batch(FlagChange.CREATED, true, 1L));
 
         // Then
         verify(redisTemplate).convertAndSend(
                 eq(RedisConfig.FEATURE_FLAGS_CHANNEL),
-                any(FlagChangeEvent.class)
+                argThat((FlagChangesDTO batch) -> "ff-1".equals(batch.getOrigin())
+                        && batch.getPublishedAtMicros() != null && batch.getPublishedAtMicros() > 0)
         );
     }
 
     @Test
-    void publishFlagUpdated_CallsRedisTemplate() {
+    void publish_Updated_CallsRedisTemplate() {
         // When
-        messagingService.publishFlagUpdated("test_flag", false);
+        messagingService.publish(batch(FlagChange.UPDATED, false, 2L));
 
         // Then
         verify(redisTemplate).convertAndSend(
                 eq(RedisConfig.FEATURE_FLAGS_CHANNEL),
-                any(FlagChangeEvent.class)
+                any(FlagChangesDTO.class)
         );
     }
 
     @Test
-    void publishFlagDeleted_CallsRedisTemplate() {
+    void publish_Deleted_CallsRedisTemplate() {
         // When
-        messagingService.publishFlagDeleted("test_flag");
+        messagingService.publish(batch(FlagChange.DELETED, false, 3L));
 
         // Then
         verify(redisTemplate).convertAndSend(
                 eq(RedisConfig.FEATURE_FLAGS_CHANNEL),
-                any(FlagChangeEvent.class)
+                any(FlagChangesDTO.class)
         );
     }
+
+    @Test
+    void publish_StreamTransport_AppendsToStreamOnly() {
+        // Given
+        doReturn(new Jackson2JsonRedisSerializer<>(new ObjectMapper().registerModule(new JavaTimeModule()), Object.class)).when(redisTemplate).getValueSerializer();
+        FlagChangeMessagingService streamService = new FlagChangeMessagingService(redisTemplate, "stream", 1000, "ff-1");
+
+        // When
+        streamService.publish(batch(FlagChange.UPDATED, true, 4L));
+
+        // Then
+        verify(redisTemplate).execute(any(RedisCallback.class));
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    private FlagChangesDTO batch(String changeType, boolean enabled, long version) {
+        FlagChange change = new FlagChange(changeType, 1L, "test_flag", enabled);
+        change.setVersion(version);
+        return FlagChangesDTO.of(version - 1, version, List.of(new FlagChangeDTO(change)));
+    }
 }
@@ -0,0 +1,187 @@
+package com.featureflags.service;
+
+import com.featureflags.dto.FlagChangeDTO;
+import com.featureflags.dto.FlagChangesDTO;
+import com.featureflags.entity.FlagChange;
+import com.featureflags.entity.OutboxRelayLock;
+import com.featureflags.repository.FlagChangeRepository;
+import com.featureflags.repository.OutboxRelayLockRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FlagChangeOutboxRelayTest {
+
+    @Mock
+    private FlagChangeRepository changeRepository;
+
+    @Mock
+    private OutboxRelayLockRepository lockRepository;
+
+    @Mock
+    private FlagChangeMessagingService messagingService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FlagChangeOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new FlagChangeOutboxRelay(changeRepository, lockRepository, messagingService, transactionManager,
+                meterRegistry, 100, Duration.ofSeconds(30), Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+    }
+
+    @Test
+    void relayPending_CoalescesBatchIntoOneMessageAndMarksPublished() {
+        // Given
+        FlagChange first = change(3L, "dark_mode", true);
+        FlagChange second = change(4L, "maintenance_mode", false);
+        FlagChange third = change(5L, "dark_mode", false);
+        when(lockRepository.tryLock(OutboxRelayLock.SINGLETON_ID)).thenReturn(Optional.of(new OutboxRelayLock(1L)));
+        when(changeRepository.findUnpublished(any(Pageable.class))).thenReturn(List.of(first, second, third));
+
+        // When
+        relay.relayPending();
+
+        // Then
+        ArgumentCaptor<FlagChangesDTO> batch = ArgumentCaptor.forClass(FlagChangesDTO.class);
+        verify(messagingService, times(1)).publish(batch.capture());
+        assertThat(batch.getValue().getFromVersion()).isEqualTo(2L);
+        assertThat(batch.getValue().getVersion()).isEqualTo(5L);
+        assertThat(batch.getValue().getChanges()).extracting(FlagChangeDTO::getFlagName)
+                .containsExactly("maintenance_mode", "dark_mode");
+        assertThat(batch.getValue().getChanges().get(1).getEnabled()).isFalse();
+        assertThat(first.getPublished()).isTrue();
+        assertThat(third.getPublishedAt()).isNotNull();
+        assertThat(meterRegistry.get("flags.outbox.publish.lag").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("flags.outbox.coalesced").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void relayPending_RedisDown_LeavesBatchPendingAndBacksOff() {
+        // Given
+        FlagChange first = change(3L, "dark_mode", true);
+        FlagChange second = change(4L, "maintenance_mode", false);
+        when(lockRepository.tryLock(OutboxRelayLock.SINGLETON_ID)).thenReturn(Optional.of(new OutboxRelayLock(1L)));
+        when(changeRepository.findUnpublished(any(Pageable.class))).thenReturn(List.of(first, second));
+        doThrow(new RedisConnectionFailureException("Connection refused"))
+                .when(messagingService).publish(any(FlagChangesDTO.class));
+
+        // When
+        relay.relayPending();
+        relay.relayPending();
+
+        // Then
+        assertThat(first.getPublished()).isFalse();
+        assertThat(second.getPublished()).isFalse();
+        verify(changeRepository, times(1)).findUnpublished(any(Pageable.class));
+        assertThat(meterRegistry.get("flags.outbox.publish.failures").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void relayPending_BulkVersionLargerThanBatch_PublishesEachVersionWhole() {
+        // Given a bulk create of 150 flags at version 7 followed by a toggle at version 8, with batches of 100
+        List<FlagChange> outbox = new ArrayList<>();
+        IntStream.range(0, 150).forEach(i -> outbox.add(created(7L, "bulk_" + i)));
+        outbox.add(change(8L, "bulk_0", false));
+        when(lockRepository.tryLock(OutboxRelayLock.SINGLETON_ID)).thenReturn(Optional.of(new OutboxRelayLock(1L)));
+        when(changeRepository.findUnpublished(any(Pageable.class))).thenAnswer(invocation -> outbox.stream()
+                .filter(change -> !change.getPublished())
+                .limit(invocation.<Pageable>getArgument(0).getPageSize())
+                .toList());
+        when(changeRepository.findUnpublishedByVersion(anyLong())).thenAnswer(invocation -> outbox.stream()
+                .filter(change -> !change.getPublished() && change.getVersion().equals(invocation.getArgument(0)))
+                .toList());
+
+        // When
+        relay.relayPending();
+
+        // Then the consumer sees version 7 complete in one message, so no create falls behind its synced version
+        ArgumentCaptor<FlagChangesDTO> batches = ArgumentCaptor.forClass(FlagChangesDTO.class);
+        verify(messagingService, times(2)).publish(batches.capture());
+        FlagChangesDTO bulk = batches.getAllValues().get(0);
+        assertThat(bulk.getFromVersion()).isEqualTo(6L);
+        assertThat(bulk.getVersion()).isEqualTo(7L);
+        assertThat(bulk.getChanges()).hasSize(150).allMatch(change -> FlagChange.CREATED.equals(change.getChangeType()));
+        FlagChangesDTO toggle = batches.getAllValues().get(1);
+        assertThat(toggle.getFromVersion()).isEqualTo(7L);
+        assertThat(toggle.getChanges()).extracting(FlagChangeDTO::getFlagName).containsExactly("bulk_0");
+        assertThat(outbox).allMatch(FlagChange::getPublished);
+    }
+
+    @Test
+    void relayPending_PageEndsInsideAVersion_LeavesThatVersionForTheNextBatch() {
+        // Given 60 changes at version 3 and 60 at version 4, with batches of 100
+        List<FlagChange> outbox = new ArrayList<>();
+        IntStream.range(0, 60).forEach(i -> outbox.add(created(3L, "a_" + i)));
+        IntStream.range(0, 60).forEach(i -> outbox.add(created(4L, "b_" + i)));
+        when(lockRepository.tryLock(OutboxRelayLock.SINGLETON_ID)).thenReturn(Optional.of(new OutboxRelayLock(1L)));
+        when(changeRepository.findUnpublished(any(Pageable.class))).thenAnswer(invocation -> outbox.stream()
+                .filter(change -> !change.getPublished())
+                .limit(invocation.<Pageable>getArgument(0).getPageSize())
+                .toList());
+
+        // When
+        relay.relayPending();
+
+        // Then
+        ArgumentCaptor<FlagChangesDTO> batches = ArgumentCaptor.forClass(FlagChangesDTO.class);
+        verify(messagingService, times(2)).publish(batches.capture());
+        assertThat(batches.getAllValues()).extracting(FlagChangesDTO::getVersion).containsExactly(3L, 4L);
+        assertThat(batches.getAllValues()).extracting(batch -> batch.getChanges().size()).containsExactly(60, 60);
+    }
+
+    @Test
+    void relayPending_LockHeldByAnotherInstance_LeavesRowsToIt() {
+        // Given
+        when(lockRepository.tryLock(OutboxRelayLock.SINGLETON_ID)).thenReturn(Optional.empty());
+        when(lockRepository.existsById(OutboxRelayLock.SINGLETON_ID)).thenReturn(true);
+
+        // When
+        relay.relayPending();
+
+        // Then
+        verify(changeRepository, never()).findUnpublished(any(Pageable.class));
+        verifyNoInteractions(messagingService);
+    }
+
+    private FlagChange created(long version, String name) {
+        FlagChange change = new FlagChange(FlagChange.CREATED, 1L, name, true);
+        change.setVersion(version);
+        return change;
+    }
+
+    private FlagChange change(long version, String name, boolean enabled) {
+        FlagChange change = new FlagChange(FlagChange.UPDATED, 1L, name, enabled);
+        change.setVersion(version);
+        return change;
+    }
+}
@@ -0,0 +1,77 @@
+package com.featureflags.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.featureflags.dto.FlagChangesDTO;
+import com.featureflags.entity.FeatureFlag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FlagEventBroadcasterTest {
+
+    @Mock
+    private FeatureFlagService flagService;
+
+    private FlagEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new FlagEventBroadcaster(flagService, new ObjectMapper().findAndRegisterModules(),
+                new SimpleMeterRegistry(), Duration.ofMinutes(1), Duration.ofSeconds(2), 2, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void subscribe_OverLimit_RejectedWithServiceUnavailable() {
+        // Given
+        when(flagService.getSnapshot()).thenReturn(FlagSnapshot.of(1L, List.of(flag())));
+        broadcaster.subscribe(null);
+        broadcaster.subscribe(null);
+
+        // When & Then
+        assertThatThrownBy(() -> broadcaster.subscribe(null))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("503");
+        assertThat(broadcaster.subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    void onSnapshotUpdated_ReadsChangesOncePerVersionForAllSubscribers() {
+        // Given
+        FlagSnapshot first = FlagSnapshot.of(1L, List.of(flag()));
+        when(flagService.getSnapshot()).thenReturn(first);
+        when(flagService.getChangesSince(1L)).thenReturn(FlagChangesDTO.of(1L, 2L, List.of()));
+        broadcaster.onSnapshotUpdated(new FlagSnapshotUpdatedEvent(null, first));
+        broadcaster.subscribe(null);
+        broadcaster.subscribe(null);
+
+        // When
+        broadcaster.onSnapshotUpdated(new FlagSnapshotUpdatedEvent(1L, FlagSnapshot.of(2L, List.of(flag()))));
+
+        // Then
+        verify(flagService, timeout(1000).times(1)).getChangesSince(1L);
+    }
+
+    private FeatureFlag flag() {
+        FeatureFlag flag = new FeatureFlag("dark_mode", true, null);
+        flag.setId(1L);
+        return flag;
+    }
+}
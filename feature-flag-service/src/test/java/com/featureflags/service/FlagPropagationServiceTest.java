@@ -0,0 +1,58 @@
+package com.featureflags.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.featureflags.config.RedisConfig;
+import com.featureflags.dto.FlagPropagationDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FlagPropagationServiceTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Test
+    void getPropagation_SplitsInstancesIntoAppliedPendingAndStale() {
+        // Given
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(RedisConfig.FLAG_INSTANCES_KEY)).thenReturn(Map.of(
+                "ms-1", report(7, NOW - 1_000),
+                "ms-2", report(6, NOW - 2_000),
+                "ms-3", report(5, NOW - 120_000)));
+        FlagPropagationService service = new FlagPropagationService(redisTemplate, new ObjectMapper(),
+                Duration.ofMinutes(1), Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+
+        // When
+        FlagPropagationDTO propagation = service.getPropagation(7);
+
+        // Then
+        assertThat(propagation.getApplied()).isEqualTo(1);
+        assertThat(propagation.getPending()).isEqualTo(1);
+        assertThat(propagation.getStale()).isEqualTo(1);
+        assertThat(propagation.isComplete()).isFalse();
+        assertThat(propagation.getInstances()).extracting("instanceId").containsExactly("ms-1", "ms-2", "ms-3");
+    }
+
+    private static String report(long appliedVersion, long reportedAtMillis) {
+        return "{\"appliedVersion\":" + appliedVersion + ",\"reportedAtMillis\":" + reportedAtMillis + ",\"lastLagMillis\":3.5}";
+    }
+}
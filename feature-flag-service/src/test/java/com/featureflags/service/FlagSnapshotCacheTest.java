@@ -0,0 +1,172 @@
+package com.featureflags.service;
+
+import com.featureflags.entity.FeatureFlag;
+import com.featureflags.repository.FeatureFlagRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FlagSnapshotCacheTest {
+
+    @Mock
+    private FeatureFlagRepository repository;
+
+    @Mock
+    private FlagChangeLog changeLog;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private FlagSnapshotCache snapshotCache;
+
+    @BeforeEach
+    void setUp() {
+        snapshotCache = new FlagSnapshotCache(repository, changeLog, transactionManager, eventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void current_NotLoaded_ReadsThroughAndIndexesByIdAndName() {
+        // Given
+        when(repository.findAll()).thenReturn(List.of(flag(2L, "maintenance_mode", false), flag(1L, "dark_mode", true)));
+
+        // When
+        FlagSnapshot snapshot = snapshotCache.current();
+
+        // Then
+        assertThat(snapshot.getFlags()).extracting("name").containsExactly("dark_mode", "maintenance_mode");
+        assertThat(snapshot.findByName("dark_mode")).isPresent();
+        assertThat(snapshot.findById(2L)).get().extracting("name").isEqualTo("maintenance_mode");
+        snapshotCache.current();
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    void applyAfterCommit_InTransaction_PatchesSnapshotAfterCommitWithoutReload() {
+        // Given
+        when(changeLog.currentVersion()).thenReturn(3L);
+        when(repository.findAll()).thenReturn(List.of(flag(1L, "dark_mode", true), flag(2L, "maintenance_mode", false)));
+        FlagSnapshot loaded = snapshotCache.reload();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        snapshotCache.applyAfterCommit(4L, List.of(flag(3L, "beta_search", true), flag(1L, "theme_dark", false)), List.of(2L));
+
+        // Then
+        assertThat(snapshotCache.current()).isSameAs(loaded);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        FlagSnapshot snapshot = snapshotCache.current();
+        assertThat(snapshot.getVersion()).isEqualTo(4L);
+        assertThat(snapshot.getFlags()).extracting("name").containsExactly("theme_dark", "beta_search");
+        assertThat(snapshot.getSummaries()).extracting("name").containsExactly("theme_dark", "beta_search");
+        assertThat(snapshot.findByName("dark_mode")).isEmpty();
+        assertThat(snapshot.findByName("maintenance_mode")).isEmpty();
+        assertThat(snapshot.findById(1L)).get().extracting("enabled").isEqualTo(false);
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    void apply_MissedVersion_ReloadsEverything() {
+        // Given
+        when(changeLog.currentVersion()).thenReturn(3L, 6L);
+        when(repository.findAll())
+                .thenReturn(List.of(flag(1L, "dark_mode", true)))
+                .thenReturn(List.of(flag(1L, "dark_mode", true), flag(2L, "beta_search", true)));
+        snapshotCache.reload();
+
+        // When
+        FlagSnapshot snapshot = snapshotCache.apply(6L, List.of(flag(2L, "beta_search", true)), List.of());
+
+        // Then
+        assertThat(snapshot.getVersion()).isEqualTo(6L);
+        assertThat(snapshot.size()).isEqualTo(2);
+        verify(repository, times(2)).findAll();
+        assertThat(snapshotCache.apply(5L, List.of(flag(2L, "beta_search", false)), List.of())).isSameAs(snapshot);
+    }
+
+    @Test
+    void catchUp_WriteFromOtherInstance_ReadsOnlyChangedFlags() {
+        // Given
+        when(changeLog.currentVersion()).thenReturn(3L, 5L);
+        when(repository.findAll()).thenReturn(List.of(flag(1L, "dark_mode", true), flag(2L, "maintenance_mode", false)));
+        snapshotCache.reload();
+        when(changeLog.changedFlagIds(3L, 5L)).thenReturn(Optional.of(Set.of(2L, 4L)));
+        when(repository.findAllById(any())).thenReturn(List.of(flag(4L, "beta_search", true)));
+
+        // When
+        FlagSnapshot snapshot = snapshotCache.catchUp(5L);
+
+        // Then
+        assertThat(snapshot.getVersion()).isEqualTo(5L);
+        assertThat(snapshot.getFlags()).extracting("name").containsExactly("dark_mode", "beta_search");
+        assertThat(snapshot.findByName("maintenance_mode")).isEmpty();
+        assertThat(snapshotCache.catchUp(5L)).isSameAs(snapshot);
+        verify(repository, times(1)).findAll();
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof FlagSnapshotUpdatedEvent updated && Long.valueOf(3L).equals(updated.previousVersion())));
+    }
+
+    @Test
+    void catchUp_ChangelogNoLongerCoversSnapshot_ReloadsEverything() {
+        // Given
+        when(changeLog.currentVersion()).thenReturn(3L, 9L);
+        when(repository.findAll())
+                .thenReturn(List.of(flag(1L, "dark_mode", true)))
+                .thenReturn(List.of(flag(1L, "dark_mode", false)));
+        snapshotCache.reload();
+        when(changeLog.changedFlagIds(3L, 9L)).thenReturn(Optional.empty());
+
+        // When
+        FlagSnapshot snapshot = snapshotCache.catchUp(9L);
+
+        // Then
+        assertThat(snapshot.getVersion()).isEqualTo(9L);
+        assertThat(snapshot.findById(1L)).get().extracting("enabled").isEqualTo(false);
+        verify(repository, never()).findAllById(any());
+    }
+
+    @Test
+    void reconcile_DatabaseDown_KeepsPreviousSnapshot() {
+        // Given
+        when(repository.findAll())
+                .thenReturn(List.of(flag(1L, "dark_mode", true)))
+                .thenThrow(new IllegalStateException("Connection refused"));
+        FlagSnapshot loaded = snapshotCache.reload();
+
+        // When
+        snapshotCache.reconcile();
+
+        // Then
+        assertThat(snapshotCache.current()).isSameAs(loaded);
+    }
+
+    private FeatureFlag flag(Long id, String name, boolean enabled) {
+        FeatureFlag flag = new FeatureFlag(name, enabled, name + " flag");
+        flag.setId(id);
+        return flag;
+    }
+}
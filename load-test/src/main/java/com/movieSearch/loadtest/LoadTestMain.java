@@ -0,0 +1,43 @@
+package com.movieSearch.loadtest;
+
+import com.movieSearch.loadtest.load.LoadGenerator;
+import com.movieSearch.loadtest.simulator.OmdbSimulator;
+
+import java.util.Arrays;
+
+/**
+ * Entry point of {@code load-test.jar}: {@code simulator} starts the OMDB simulator,
+ * {@code run} runs a load test against the movie search service
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            usage();
+            return;
+        }
+
+        String[] options = Arrays.copyOfRange(args, 1, args.length);
+        switch (args[0]) {
+            case "simulator" -> OmdbSimulator.main(options);
+            case "run" -> LoadGenerator.main(options);
+            default -> usage();
+        }
+    }
+
+    private static void usage() {
+        System.out.println("""
+                Usage:
+                  java -jar load-test.jar simulator [--port 8090] [--catalog-size 50000] [--seed 42]
+                      [--latency lognormal:30ms:300ms] [--error-rate 0] [--error-status 503]
+                      [--stall-rate 0] [--stall 30s] [--rate-limit 0] [--burst 0] [--request-limit 0] [--api-key KEY]
+                  java -jar load-test.jar run [--target http://localhost:8081] [--model open|closed]
+                      [--rate 100] [--arrivals uniform|poisson] [--concurrency 16] [--think-time 0ms]
+                      [--duration 60s] [--warmup 10s] [--timeout 10s] [--mix search:90,details:10]
+                      [--distinct-queries 1000] [--zipf 1.0] [--catalog-size 50000] [--seed 42]
+                      [--max-in-flight 10000] [--json results.json]
+                """);
+    }
+}
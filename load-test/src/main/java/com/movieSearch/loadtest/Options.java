@@ -0,0 +1,84 @@
+package com.movieSearch.loadtest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line options of the form {@code --name value}
+ */
+public final class Options {
+
+    private final Map<String, String> values;
+
+    private Options(Map<String, String> values) {
+        this.values = values;
+    }
+
+    public static Options parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument '" + args[i] + "'");
+            }
+            String name = args[i].substring(2);
+            int equals = name.indexOf('=');
+            if (equals >= 0) {
+                values.put(name.substring(0, equals), name.substring(equals + 1));
+            } else if (i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                values.put(name, args[++i]);
+            } else {
+                values.put(name, "true");
+            }
+        }
+        return new Options(values);
+    }
+
+    public boolean has(String name) {
+        return values.containsKey(name);
+    }
+
+    public String getString(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    public int getInt(String name, int defaultValue) {
+        return has(name) ? Integer.parseInt(values.get(name)) : defaultValue;
+    }
+
+    public long getLong(String name, long defaultValue) {
+        return has(name) ? Long.parseLong(values.get(name)) : defaultValue;
+    }
+
+    public double getDouble(String name, double defaultValue) {
+        return has(name) ? Double.parseDouble(values.get(name)) : defaultValue;
+    }
+
+    public Duration getDuration(String name, Duration defaultValue) {
+        return has(name) ? parseDuration(values.get(name)) : defaultValue;
+    }
+
+    /**
+     * Parse {@code 250ms}, {@code 30s}, {@code 5m}, {@code 1h}, a bare number of milliseconds, or ISO-8601 ({@code PT30S})
+     */
+    public static Duration parseDuration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.startsWith("pt")) {
+            return Duration.parse(value.trim());
+        }
+        if (text.endsWith("ms")) {
+            return Duration.ofNanos(Math.round(Double.parseDouble(text.substring(0, text.length() - 2)) * 1_000_000));
+        }
+        if (text.endsWith("us")) {
+            return Duration.ofNanos(Math.round(Double.parseDouble(text.substring(0, text.length() - 2)) * 1_000));
+        }
+        double amount = Double.parseDouble(text.replaceAll("[smh]$", ""));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofNanos(Math.round(amount * 1e9));
+            case 'm' -> Duration.ofNanos(Math.round(amount * 60e9));
+            case 'h' -> Duration.ofNanos(Math.round(amount * 3600e9));
+            default -> Duration.ofNanos(Math.round(amount * 1e6));
+        };
+    }
+}
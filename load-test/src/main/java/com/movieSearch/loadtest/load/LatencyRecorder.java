@@ -0,0 +1,60 @@
+package com.movieSearch.loadtest.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes per operation, in microseconds. Two latencies are kept per request:
+ * <ul>
+ *   <li>response time, from when the request was <em>meant</em> to be sent to its completion. When the
+ *   service stalls, requests queued behind the stall count the time they waited, so the percentiles are free
+ *   of coordinated omission (the load generator not sending, and so not measuring, while the service is stuck)</li>
+ *   <li>service time, from when the request was actually sent, which is what a naive tool reports</li>
+ * </ul>
+ */
+final class LatencyRecorder {
+
+    static final List<String> OUTCOMES = List.of("ok", "apiError", "clientError", "serverError", "timeout", "failed");
+
+    private final Map<String, OperationStats> operations = new LinkedHashMap<>();
+
+    LatencyRecorder(List<String> operationNames) {
+        for (String operation : operationNames) {
+            operations.put(operation, new OperationStats());
+        }
+    }
+
+    void record(String operation, long intendedStartNanos, long sentNanos, long completedNanos, String outcome) {
+        OperationStats stats = operations.get(operation);
+        stats.responseTime.recordValue(micros(completedNanos - intendedStartNanos));
+        stats.serviceTime.recordValue(micros(completedNanos - sentNanos));
+        stats.outcomes.get(outcome).increment();
+    }
+
+    Map<String, OperationStats> operations() {
+        return operations;
+    }
+
+    private static long micros(long nanos) {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    static final class OperationStats {
+
+        final Histogram responseTime = new ConcurrentHistogram(3);
+        final Histogram serviceTime = new ConcurrentHistogram(3);
+        final Map<String, LongAdder> outcomes = new LinkedHashMap<>();
+
+        OperationStats() {
+            for (String outcome : OUTCOMES) {
+                outcomes.put(outcome, new LongAdder());
+            }
+        }
+    }
+}
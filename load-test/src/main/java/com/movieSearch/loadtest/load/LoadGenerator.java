@@ -0,0 +1,263 @@
+package com.movieSearch.loadtest.load;
+
+import com.movieSearch.loadtest.Options;
+import com.movieSearch.loadtest.simulator.SyntheticCatalog;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load generator for {@code MovieSearchController}.
+ * <p>
+ * The open model sends requests at a fixed arrival rate (evenly spaced, or Poisson), each on its own virtual
+ * thread, whether or not earlier ones have finished; this is how independent users behave and the model to
+ * use for latency claims. The closed model runs a fixed number of users that each wait for their response
+ * before sending the next request; with {@code --rate} the users pace themselves to that total rate.
+ * <p>
+ * Response times are measured from when each request was scheduled to go out, which corrects for coordinated
+ * omission. Unpaced closed runs have no schedule; there the percentiles are corrected with HdrHistogram,
+ * assuming each user would have sent a request every think time plus median service time.
+ */
+public final class LoadGenerator {
+
+    private final LoadConfig config;
+    private final Workload workload;
+    private final LatencyRecorder recorder;
+    private final HttpClient httpClient;
+
+    LoadGenerator(LoadConfig config, Workload workload) {
+        this.config = config;
+        this.workload = workload;
+        this.recorder = new LatencyRecorder(workload.operations());
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(config.timeout())
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadConfig config = LoadConfig.from(Options.parse(args));
+        SyntheticCatalog catalog = SyntheticCatalog.generate(config.catalogSize(), config.seed());
+        Workload workload = new Workload(config.target(), catalog, config.mix(), config.distinctKeys(),
+                config.zipfExponent(), config.seed());
+
+        System.out.println("Running " + config.describe());
+        LoadGenerator generator = new LoadGenerator(config, workload);
+        LoadReport report = generator.run();
+
+        System.out.println(report.toText());
+        if (config.jsonOutput() != null) {
+            report.writeJson(Path.of(config.jsonOutput()));
+            System.out.println("Results written to " + config.jsonOutput());
+        }
+    }
+
+    LoadReport run() throws InterruptedException {
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + config.warmup().toNanos();
+        long endNanos = measureFromNanos + config.duration().toNanos();
+
+        String correction;
+        if (config.model() == LoadConfig.Model.OPEN) {
+            runOpen(startNanos, measureFromNanos, endNanos);
+            correction = "measured from scheduled send time";
+        } else {
+            runClosed(startNanos, measureFromNanos, endNanos);
+            correction = config.paced() ? "measured from scheduled send time" : null;
+        }
+        return LoadReport.of(config, recorder, correction);
+    }
+
+    private void runOpen(long startNanos, long measureFromNanos, long endNanos) throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(config.seed());
+        Semaphore inFlight = new Semaphore(config.maxInFlight());
+        double meanGapNanos = 1e9 / config.rate();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            double intended = startNanos;
+            while (intended < endNanos) {
+                long scheduled = (long) intended;
+                parkUntil(scheduled);
+                // When the cap is reached the send is late, but still measured from its scheduled time
+                inFlight.acquire();
+                Workload.Request request = workload.next(random);
+                executor.execute(() -> {
+                    try {
+                        execute(request, scheduled, scheduled >= measureFromNanos);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+                intended += config.arrivals() == LoadConfig.Arrivals.POISSON
+                        ? -meanGapNanos * Math.log(1 - random.nextDouble())
+                        : meanGapNanos;
+            }
+        }
+    }
+
+    private void runClosed(long startNanos, long measureFromNanos, long endNanos) throws InterruptedException {
+        int users = config.concurrency();
+        // Each paced user sends every users / rate seconds, staggered so the users do not send in lockstep
+        long intervalNanos = config.paced() ? Math.round(users * 1e9 / config.rate()) : 0;
+        SplittableRandom seeds = new SplittableRandom(config.seed());
+
+        List<Thread> threads = new ArrayList<>(users);
+        for (int user = 0; user < users; user++) {
+            SplittableRandom random = seeds.split();
+            long firstSend = startNanos + (config.paced() ? intervalNanos * user / users : 0);
+            threads.add(Thread.ofVirtual().name("user-" + user).start(() -> {
+                long intended = firstSend;
+                while (true) {
+                    if (config.paced()) {
+                        parkUntil(intended);
+                    } else {
+                        intended = System.nanoTime();
+                    }
+                    if (intended >= endNanos) {
+                        return;
+                    }
+                    execute(workload.next(random), intended, intended >= measureFromNanos);
+                    if (config.paced()) {
+                        intended += intervalNanos;
+                    } else if (!config.thinkTime().isZero()) {
+                        LockSupport.parkNanos(config.thinkTime().toNanos());
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    private void execute(Workload.Request request, long intendedNanos, boolean measured) {
+        HttpRequest httpRequest = HttpRequest.newBuilder(request.uri())
+                .timeout(config.timeout())
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        long sentNanos = System.nanoTime();
+        String outcome;
+        try {
+            HttpResponse<String> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+            outcome = outcome(response);
+        } catch (HttpTimeoutException e) {
+            outcome = "timeout";
+        } catch (IOException e) {
+            outcome = "failed";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (measured) {
+            recorder.record(request.operation(), intendedNanos, sentNanos, System.nanoTime(), outcome);
+        }
+    }
+
+    private static String outcome(HttpResponse<String> response) {
+        int status = response.statusCode();
+        if (status >= 500) {
+            return "serverError";
+        }
+        if (status >= 400) {
+            return "clientError";
+        }
+        // OMDB answers misses such as "Movie not found!" with 200 and Response False, and so does the service
+        return response.body().contains("\"Response\":\"False\"") ? "apiError" : "ok";
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Load test settings from the command line
+     */
+    record LoadConfig(String target, Model model, double rate, Arrivals arrivals, int concurrency,
+                      Duration thinkTime, Duration duration, Duration warmup, Duration timeout,
+                      Map<String, Integer> mix, int distinctKeys, double zipfExponent, int catalogSize,
+                      long seed, int maxInFlight, String jsonOutput) {
+
+        enum Model { OPEN, CLOSED }
+
+        enum Arrivals { UNIFORM, POISSON }
+
+        static LoadConfig from(Options options) {
+            Model model = Model.valueOf(options.getString("model", "open").toUpperCase(Locale.ROOT));
+            double rate = options.getDouble("rate", model == Model.OPEN ? 100 : 0);
+            if (model == Model.OPEN && rate <= 0) {
+                throw new IllegalArgumentException("The open model needs a positive --rate");
+            }
+            return new LoadConfig(
+                    options.getString("target", "http://localhost:8081"),
+                    model,
+                    rate,
+                    Arrivals.valueOf(options.getString("arrivals", "uniform").toUpperCase(Locale.ROOT)),
+                    options.getInt("concurrency", 16),
+                    options.getDuration("think-time", Duration.ZERO),
+                    options.getDuration("duration", Duration.ofSeconds(60)),
+                    options.getDuration("warmup", Duration.ofSeconds(10)),
+                    options.getDuration("timeout", Duration.ofSeconds(10)),
+                    Workload.parseMix(options.getString("mix", "search:90,details:10")),
+                    options.getInt("distinct-queries", 1000),
+                    options.getDouble("zipf", 1.0),
+                    options.getInt("catalog-size", 50_000),
+                    options.getLong("seed", 42),
+                    options.getInt("max-in-flight", 10_000),
+                    options.getString("json", null));
+        }
+
+        boolean paced() {
+            return model == Model.CLOSED && rate > 0;
+        }
+
+        String describe() {
+            String load = model == Model.OPEN
+                    ? String.format(Locale.ROOT, "open model, %.1f req/s (%s arrivals)", rate, arrivals.name().toLowerCase(Locale.ROOT))
+                    : String.format(Locale.ROOT, "closed model, %d users%s", concurrency,
+                    paced() ? String.format(Locale.ROOT, " paced to %.1f req/s", rate) : ", think time " + thinkTime.toMillis() + " ms");
+            return String.format(Locale.ROOT, "%s against %s for %ds after %ds warmup, mix %s",
+                    load, target, duration.toSeconds(), warmup.toSeconds(), mix);
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("target", target);
+            map.put("model", model.name().toLowerCase(Locale.ROOT));
+            map.put("rate", rate);
+            map.put("arrivals", arrivals.name().toLowerCase(Locale.ROOT));
+            map.put("concurrency", concurrency);
+            map.put("thinkTimeMillis", thinkTime.toMillis());
+            map.put("durationSeconds", duration.toSeconds());
+            map.put("warmupSeconds", warmup.toSeconds());
+            map.put("timeoutMillis", timeout.toMillis());
+            map.put("mix", mix);
+            map.put("distinctQueries", distinctKeys);
+            map.put("zipf", zipfExponent);
+            map.put("catalogSize", catalogSize);
+            map.put("seed", seed);
+            return map;
+        }
+    }
+}
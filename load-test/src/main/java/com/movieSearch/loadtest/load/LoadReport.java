@@ -0,0 +1,146 @@
+package com.movieSearch.loadtest.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Results of a load test run, per operation and overall, as text and as JSON for comparing runs
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private final Map<String, Object> report;
+
+    private LoadReport(Map<String, Object> report) {
+        this.report = report;
+    }
+
+    /**
+     * @param correction how response times were corrected for coordinated omission, or null to correct the
+     *                   recorded times with HdrHistogram (unpaced closed model)
+     */
+    static LoadReport of(LoadGenerator.LoadConfig config, LatencyRecorder recorder, String correction) {
+        double seconds = config.duration().toNanos() / 1e9;
+        Histogram allResponse = new Histogram(3);
+        Histogram allService = new Histogram(3);
+        Map<String, Long> allOutcomes = new LinkedHashMap<>();
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Map.Entry<String, LatencyRecorder.OperationStats> entry : recorder.operations().entrySet()) {
+            LatencyRecorder.OperationStats stats = entry.getValue();
+            Histogram response = stats.responseTime.copy();
+            Histogram service = stats.serviceTime.copy();
+            Map<String, Long> outcomes = new LinkedHashMap<>();
+            stats.outcomes.forEach((outcome, count) -> outcomes.put(outcome, count.sum()));
+
+            allResponse.add(response);
+            allService.add(service);
+            outcomes.forEach((outcome, count) -> allOutcomes.merge(outcome, count, Long::sum));
+            operations.put(entry.getKey(), operation(response, service, outcomes, seconds, config, correction));
+        }
+        operations.put("all", operation(allResponse, allService, allOutcomes, seconds, config, correction));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config.toMap());
+        report.put("description", config.describe());
+        report.put("operations", operations);
+        return new LoadReport(report);
+    }
+
+    private static Map<String, Object> operation(Histogram response, Histogram service, Map<String, Long> outcomes,
+                                                 double seconds, LoadGenerator.LoadConfig config, String correction) {
+        Map<String, Object> operation = new LinkedHashMap<>();
+        long requests = response.getTotalCount();
+        operation.put("requests", requests);
+        operation.put("throughput", round(requests / seconds));
+        operation.put("outcomes", outcomes);
+
+        if (correction != null) {
+            operation.put("responseTimeCorrection", correction);
+            operation.put("responseTimeMillis", percentiles(response));
+        } else {
+            // No schedule to measure from: assume each user would have sent every think time plus median service time
+            long expectedIntervalMicros = config.thinkTime().toNanos() / 1000
+                    + service.getValueAtPercentile(50);
+            operation.put("responseTimeCorrection", "HdrHistogram, expected interval "
+                    + String.format(Locale.ROOT, "%.1f ms", expectedIntervalMicros / 1000.0));
+            operation.put("responseTimeMillis", percentiles(expectedIntervalMicros > 0
+                    ? response.copyCorrectedForCoordinatedOmission(expectedIntervalMicros) : response));
+        }
+        operation.put("serviceTimeMillis", percentiles(service));
+        return operation;
+    }
+
+    private static Map<String, Double> percentiles(Histogram histogram) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        values.put("mean", round(histogram.getMean() / 1000));
+        for (double percentile : PERCENTILES) {
+            values.put("p" + format(percentile), round(histogram.getValueAtPercentile(percentile) / 1000.0));
+        }
+        values.put("max", round(histogram.getMaxValue() / 1000.0));
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    String toText() {
+        StringBuilder text = new StringBuilder();
+        Map<String, Object> operations = (Map<String, Object>) report.get("operations");
+
+        text.append(String.format(Locale.ROOT, "%n%-8s %9s %9s %7s %7s", "", "requests", "req/s", "ok", "errors"));
+        for (String column : List.of("mean", "p50", "p90", "p99", "p99.9", "p99.99", "max")) {
+            text.append(String.format(Locale.ROOT, " %9s", column));
+        }
+        text.append(String.format("%n"));
+        for (String kind : List.of("responseTimeMillis", "serviceTimeMillis")) {
+            text.append(kind.equals("responseTimeMillis")
+                    ? "Response time, ms (corrected for coordinated omission)" : "Service time, ms (from actual send)")
+                    .append(String.format("%n"));
+            operations.forEach((name, value) -> {
+                Map<String, Object> operation = (Map<String, Object>) value;
+                Map<String, Long> outcomes = (Map<String, Long>) operation.get("outcomes");
+                long ok = outcomes.get("ok");
+                long errors = outcomes.values().stream().mapToLong(Long::longValue).sum() - ok - outcomes.get("apiError");
+                text.append(String.format(Locale.ROOT, "%-8s %9d %9.1f %7d %7d", name, operation.get("requests"),
+                        operation.get("throughput"), ok, errors));
+                ((Map<String, Double>) operation.get(kind)).values()
+                        .forEach(millis -> text.append(String.format(Locale.ROOT, " %9.2f", millis)));
+                text.append(String.format("%n"));
+            });
+        }
+
+        Map<String, Object> all = (Map<String, Object>) operations.get("all");
+        text.append("Outcomes: ").append(all.get("outcomes")).append(String.format("%n"));
+        text.append("Response time correction: ").append(all.get("responseTimeCorrection")).append(String.format("%n"));
+        return text.toString();
+    }
+
+    void writeJson(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+    }
+
+    Map<String, Object> asMap() {
+        return report;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
@@ -0,0 +1,114 @@
+package com.movieSearch.loadtest.load;
+
+import com.movieSearch.loadtest.simulator.Movie;
+import com.movieSearch.loadtest.simulator.SyntheticCatalog;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * Requests against {@code MovieSearchController}, drawn from a fixed pool of searches and IMDB ids taken from
+ * the same {@link SyntheticCatalog} the simulator serves, so they hit real titles. Popularity within each pool
+ * follows a Zipf distribution, which decides how well the service's caches can do.
+ */
+final class Workload {
+
+    static final String SEARCH = "search";
+    static final String DETAILS = "details";
+
+    record Request(String operation, URI uri) {}
+
+    private final String target;
+    private final List<String> queries;
+    private final List<String> imdbIds;
+    private final ZipfSampler querySampler;
+    private final ZipfSampler idSampler;
+    private final String[] operations;
+    private final double[] cumulativeWeights;
+
+    Workload(String target, SyntheticCatalog catalog, Map<String, Integer> mix, int distinctKeys,
+             double zipfExponent, long seed) {
+        this.target = target.endsWith("/") ? target.substring(0, target.length() - 1) : target;
+        Random random = new Random(seed);
+
+        List<Movie> movies = new ArrayList<>(catalog.getMovies());
+        Collections.shuffle(movies, random);
+
+        // Single title words and the first two words of titles, most popular first in shuffled order
+        Set<String> searches = new LinkedHashSet<>();
+        List<String> vocabulary = new ArrayList<>(catalog.vocabulary());
+        Collections.shuffle(vocabulary, random);
+        for (int i = 0; searches.size() < distinctKeys && i < movies.size(); i++) {
+            if (i % 4 == 0 && i / 4 < vocabulary.size()) {
+                searches.add(vocabulary.get(i / 4));
+            }
+            List<String> words = SyntheticCatalog.tokenize(movies.get(i).title());
+            searches.add(words.size() > 1 ? words.get(0) + " " + words.get(1) : words.get(0));
+        }
+        this.queries = List.copyOf(searches).subList(0, Math.min(distinctKeys, searches.size()));
+        this.imdbIds = movies.stream().limit(distinctKeys).map(Movie::imdbId).toList();
+        this.querySampler = new ZipfSampler(queries.size(), zipfExponent);
+        this.idSampler = new ZipfSampler(imdbIds.size(), zipfExponent);
+
+        Map<String, Integer> weights = new LinkedHashMap<>(mix);
+        weights.values().removeIf(weight -> weight <= 0);
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The request mix needs at least one operation with a positive weight");
+        }
+        this.operations = weights.keySet().toArray(String[]::new);
+        this.cumulativeWeights = new double[operations.length];
+        double total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        double sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += weights.get(operations[i]) / total;
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    /**
+     * Parse a mix such as {@code search:90,details:10}
+     */
+    static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] entry = part.trim().split(":");
+            if (entry.length != 2 || !(entry[0].equals(SEARCH) || entry[0].equals(DETAILS))) {
+                throw new IllegalArgumentException("Invalid mix entry '" + part + "', expected search:<weight> or details:<weight>");
+            }
+            weights.put(entry[0], Integer.parseInt(entry[1]));
+        }
+        return weights;
+    }
+
+    List<String> operations() {
+        return List.of(operations);
+    }
+
+    Request next(RandomGenerator random) {
+        double roll = random.nextDouble();
+        int operation = 0;
+        while (operation < operations.length - 1 && roll >= cumulativeWeights[operation]) {
+            operation++;
+        }
+
+        if (operations[operation].equals(SEARCH)) {
+            String query = queries.get(querySampler.next(random));
+            // Most users stop at the first page
+            double pageRoll = random.nextDouble();
+            int page = pageRoll < 0.8 ? 1 : pageRoll < 0.95 ? 2 : 3;
+            return new Request(SEARCH, URI.create(target + "/api/movies/search?title="
+                    + URLEncoder.encode(query, StandardCharsets.UTF_8) + "&page=" + page));
+        }
+        return new Request(DETAILS, URI.create(target + "/api/movies/" + imdbIds.get(idSampler.next(random))));
+    }
+}
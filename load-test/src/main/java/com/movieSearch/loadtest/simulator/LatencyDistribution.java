@@ -0,0 +1,77 @@
+package com.movieSearch.loadtest.simulator;
+
+import com.movieSearch.loadtest.Options;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * Response delay the simulator adds to each request, parsed from a spec:
+ * <ul>
+ *   <li>{@code none}</li>
+ *   <li>{@code fixed:20ms}</li>
+ *   <li>{@code uniform:10ms:50ms} (min, max)</li>
+ *   <li>{@code exponential:30ms} (mean)</li>
+ *   <li>{@code lognormal:30ms:300ms} (median, p99), the usual shape of a remote API with a long tail</li>
+ * </ul>
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    // z-score of the 99th percentile of a standard normal distribution
+    double Z_99 = 2.3263478740;
+
+    long sampleNanos(RandomGenerator random);
+
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.trim().split(":");
+        String kind = parts[0].toLowerCase(Locale.ROOT);
+        return switch (kind) {
+            case "none" -> random -> 0;
+            case "fixed" -> {
+                requireArguments(spec, parts, 1);
+                long nanos = nanos(parts[1]);
+                yield random -> nanos;
+            }
+            case "uniform" -> {
+                requireArguments(spec, parts, 2);
+                long min = nanos(parts[1]);
+                long max = nanos(parts[2]);
+                if (max < min) {
+                    throw new IllegalArgumentException("Latency '" + spec + "': max is below min");
+                }
+                yield random -> min + (max > min ? random.nextLong(max - min + 1) : 0);
+            }
+            case "exponential" -> {
+                requireArguments(spec, parts, 1);
+                double mean = nanos(parts[1]);
+                yield random -> Math.round(-mean * Math.log(1 - random.nextDouble()));
+            }
+            case "lognormal" -> {
+                requireArguments(spec, parts, 2);
+                double mu = Math.log(nanos(parts[1]));
+                double sigma = (Math.log(nanos(parts[2])) - mu) / Z_99;
+                if (sigma < 0) {
+                    throw new IllegalArgumentException("Latency '" + spec + "': p99 is below the median");
+                }
+                yield random -> Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+            }
+            default -> throw new IllegalArgumentException("Unknown latency distribution '" + spec + "'");
+        };
+    }
+
+    private static void requireArguments(String spec, String[] parts, int count) {
+        if (parts.length != count + 1) {
+            throw new IllegalArgumentException("Latency '" + spec + "' needs " + count + " duration(s)");
+        }
+    }
+
+    private static long nanos(String duration) {
+        Duration parsed = Options.parseDuration(duration);
+        if (parsed.isNegative() || parsed.isZero()) {
+            throw new IllegalArgumentException("Latency durations must be positive: '" + duration + "'");
+        }
+        return parsed.toNanos();
+    }
+}
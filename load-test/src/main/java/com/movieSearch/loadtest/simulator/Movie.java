@@ -0,0 +1,45 @@
+package com.movieSearch.loadtest.simulator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One title of the synthetic catalog, with the fields OMDB returns for it
+ */
+public record Movie(String imdbId, String title, int year, String type, String genre, String director,
+                    String actors, String plot, String runtime, String rated, String imdbRating, String poster) {
+
+    /**
+     * The entry in a search result ({@code ?s=})
+     */
+    public Map<String, Object> toSearchResult() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("Title", title);
+        json.put("Year", String.valueOf(year));
+        json.put("imdbID", imdbId);
+        json.put("Type", type);
+        json.put("Poster", poster);
+        return json;
+    }
+
+    /**
+     * The detail record ({@code ?i=})
+     */
+    public Map<String, Object> toDetails() {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("Title", title);
+        json.put("Year", String.valueOf(year));
+        json.put("Rated", rated);
+        json.put("Runtime", runtime);
+        json.put("Genre", genre);
+        json.put("Director", director);
+        json.put("Actors", actors);
+        json.put("Plot", plot);
+        json.put("Poster", poster);
+        json.put("imdbRating", imdbRating);
+        json.put("imdbID", imdbId);
+        json.put("Type", type);
+        json.put("Response", "True");
+        return json;
+    }
+}
@@ -0,0 +1,287 @@
+package com.movieSearch.loadtest.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movieSearch.loadtest.Options;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OMDB-compatible HTTP server for load tests: answers {@code ?s=} searches and {@code ?i=} lookups from a
+ * {@link SyntheticCatalog}, after a delay drawn from a {@link LatencyDistribution}. It can inject upstream
+ * failures (an error status, or a stall far beyond the usual latency), enforce a per-second rate limit
+ * (429 with Retry-After) and a total request limit (401 "Request limit reached!", as OMDB's daily quota),
+ * and check the API key. Every request runs on its own virtual thread, so delays cost no platform threads.
+ * Counters are printed periodically and served as JSON at {@code /__stats}.
+ */
+public final class OmdbSimulator {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final SyntheticCatalog catalog;
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final int errorStatus;
+    private final double stallRate;
+    private final Duration stall;
+    private final RateLimiter rateLimiter;
+    private final long requestLimit;
+    private final String apiKey;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final Map<String, LongAdder> outcomes = new LinkedHashMap<>();
+
+    private HttpServer server;
+
+    OmdbSimulator(SyntheticCatalog catalog, LatencyDistribution latency, double errorRate, int errorStatus,
+                  double stallRate, Duration stall, RateLimiter rateLimiter, long requestLimit, String apiKey) {
+        this.catalog = catalog;
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+        this.stallRate = stallRate;
+        this.stall = stall;
+        this.rateLimiter = rateLimiter;
+        this.requestLimit = requestLimit;
+        this.apiKey = apiKey;
+        for (String outcome : List.of("found", "notFound", "invalid", "unauthorized", "rateLimited",
+                "limitReached", "injectedError", "stalled")) {
+            outcomes.put(outcome, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Options options = Options.parse(args);
+        int catalogSize = options.getInt("catalog-size", 50_000);
+        long seed = options.getLong("seed", 42);
+        String latencySpec = options.getString("latency", "lognormal:30ms:300ms");
+        double rateLimit = options.getDouble("rate-limit", 0);
+
+        long started = System.nanoTime();
+        SyntheticCatalog catalog = SyntheticCatalog.generate(catalogSize, seed);
+        System.out.printf("Generated a catalog of %d titles (seed %d) in %d ms%n",
+                catalog.size(), seed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+        OmdbSimulator simulator = new OmdbSimulator(
+                catalog,
+                LatencyDistribution.parse(latencySpec),
+                options.getDouble("error-rate", 0),
+                options.getInt("error-status", 503),
+                options.getDouble("stall-rate", 0),
+                options.getDuration("stall", Duration.ofSeconds(30)),
+                rateLimit > 0 ? new RateLimiter(rateLimit, options.getDouble("burst", rateLimit)) : null,
+                options.getLong("request-limit", 0),
+                options.getString("api-key", null));
+        int port = simulator.start(options.getInt("port", 8090));
+        System.out.printf("OMDB simulator listening on http://localhost:%d/ (latency %s, error rate %s, rate limit %s)%n",
+                port, latencySpec, options.getDouble("error-rate", 0), rateLimit > 0 ? rateLimit + "/s" : "none");
+
+        Duration reportInterval = options.getDuration("report-interval", Duration.ofSeconds(10));
+        Thread.ofPlatform().daemon().name("simulator-report").start(() -> simulator.report(reportInterval));
+    }
+
+    /**
+     * Start serving on {@code port} (0 for any free port) and return the bound port
+     */
+    int start(int port) throws IOException {
+        // Respond without waiting for Nagle's algorithm; small responses would otherwise wait for the client's delayed ACK
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::handle);
+        server.start();
+        return server.getAddress().getPort();
+    }
+
+    void stop() {
+        server.stop(0);
+    }
+
+    Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("requests", requests.get());
+        outcomes.forEach((outcome, count) -> stats.put(outcome, count.sum()));
+        return stats;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (exchange.getRequestURI().getPath().equals("/__stats")) {
+                respond(exchange, 200, stats());
+                return;
+            }
+
+            long request = requests.incrementAndGet();
+            Map<String, String> params = queryParams(exchange.getRequestURI().getRawQuery());
+
+            if (apiKey != null && !apiKey.equals(params.get("apikey"))) {
+                count("unauthorized");
+                respond(exchange, 401, error(params.containsKey("apikey") ? "Invalid API key!" : "No API key provided."));
+                return;
+            }
+            if (rateLimiter != null && !rateLimiter.tryAcquire()) {
+                count("rateLimited");
+                exchange.getResponseHeaders().set("Retry-After", String.valueOf(rateLimiter.secondsUntilNextToken()));
+                respond(exchange, 429, error("Too many requests"));
+                return;
+            }
+            if (requestLimit > 0 && request > requestLimit) {
+                count("limitReached");
+                respond(exchange, 401, error("Request limit reached!"));
+                return;
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long delayNanos = latency.sampleNanos(random);
+            if (stallRate > 0 && random.nextDouble() < stallRate) {
+                count("stalled");
+                delayNanos += stall.toNanos();
+            }
+            if (delayNanos > 0) {
+                Thread.sleep(Duration.ofNanos(delayNanos));
+            }
+
+            if (errorRate > 0 && random.nextDouble() < errorRate) {
+                count("injectedError");
+                respondText(exchange, errorStatus, "Simulated upstream failure");
+                return;
+            }
+
+            if (params.containsKey("i")) {
+                lookup(exchange, params.get("i"));
+            } else if (params.containsKey("s")) {
+                search(exchange, params);
+            } else {
+                count("invalid");
+                respond(exchange, 200, error("Incorrect IMDb ID."));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void lookup(HttpExchange exchange, String imdbId) throws IOException {
+        var movie = catalog.find(imdbId);
+        if (movie.isPresent()) {
+            count("found");
+            respond(exchange, 200, movie.get().toDetails());
+        } else if (imdbId.matches("tt\\d{7,}")) {
+            count("notFound");
+            respond(exchange, 200, error("Error getting data."));
+        } else {
+            count("invalid");
+            respond(exchange, 200, error("Incorrect IMDb ID."));
+        }
+    }
+
+    private void search(HttpExchange exchange, Map<String, String> params) throws IOException {
+        String query = params.get("s").trim();
+        if (query.length() < 3 || SyntheticCatalog.tokenize(query).isEmpty()) {
+            count("invalid");
+            respond(exchange, 200, error("Too many results."));
+            return;
+        }
+
+        int page;
+        Integer year;
+        try {
+            page = Integer.parseInt(params.getOrDefault("page", "1"));
+            year = params.containsKey("y") ? Integer.valueOf(params.get("y")) : null;
+        } catch (NumberFormatException e) {
+            count("invalid");
+            respond(exchange, 200, error("Something went wrong."));
+            return;
+        }
+        if (page < 1 || page > 100) {
+            count("invalid");
+            respond(exchange, 200, error("The offset specified in the request is not valid."));
+            return;
+        }
+
+        SyntheticCatalog.SearchResult result = catalog.search(query, params.get("type"), year, page);
+        if (result.movies().isEmpty()) {
+            count("notFound");
+            respond(exchange, 200, error("Movie not found!"));
+            return;
+        }
+
+        count("found");
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("Search", result.movies().stream().map(Movie::toSearchResult).toList());
+        body.put("totalResults", String.valueOf(result.totalResults()));
+        body.put("Response", "True");
+        respond(exchange, 200, body);
+    }
+
+    private void report(Duration interval) {
+        long last = 0;
+        while (true) {
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException e) {
+                return;
+            }
+            Map<String, Long> stats = stats();
+            long total = stats.get("requests");
+            System.out.printf("%.0f req/s, %s%n", (total - last) / (interval.toMillis() / 1000.0), stats);
+            last = total;
+        }
+    }
+
+    private void count(String outcome) {
+        outcomes.get(outcome).increment();
+    }
+
+    private static Map<String, Object> error(String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("Response", "False");
+        body.put("Error", message);
+        return body;
+    }
+
+    private static Map<String, String> queryParams(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = URLDecoder.decode(equals >= 0 ? pair.substring(0, equals) : pair, StandardCharsets.UTF_8);
+            String value = equals >= 0 ? URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8) : "";
+            params.putIfAbsent(name, value);
+        }
+        return params;
+    }
+
+    private static void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        send(exchange, status, OBJECT_MAPPER.writeValueAsBytes(body));
+    }
+
+    private static void respondText(HttpExchange exchange, int status, String body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        send(exchange, status, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.movieSearch.loadtest.simulator;
+
+/**
+ * Token bucket: {@code ratePerSecond} tokens a second, holding at most {@code burst}
+ */
+final class RateLimiter {
+
+    private final double tokensPerNano;
+    private final double burst;
+
+    // Guarded by this
+    private double tokens;
+    private long refilledAtNanos;
+
+    RateLimiter(double ratePerSecond, double burst) {
+        this.tokensPerNano = ratePerSecond / 1e9;
+        this.burst = Math.max(1, burst);
+        this.tokens = this.burst;
+        this.refilledAtNanos = System.nanoTime();
+    }
+
+    synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - refilledAtNanos) * tokensPerNano);
+        refilledAtNanos = now;
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    /**
+     * Whole seconds until the next token, for {@code Retry-After}
+     */
+    synchronized long secondsUntilNextToken() {
+        return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano / 1e9));
+    }
+}
@@ -0,0 +1,201 @@
+package com.movieSearch.loadtest.simulator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * A generated movie catalog, the same for the same size and seed, so the simulator and the load generator
+ * agree on which titles and IMDB ids exist without sharing any files. Titles are built from small word
+ * lists, so common words match thousands of titles and rare combinations only a few, as on OMDB.
+ */
+public final class SyntheticCatalog {
+
+    public static final int PAGE_SIZE = 10;
+
+    private static final String[] ADJECTIVES = {
+            "Dark", "Last", "Lost", "Silent", "Broken", "Hidden", "Golden", "Wild", "Crimson", "Frozen",
+            "Eternal", "Savage", "Secret", "Forgotten", "Burning", "Midnight", "Final", "Electric", "Iron", "Hollow",
+            "Brave", "Cursed", "Distant", "Empty", "Fallen", "Glass", "Quiet", "Red", "Shattered", "Twisted"};
+
+    private static final String[] NOUNS = {
+            "Matrix", "Night", "City", "Empire", "Island", "Kingdom", "River", "Storm", "Shadow", "Dream",
+            "Legacy", "Horizon", "Planet", "Witness", "Garden", "Signal", "Machine", "Frontier", "Ocean", "Mirror",
+            "Dawn", "Code", "Tower", "Road", "Heart", "Voyage", "Protocol", "Harvest", "Labyrinth", "Sun",
+            "Alien", "Desert", "Forest", "Ghost", "Hunter", "Knight", "Legend", "Moon", "Odyssey", "Prophecy"};
+
+    private static final String[] GENRES = {"Action", "Adventure", "Comedy", "Crime", "Drama", "Fantasy", "Horror",
+            "Mystery", "Romance", "Sci-Fi", "Thriller", "Western"};
+
+    private static final String[] NAMES = {"Alex", "Jordan", "Sam", "Taylor", "Morgan", "Casey", "Riley", "Jamie",
+            "Avery", "Quinn", "Parker", "Rowan"};
+
+    private static final String[] SURNAMES = {"Reed", "Hayes", "Cole", "Hart", "Lane", "Frost", "Wolfe", "Stone",
+            "Blake", "Cross", "Vale", "Marsh"};
+
+    private static final String[] RATINGS = {"G", "PG", "PG-13", "R", "TV-14", "TV-MA"};
+
+    private final List<Movie> movies;
+    private final Map<String, Movie> byId;
+    // Lower-case title word to the catalog indexes of the titles containing it, ascending
+    private final Map<String, int[]> postings;
+
+    private SyntheticCatalog(List<Movie> movies) {
+        this.movies = movies;
+        this.byId = new HashMap<>(movies.size() * 4 / 3 + 1);
+        Map<String, List<Integer>> words = new HashMap<>();
+        for (int i = 0; i < movies.size(); i++) {
+            Movie movie = movies.get(i);
+            byId.put(movie.imdbId(), movie);
+            for (String word : tokenize(movie.title())) {
+                List<Integer> indexes = words.computeIfAbsent(word, key -> new ArrayList<>());
+                if (indexes.isEmpty() || indexes.get(indexes.size() - 1) != i) {
+                    indexes.add(i);
+                }
+            }
+        }
+        this.postings = new HashMap<>(words.size() * 4 / 3 + 1);
+        words.forEach((word, indexes) -> postings.put(word, indexes.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    public static SyntheticCatalog generate(int size, long seed) {
+        Random random = new Random(seed);
+        List<Movie> movies = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            movies.add(movie(i, random));
+        }
+        return new SyntheticCatalog(List.copyOf(movies));
+    }
+
+    public int size() {
+        return movies.size();
+    }
+
+    public List<Movie> getMovies() {
+        return movies;
+    }
+
+    public Optional<Movie> find(String imdbId) {
+        return Optional.ofNullable(imdbId != null ? byId.get(imdbId.trim()) : null);
+    }
+
+    /**
+     * Titles containing every word of {@code query}, optionally of one type and year, one page at a time
+     */
+    public SearchResult search(String query, String type, Integer year, int page) {
+        int[] matches = null;
+        for (String word : tokenize(query)) {
+            int[] indexes = postings.get(word);
+            if (indexes == null) {
+                return new SearchResult(List.of(), 0);
+            }
+            matches = matches == null ? indexes : intersect(matches, indexes);
+        }
+        if (matches == null) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        List<Movie> pageMovies = new ArrayList<>(PAGE_SIZE);
+        int total = 0;
+        int skip = (page - 1) * PAGE_SIZE;
+        for (int index : matches) {
+            Movie movie = movies.get(index);
+            if ((type == null || type.equalsIgnoreCase(movie.type())) && (year == null || year == movie.year())) {
+                if (total >= skip && pageMovies.size() < PAGE_SIZE) {
+                    pageMovies.add(movie);
+                }
+                total++;
+            }
+        }
+        return new SearchResult(pageMovies, total);
+    }
+
+    /**
+     * Every distinct lower-case title word, for building search queries that hit the catalog
+     */
+    public Set<String> vocabulary() {
+        Set<String> words = new LinkedHashSet<>();
+        for (String adjective : ADJECTIVES) {
+            words.add(adjective.toLowerCase(Locale.ROOT));
+        }
+        for (String noun : NOUNS) {
+            words.add(noun.toLowerCase(Locale.ROOT));
+        }
+        return words;
+    }
+
+    public record SearchResult(List<Movie> movies, int totalResults) {}
+
+    /**
+     * Lower-case words of a title or query, without "the" and "of", which every search would otherwise match
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{Alnum}]+"))
+                .filter(word -> !word.isEmpty() && !word.equals("the") && !word.equals("of"))
+                .toList();
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int count = 0;
+        for (int i = 0, j = 0; i < left.length && j < right.length; ) {
+            if (left[i] == right[j]) {
+                result[count++] = left[i];
+                i++;
+                j++;
+            } else if (left[i] < right[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static Movie movie(int index, Random random) {
+        String adjective = pick(ADJECTIVES, random);
+        String noun = pick(NOUNS, random);
+        String title = switch (random.nextInt(5)) {
+            case 0 -> "The " + adjective + " " + noun;
+            case 1 -> noun + " of the " + adjective + " " + pick(NOUNS, random);
+            case 2 -> adjective + " " + noun + " " + (2 + random.nextInt(4));
+            case 3 -> "The " + noun + ": " + adjective + " " + pick(NOUNS, random);
+            default -> adjective + " " + noun;
+        };
+        int typeRoll = random.nextInt(10);
+        String type = typeRoll < 7 ? "movie" : typeRoll < 9 ? "series" : "episode";
+        String director = pick(NAMES, random) + " " + pick(SURNAMES, random);
+        String actors = pick(NAMES, random) + " " + pick(SURNAMES, random) + ", "
+                + pick(NAMES, random) + " " + pick(SURNAMES, random);
+        String genre = pick(GENRES, random) + ", " + pick(GENRES, random);
+        String imdbId = String.format("tt%07d", 1_000_000 + index);
+        return new Movie(
+                imdbId,
+                title,
+                1950 + random.nextInt(75),
+                type,
+                genre,
+                director,
+                actors,
+                "A " + genre.toLowerCase(Locale.ROOT) + " story about a " + noun.toLowerCase(Locale.ROOT)
+                        + " that nobody could forget.",
+                (80 + random.nextInt(100)) + " min",
+                pick(RATINGS, random),
+                String.format(Locale.ROOT, "%.1f", 3 + random.nextInt(65) / 10.0),
+                random.nextInt(5) == 0 ? "N/A" : "https://posters.example.invalid/" + imdbId + ".jpg");
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,50 @@
+package com.movieSearch.loadtest.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyDistributionTest {
+
+    @Test
+    void parse_LognormalMatchesTheGivenMedianAndP99() {
+        // Given
+        LatencyDistribution distribution = LatencyDistribution.parse("lognormal:30ms:300ms");
+        SplittableRandom random = new SplittableRandom(7);
+
+        // When
+        long[] samples = new long[100_000];
+        Arrays.setAll(samples, i -> distribution.sampleNanos(random));
+        Arrays.sort(samples);
+
+        // Then
+        assertThat((double) TimeUnit.NANOSECONDS.toMillis(samples[50_000])).isCloseTo(30, within(1.5));
+        assertThat((double) TimeUnit.NANOSECONDS.toMillis(samples[99_000])).isCloseTo(300, within(25.0));
+    }
+
+    @Test
+    void parse_FixedAndNone() {
+        // Given
+        SplittableRandom random = new SplittableRandom(7);
+
+        // Then
+        assertThat(LatencyDistribution.parse("fixed:1.5s").sampleNanos(random)).isEqualTo(1_500_000_000L);
+        assertThat(LatencyDistribution.parse("none").sampleNanos(random)).isZero();
+    }
+
+    @Test
+    void parse_RejectsInvalidSpecs() {
+        assertThatThrownBy(() -> LatencyDistribution.parse("lognormal:300ms:30ms"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LatencyDistribution.parse("uniform:10ms"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LatencyDistribution.parse("pareto:10ms"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.movieSearch.loadtest.simulator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyntheticCatalogTest {
+
+    private final SyntheticCatalog catalog = SyntheticCatalog.generate(5_000, 42);
+
+    @Test
+    void generate_IsDeterministicForASeed() {
+        // When
+        SyntheticCatalog again = SyntheticCatalog.generate(5_000, 42);
+
+        // Then
+        assertThat(again.getMovies()).isEqualTo(catalog.getMovies());
+        assertThat(catalog.find("tt1000000")).contains(catalog.getMovies().get(0));
+        assertThat(catalog.find("tt9999999")).isEmpty();
+    }
+
+    @Test
+    void search_ReturnsTitlesContainingEveryWordOnePageAtATime() {
+        // Given
+        String word = catalog.vocabulary().iterator().next();
+        SyntheticCatalog.SearchResult first = catalog.search(word, null, null, 1);
+
+        // When
+        SyntheticCatalog.SearchResult second = catalog.search(word, null, null, 2);
+
+        // Then
+        assertThat(first.totalResults()).isGreaterThan(SyntheticCatalog.PAGE_SIZE);
+        assertThat(first.movies()).hasSize(SyntheticCatalog.PAGE_SIZE)
+                .allSatisfy(movie -> assertThat(SyntheticCatalog.tokenize(movie.title())).contains(word));
+        assertThat(second.totalResults()).isEqualTo(first.totalResults());
+        assertThat(second.movies()).doesNotContainAnyElementsOf(first.movies());
+    }
+
+    @Test
+    void search_FiltersByTypeAndIgnoresStopWords() {
+        // Given
+        Movie movie = catalog.getMovies().get(0);
+        List<String> words = SyntheticCatalog.tokenize(movie.title());
+
+        // When
+        SyntheticCatalog.SearchResult result = catalog.search("The " + String.join(" of ", words), movie.type(), movie.year(), 1);
+
+        // Then
+        assertThat(words).doesNotContain("the", "of");
+        assertThat(result.movies()).contains(movie).allMatch(match -> match.type().equals(movie.type()));
+        assertThat(catalog.search("nonexistentword", null, null, 1).totalResults()).isZero();
+    }
+}
@@ -0,0 +1,44 @@
+package com.movieSearch.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of {@code benchmarks.jar}: runs JMH with the given arguments and, unless {@code -rf} is given,
+ * also writes the results as JSON to {@code jmh-results/<timestamp>.json}, one file per run for comparing
+ * runs before and after a change.
+ */
+public final class BenchmarkMain {
+
+    private static final Path RESULTS_DIR = Path.of("jmh-results");
+
+    private BenchmarkMain() {}
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        if (!arguments.contains("-rf") && !isInformational(arguments)) {
+            Path resultFile = RESULTS_DIR.resolve(
+                    LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+            createResultsDir();
+            arguments.addAll(List.of("-rf", "json", "-rff", resultFile.toString()));
+        }
+        Main.main(arguments.toArray(String[]::new));
+    }
+
+    private static boolean isInformational(List<String> arguments) {
+        return arguments.stream().anyMatch(arg -> arg.equals("-h") || arg.equals("-l") || arg.equals("-lp")
+                || arg.equals("-lprof") || arg.equals("-lrf"));
+    }
+
+    private static void createResultsDir() throws IOException {
+        Files.createDirectories(RESULTS_DIR);
+    }
+}
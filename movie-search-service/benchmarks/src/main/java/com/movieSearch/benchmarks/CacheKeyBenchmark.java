@@ -0,0 +1,60 @@
+package com.movieSearch.benchmarks;
+
+import com.movieSearch.cache.MovieCacheKeys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache key construction for {@code searchMovies}: the {@link MovieCacheKeys#search} call itself, and the
+ * SpEL key expression from {@code @Cacheable} as Spring evaluates it per call (parsed once, as Spring caches it).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheKeyBenchmark {
+
+    private static final String KEY_EXPRESSION = "T(com.movieSearch.cache.MovieCacheKeys).search(#title, #page, #type)";
+
+    private String title;
+    private int page;
+    private String type;
+    private Expression keyExpression;
+
+    @Setup
+    public void setUp() {
+        title = "  The Lord of the Rings ";
+        page = 2;
+        type = "Movie";
+        keyExpression = new SpelExpressionParser().parseExpression(KEY_EXPRESSION);
+    }
+
+    @Benchmark
+    public String direct() {
+        return MovieCacheKeys.search(title, page, type);
+    }
+
+    @Benchmark
+    public Object spelExpression() {
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        context.setVariable("title", title);
+        context.setVariable("page", page);
+        context.setVariable("type", type);
+        return keyExpression.getValue(context);
+    }
+}
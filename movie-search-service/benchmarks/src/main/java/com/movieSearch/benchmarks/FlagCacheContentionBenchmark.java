@@ -0,0 +1,88 @@
+package com.movieSearch.benchmarks;
+
+import com.movieSearch.dto.FeatureFlagResponseDTO;
+import com.movieSearch.dto.FlagChangeEvent;
+import com.movieSearch.service.FeatureFlagCacheService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * {@code isFlagEnabled} while other threads read and one thread keeps toggling a flag. Compare the
+ * {@code read} result of the {@code readWrite} group with {@code readOnly} to see what writers cost readers;
+ * the {@code write} result is the cost of one copy-on-write update of a cache holding {@code flags} flags.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlagCacheContentionBenchmark {
+
+    private static final String READ_FLAG = "maintenance_mode";
+    private static final String WRITE_FLAG = "flag_1";
+
+    @Param({"100", "1000"})
+    public int flags;
+
+    private FeatureFlagCacheService cacheService;
+    private FlagChangeEvent enable;
+    private FlagChangeEvent disable;
+    private boolean toggle;
+
+    @Setup
+    public void setUp() {
+        cacheService = new FeatureFlagCacheService();
+        List<FeatureFlagResponseDTO> snapshot = IntStream.range(0, flags)
+                .mapToObj(i -> flag(i == 0 ? READ_FLAG : "flag_" + i, i % 2 == 0))
+                .toList();
+        cacheService.applySnapshot(1L, snapshot);
+        enable = new FlagChangeEvent(WRITE_FLAG, true, "UPDATED");
+        disable = new FlagChangeEvent(WRITE_FLAG, false, "UPDATED");
+    }
+
+    @Benchmark
+    @Group("readOnly")
+    @GroupThreads(3)
+    public boolean readOnly() {
+        return cacheService.isFlagEnabled(READ_FLAG);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public boolean read() {
+        return cacheService.isFlagEnabled(READ_FLAG);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public void write() {
+        // Only the writer thread touches toggle
+        toggle = !toggle;
+        cacheService.updateFlag(toggle ? enable : disable);
+    }
+
+    private static FeatureFlagResponseDTO flag(String name, boolean enabled) {
+        FeatureFlagResponseDTO flag = new FeatureFlagResponseDTO();
+        flag.setName(name);
+        flag.setEnabled(enabled);
+        return flag;
+    }
+}
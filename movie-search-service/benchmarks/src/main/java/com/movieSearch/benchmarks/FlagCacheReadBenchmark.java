@@ -0,0 +1,66 @@
+package com.movieSearch.benchmarks;
+
+import com.movieSearch.dto.FeatureFlagResponseDTO;
+import com.movieSearch.service.FeatureFlagCacheService;
+import com.movieSearch.service.FlagHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Per-request cost of an untargeted flag check in a cache holding {@code flags} flags:
+ * lookup by name against a pre-resolved {@link FlagHandle}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlagCacheReadBenchmark {
+
+    @Param({"2", "1000"})
+    public int flags;
+
+    private FeatureFlagCacheService cacheService;
+    private FlagHandle handle;
+
+    @Setup
+    public void setUp() {
+        cacheService = new FeatureFlagCacheService();
+        List<FeatureFlagResponseDTO> snapshot = IntStream.range(0, flags)
+                .mapToObj(i -> flag(i == 0 ? "maintenance_mode" : "flag_" + i, i % 2 == 0))
+                .toList();
+        cacheService.applySnapshot(1L, snapshot);
+        handle = cacheService.handle("maintenance_mode");
+    }
+
+    @Benchmark
+    public boolean byName() {
+        return cacheService.isFlagEnabled("maintenance_mode");
+    }
+
+    @Benchmark
+    public boolean byHandle() {
+        return handle.isEnabled();
+    }
+
+    private static FeatureFlagResponseDTO flag(String name, boolean enabled) {
+        FeatureFlagResponseDTO flag = new FeatureFlagResponseDTO();
+        flag.setName(name);
+        flag.setEnabled(enabled);
+        return flag;
+    }
+}
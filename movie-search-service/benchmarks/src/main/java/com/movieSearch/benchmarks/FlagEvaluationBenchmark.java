@@ -0,0 +1,98 @@
+package com.movieSearch.benchmarks;
+
+import com.movieSearch.dto.FlagTargetingDTO;
+import com.movieSearch.evaluation.EvaluationContext;
+import com.movieSearch.evaluation.FlagEvaluator;
+import com.movieSearch.evaluation.FlagEvaluatorCompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Cost of evaluating one flag for one request context. Contexts are built up front, as a request
+ * builds its context once; run with {@code -prof gc} to confirm evaluation does not allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlagEvaluationBenchmark {
+
+    private static final int CONTEXTS = 1024;
+
+    private FlagEvaluator constant;
+    private FlagEvaluator rollout;
+    private FlagEvaluator rules;
+    private EvaluationContext[] contexts;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        constant = FlagEvaluatorCompiler.compile("dark_mode", true, null);
+        rollout = FlagEvaluatorCompiler.compile("dark_mode", true, targeting(30, List.of()));
+
+        FlagTargetingDTO.Rule segment = new FlagTargetingDTO.Rule();
+        segment.setConditions(List.of(new FlagTargetingDTO.Condition("key", "IN",
+                IntStream.range(0, 1000).mapToObj(i -> "user-" + i * 7).toList())));
+        FlagTargetingDTO.Rule country = new FlagTargetingDTO.Rule();
+        country.setConditions(List.of(
+                new FlagTargetingDTO.Condition("country", "IN", List.of("DE", "FR", "NL")),
+                new FlagTargetingDTO.Condition("plan", "NOT_IN", List.of("free"))));
+        country.setRollout(50);
+        rules = FlagEvaluatorCompiler.compile("dark_mode", true, targeting(10, List.of(segment, country)));
+
+        String[] countries = {"DE", "FR", "US", "GB"};
+        String[] plans = {"free", "premium"};
+        contexts = new EvaluationContext[CONTEXTS];
+        for (int i = 0; i < CONTEXTS; i++) {
+            contexts[i] = EvaluationContext.of("user-" + i,
+                    Map.of("country", countries[i % countries.length], "plan", plans[i % plans.length]));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCursor() {
+        next = 0;
+    }
+
+    @Benchmark
+    public boolean constant() {
+        return constant.isEnabled(nextContext());
+    }
+
+    @Benchmark
+    public boolean percentageRollout() {
+        return rollout.isEnabled(nextContext());
+    }
+
+    @Benchmark
+    public boolean segmentAndAttributeRules() {
+        return rules.isEnabled(nextContext());
+    }
+
+    private EvaluationContext nextContext() {
+        return contexts[next++ & (CONTEXTS - 1)];
+    }
+
+    private static FlagTargetingDTO targeting(double rollout, List<FlagTargetingDTO.Rule> rules) {
+        FlagTargetingDTO targeting = new FlagTargetingDTO();
+        targeting.setRollout(rollout);
+        targeting.setRules(rules);
+        return targeting;
+    }
+}
@@ -0,0 +1,54 @@
+package com.movieSearch.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.movieSearch.dto.MovieSearchResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding a ten-result OMDB search page into {@link MovieSearchResponseDTO}, from the bytes WebClient hands
+ * to Jackson, with a mapper configured like Spring Boot's. {@code reader} uses a pre-resolved {@link ObjectReader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovieSearchResponseDeserializationBenchmark {
+
+    private byte[] payload;
+    private ObjectMapper objectMapper;
+    private ObjectReader reader;
+
+    @Setup
+    public void setUp() {
+        payload = OmdbSamples.searchPage().getBytes(StandardCharsets.UTF_8);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        reader = objectMapper.readerFor(MovieSearchResponseDTO.class);
+    }
+
+    @Benchmark
+    public MovieSearchResponseDTO mapper() throws IOException {
+        return objectMapper.readValue(payload, MovieSearchResponseDTO.class);
+    }
+
+    @Benchmark
+    public MovieSearchResponseDTO reader() throws IOException {
+        return reader.readValue(payload);
+    }
+}
@@ -0,0 +1,101 @@
+package com.movieSearch.benchmarks;
+
+import com.movieSearch.client.OMDBCircuitBreaker;
+import com.movieSearch.client.OMDBClient;
+import com.movieSearch.client.OMDBHealthMonitor;
+import com.movieSearch.client.RequestHedger;
+import com.movieSearch.dto.MovieSearchResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Full {@link OMDBClient} round trips (circuit breaker, coalescer, pooled Reactor Netty connection, decoding)
+ * against an in-process Reactor Netty stub on loopback that answers instantly with canned JSON. The result is the
+ * client's own overhead; the stub's share is small but not zero. Titles differ per call so no two
+ * concurrent calls are coalesced. The WebClient and Reactor Netty path takes long to compile, hence the long warmup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 8, time = 5)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OMDBClientBenchmark {
+
+    private static final String DETAILS = "{\"Title\":\"The Matrix\",\"Year\":\"1999\",\"imdbID\":\"tt0133093\","
+            + "\"Type\":\"movie\",\"Poster\":\"N/A\",\"Response\":\"True\"}";
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private DisposableServer server;
+    private ConnectionProvider connectionProvider;
+    private OMDBClient client;
+
+    @Setup
+    public void setUp() {
+        byte[] search = OmdbSamples.searchPage().getBytes(StandardCharsets.UTF_8);
+        byte[] details = DETAILS.getBytes(StandardCharsets.UTF_8);
+
+        server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle((request, response) -> response
+                        .header("Content-Type", "application/json")
+                        .sendByteArray(Mono.just(request.uri().contains("i=") ? details : search)))
+                .bindNow();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OMDBCircuitBreaker circuitBreaker = new OMDBCircuitBreaker(meterRegistry, 20, 10, 50, 50,
+                Duration.ofSeconds(3), Duration.ofSeconds(30), 3, 10_000, Duration.ofHours(6));
+        RequestHedger hedger = new RequestHedger(meterRegistry, false, 0.95, Duration.ofSeconds(1),
+                Duration.ofMillis(50), Duration.ofSeconds(3), 0.05, 10);
+        connectionProvider = ConnectionProvider.create("omdb-benchmark", 32);
+        client = new OMDBClient(WebClient.builder(), HttpClient.create(connectionProvider), meterRegistry,
+                circuitBreaker, hedger, new OMDBHealthMonitor(3, Duration.ofSeconds(5)), "benchmark",
+                "http://127.0.0.1:" + server.port() + "/");
+    }
+
+    @TearDown
+    public void tearDown() {
+        connectionProvider.dispose();
+        server.disposeNow();
+    }
+
+    @Benchmark
+    public MovieSearchResponseDTO search() {
+        return client.searchMovies("matrix " + counter.incrementAndGet(), 1, null);
+    }
+
+    @Benchmark
+    public MovieSearchResponseDTO details() {
+        return client.getMovieById("tt" + counter.incrementAndGet());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public MovieSearchResponseDTO searchConcurrent() {
+        return client.searchMovies("matrix " + counter.incrementAndGet(), 1, null);
+    }
+}
@@ -0,0 +1,24 @@
+package com.movieSearch.benchmarks;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Canned OMDB responses shared by the benchmarks
+ */
+final class OmdbSamples {
+
+    private OmdbSamples() {}
+
+    /**
+     * A full search page as OMDB returns it: ten results
+     */
+    static String searchPage() {
+        String results = IntStream.range(0, 10)
+                .mapToObj(i -> "{\"Title\":\"The Matrix Part " + i + "\",\"Year\":\"" + (1999 + i) + "\","
+                        + "\"imdbID\":\"tt0" + (133093 + i) + "\",\"Type\":\"movie\","
+                        + "\"Poster\":\"https://m.media-amazon.com/images/M/MV5BNzQzOTk3OTAtNDQ0Zi00ZTVkLWI0MTEtMDllZjNkYzNjNTc4L2ltYWdlXkEyXkFqcGdeQXVyNjU0OTQ0OTY@._V1_SX300.jpg\"}")
+                .collect(Collectors.joining(","));
+        return "{\"Search\":[" + results + "],\"totalResults\":\"112\",\"Response\":\"True\"}";
+    }
+}
@@ -0,0 +1,110 @@
+package com.movieSearch.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movieSearch.dto.FeatureFlagResponseDTO;
+import com.movieSearch.dto.FlagChangesDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Throughput of {@link FlagChangeEventListener#onMessage} for batches of {@code changes} flag changes
+ * against a cache of 1000 flags: parsing alone, and parse plus apply plus propagation tracking.
+ * Messages alternate between enabling and disabling the flags, so every apply really changes the cache.
+ * Lives in the service package to reach the package-private parser; the Redis report is a no-op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlagChangeListenerBenchmark {
+
+    private static final byte[] CHANNEL = "feature-flag-changes".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"1", "50"})
+    public int changes;
+
+    private ObjectMapper objectMapper;
+    private FlagChangeEventListener listener;
+    private Message[] messages;
+    private String payload;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        FeatureFlagCacheService cacheService = new FeatureFlagCacheService();
+        cacheService.applySnapshot(1L, IntStream.range(0, 1000).mapToObj(i -> flag("flag_" + i)).toList());
+        FlagPropagationTracker tracker = new FlagPropagationTracker(cacheService, new NoOpRedisTemplate(),
+                objectMapper, new SimpleMeterRegistry(), "benchmark");
+        listener = new FlagChangeEventListener(cacheService, tracker, objectMapper);
+
+        messages = new Message[]{message(true), message(false)};
+        payload = new String(messages[0].getBody(), StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public FlagChangesDTO parse() throws JsonProcessingException {
+        return FlagChangeEventListener.parse(objectMapper, payload);
+    }
+
+    @Benchmark
+    public void onMessage() {
+        listener.onMessage(messages[next++ & 1], null);
+    }
+
+    private Message message(boolean enabled) {
+        String events = IntStream.range(0, changes)
+                .mapToObj(i -> "{\"flagName\":\"flag_" + i + "\",\"enabled\":" + enabled
+                        + ",\"changeType\":\"UPDATED\",\"version\":" + (2 + i) + "}")
+                .collect(Collectors.joining(","));
+        String body = "{\"fromVersion\":1,\"version\":" + (1 + changes) + ",\"changes\":[" + events + "],"
+                + "\"origin\":\"feature-flag-service\",\"publishedAtMicros\":" + System.currentTimeMillis() * 1000 + "}";
+        return new DefaultMessage(CHANNEL, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static FeatureFlagResponseDTO flag(String name) {
+        FeatureFlagResponseDTO flag = new FeatureFlagResponseDTO();
+        flag.setName(name);
+        flag.setEnabled(false);
+        return flag;
+    }
+
+    /**
+     * Template whose hash operations do nothing, so reports cost no network round trip
+     */
+    private static final class NoOpRedisTemplate extends StringRedisTemplate {
+
+        private final HashOperations<?, ?, ?> hashOperations = (HashOperations<?, ?, ?>) Proxy.newProxyInstance(
+                HashOperations.class.getClassLoader(), new Class<?>[]{HashOperations.class}, (proxy, method, args) -> null);
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <HK, HV> HashOperations<String, HK, HV> opsForHash() {
+            return (HashOperations<String, HK, HV>) hashOperations;
+        }
+    }
+}
@@ -2,10 +2,14 @@ package com.movieSearch;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableAsync
+@EnableCaching
+@EnableScheduling
 public class MovieSearchApplication {
     public static void main(String[] args) {
         SpringApplication.run(MovieSearchApplication.class, args);
@@ -0,0 +1,29 @@
+package com.movieSearch.cache;
+
+import java.util.Locale;
+
+/**
+ * Cache names and key construction shared by the movie result caches
+ */
+public final class MovieCacheKeys {
+
+    public static final String MOVIE_SEARCH_CACHE = "movieSearch";
+    public static final String MOVIE_DETAILS_CACHE = "movieDetails";
+
+    private MovieCacheKeys() {}
+
+    /**
+     * Key for a search page. OMDB matching is case-insensitive, so titles are normalized.
+     */
+    public static String search(String title, int page, String type) {
+        String normalizedType = type != null && !type.isBlank() ? type.trim().toLowerCase(Locale.ROOT) : "all";
+        return title.trim().toLowerCase(Locale.ROOT) + '_' + page + '_' + normalizedType;
+    }
+
+    /**
+     * Key for a detail record
+     */
+    public static String details(String imdbId) {
+        return imdbId.trim();
+    }
+}
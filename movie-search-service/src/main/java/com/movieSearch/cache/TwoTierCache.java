@@ -0,0 +1,201 @@
+package com.movieSearch.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Cache with a bounded in-process L1 (Caffeine) in front of a shared L2 (Redis).
+ * Reads check L1 first and promote L2 hits into L1. Writes go to both tiers.
+ * L2 failures are logged and treated as misses so a Redis outage never fails a search.
+ * Supports async retrieval so reactive {@code @Cacheable} methods never block on Redis.
+ */
+public class TwoTierCache implements Cache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoTierCache.class);
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final Cache remote;
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+                        Cache remote) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    /**
+     * Look up a value in L1, falling back to L2
+     */
+    @Override
+    public ValueWrapper get(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            return new SimpleValueWrapper(value);
+        }
+
+        ValueWrapper wrapper = getRemote(key);
+        if (wrapper != null && wrapper.get() != null) {
+            local.put(key, wrapper.get());
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value for key '" + key + "' is not of required type " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) local.get(key, k -> {
+            ValueWrapper wrapper = getRemote(k);
+            if (wrapper != null && wrapper.get() != null) {
+                return wrapper.get();
+            }
+
+            try {
+                T value = valueLoader.call();
+                if (value != null) {
+                    putRemote(k, value);
+                }
+                return value;
+            } catch (Exception e) {
+                throw new ValueRetrievalException(k, valueLoader, e);
+            }
+        });
+    }
+
+    /**
+     * Async lookup for reactive callers: L1 hits complete immediately, L2 is read without blocking
+     */
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            return CompletableFuture.completedFuture(value);
+        }
+
+        CompletableFuture<?> remoteValue;
+        try {
+            remoteValue = remote.retrieve(key);
+        } catch (RuntimeException e) {
+            logger.warn("L2 cache '{}' async lookup failed for key '{}': {}", name, key, e.getMessage());
+            return null;
+        }
+        if (remoteValue == null) {
+            return null;
+        }
+
+        return remoteValue
+                .thenApply(found -> {
+                    Object unwrapped = found instanceof ValueWrapper wrapper ? wrapper.get() : found;
+                    if (unwrapped != null) {
+                        local.put(key, unwrapped);
+                    }
+                    return unwrapped;
+                })
+                .exceptionally(e -> {
+                    logger.warn("L2 cache '{}' async lookup failed for key '{}': {}", name, key, e.getMessage());
+                    return null;
+                });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        CompletableFuture<?> cached = retrieve(key);
+        CompletableFuture<Object> lookup = cached != null
+                ? (CompletableFuture<Object>) cached
+                : CompletableFuture.completedFuture(null);
+
+        return lookup.thenCompose(value -> value != null
+                ? CompletableFuture.completedFuture((T) value)
+                : valueLoader.get().thenApply(loaded -> {
+                    put(key, loaded);
+                    return loaded;
+                }));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        local.put(key, value);
+        putRemote(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.invalidate(key);
+        try {
+            remote.evict(key);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to evict key '{}' from L2 cache '{}': {}", key, name, e.getMessage());
+        }
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        try {
+            remote.clear();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to clear L2 cache '{}': {}", name, e.getMessage());
+        }
+    }
+
+    private ValueWrapper getRemote(Object key) {
+        try {
+            return remote.get(key);
+        } catch (RuntimeException e) {
+            logger.warn("L2 cache '{}' lookup failed for key '{}': {}", name, key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRemote(Object key, Object value) {
+        // Reactive callers complete on event-loop threads, which must not block on a Redis write
+        if (Schedulers.isInNonBlockingThread()) {
+            Schedulers.boundedElastic().schedule(() -> writeRemote(key, value));
+        } else {
+            writeRemote(key, value);
+        }
+    }
+
+    private void writeRemote(Object key, Object value) {
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException e) {
+            logger.warn("L2 cache '{}' write failed for key '{}': {}", name, key, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.movieSearch.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache manager that pairs a Caffeine L1 with the matching cache of a shared L2 manager.
+ * Each cache gets its own TTL; L1 entries never outlive the L2 TTL.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final Map<String, Cache> caches;
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager,
+                               Map<String, Duration> cacheTtls,
+                               long localMaxSize,
+                               Duration localTtl,
+                               MeterRegistry meterRegistry) {
+        Map<String, Cache> created = new LinkedHashMap<>();
+
+        cacheTtls.forEach((name, ttl) -> {
+            Duration effectiveLocalTtl = localTtl.compareTo(ttl) < 0 ? localTtl : ttl;
+
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.newBuilder()
+                    .maximumSize(localMaxSize)
+                    .expireAfterWrite(effectiveLocalTtl)
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, local, name + ".l1");
+
+            created.put(name, new TwoTierCache(name, local, remoteCacheManager.getCache(name)));
+        });
+
+        this.caches = Collections.unmodifiableMap(created);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+}
@@ -1,13 +1,18 @@
 package com.movieSearch.client;
 
 import com.movieSearch.dto.FeatureFlagResponseDTO;
+import com.movieSearch.dto.FlagChangesDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientException;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
 
 import java.time.Duration;
 import java.util.List;
@@ -17,11 +22,16 @@ public class FeatureFlagClient {
 
     private static final Logger logger = LoggerFactory.getLogger(FeatureFlagClient.class);
 
+    // Upper bound for a whole sync request, including reading a large flag list
+    private static final Duration SYNC_TIMEOUT = Duration.ofSeconds(10);
+
     private final WebClient webClient;
 
     public FeatureFlagClient(WebClient.Builder webClientBuilder,
+                             @Qualifier("featureFlagHttpClient") HttpClient httpClient,
                              @Value("${feature-flag.service.url:http://localhost:8080}") String serviceUrl) {
         this.webClient = webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .baseUrl(serviceUrl)
                 .build();
 
@@ -32,93 +42,127 @@ public class FeatureFlagClient {
      * Fetch all current feature flags from Feature Flag Service
      */
     public List<FeatureFlagResponseDTO> getAllFlags() {
-        logger.info("Fetching all feature flags from Feature Flag Service");
-
-        try {
-            Mono<List<FeatureFlagResponseDTO>> responseMono = webClient
-                    .get()
-                    .uri("/api/flags")
-                    .retrieve()
-                    .bodyToFlux(FeatureFlagResponseDTO.class)
-                    .collectList()
-                    .timeout(Duration.ofSeconds(5));
-
-            List<FeatureFlagResponseDTO> flags = responseMono.block();
-
-            if (flags != null) {
-                logger.info("Successfully fetched {} feature flags", flags.size());
-                flags.forEach(flag ->
-                        logger.debug("Flag: {} = {}", flag.getName(), flag.getEnabled()));
-            } else {
-                logger.warn("Received null response when fetching feature flags");
-            }
-
-            return flags;
-
-        } catch (WebClientException e) {
-            logger.error("Error fetching feature flags from service", e);
-            throw new FeatureFlagSyncException("Failed to sync feature flags: " + e.getMessage(), e);
-        } catch (Exception e) {
-            logger.error("Unexpected error while fetching feature flags", e);
-            throw new FeatureFlagSyncException("Unexpected error during flag sync", e);
-        }
+        return getAllFlagsReactive().block();
+    }
+
+    /**
+     * Non-blocking fetch of all current feature flags
+     */
+    public Mono<List<FeatureFlagResponseDTO>> getAllFlagsReactive() {
+        return Mono.defer(() -> {
+                    logger.info("Fetching all feature flags from Feature Flag Service");
+                    return webClient
+                            .get()
+                            .uri("/api/flags")
+                            .retrieve()
+                            .bodyToFlux(FeatureFlagResponseDTO.class)
+                            .collectList()
+                            .timeout(Duration.ofSeconds(5));
+                })
+                .doOnNext(flags -> {
+                    logger.info("Successfully fetched {} feature flags", flags.size());
+                    flags.forEach(flag ->
+                            logger.debug("Flag: {} = {}", flag.getName(), flag.getEnabled()));
+                })
+                .onErrorMap(e -> {
+                    if (e instanceof WebClientException) {
+                        logger.error("Error fetching feature flags from service", e);
+                        return new FeatureFlagSyncException("Failed to sync feature flags: " + e.getMessage(), e);
+                    }
+                    logger.error("Unexpected error while fetching feature flags", e);
+                    return new FeatureFlagSyncException("Unexpected error during flag sync", e);
+                });
+    }
+
+    /**
+     * Fetch the summary view (id, name, enabled, targeting) of every flag.
+     * The ETag header carries the flag-set version the list was read at.
+     */
+    public ResponseEntity<List<FeatureFlagResponseDTO>> getFlagSummaries() {
+        return webClient
+                .get()
+                .uri("/api/flags?view=SUMMARY")
+                .retrieve()
+                .toEntityList(FeatureFlagResponseDTO.class)
+                .timeout(SYNC_TIMEOUT)
+                .block();
+    }
+
+    /**
+     * Fetch the flag changes after the given flag-set version.
+     * Answers 304 Not Modified without a body when nothing changed since.
+     */
+    public ResponseEntity<FlagChangesDTO> getChangesSince(long version) {
+        return webClient
+                .get()
+                .uri(uriBuilder -> uriBuilder.path("/api/flags").queryParam("sinceVersion", version).build())
+                .ifNoneMatch("\"" + version + "\"")
+                .retrieve()
+                .toEntity(FlagChangesDTO.class)
+                .timeout(SYNC_TIMEOUT)
+                .block();
     }
 
     /**
      * Fetch a specific feature flag by name
      */
     public FeatureFlagResponseDTO getFlagByName(String flagName) {
-        logger.debug("Fetching feature flag: {}", flagName);
-
-        try {
-            Mono<FeatureFlagResponseDTO> responseMono = webClient
-                    .get()
-                    .uri("/api/flags/name/{name}", flagName)
-                    .retrieve()
-                    .bodyToMono(FeatureFlagResponseDTO.class)
-                    .timeout(Duration.ofSeconds(5));
-
-            FeatureFlagResponseDTO flag = responseMono.block();
-
-            if (flag != null) {
-                logger.debug("Successfully fetched flag: {} = {}", flag.getName(), flag.getEnabled());
-            }
-
-            return flag;
-
-        } catch (WebClientException e) {
-            logger.warn("Error fetching flag '{}': {}", flagName, e.getMessage());
-            return null; // Return null for missing flags instead of throwing exception
-        } catch (Exception e) {
-            logger.error("Unexpected error while fetching flag: {}", flagName, e);
-            return null;
-        }
+        return getFlagByNameReactive(flagName).block();
+    }
+
+    /**
+     * Non-blocking fetch of a specific feature flag; completes empty if it cannot be fetched
+     */
+    public Mono<FeatureFlagResponseDTO> getFlagByNameReactive(String flagName) {
+        return Mono.defer(() -> {
+                    logger.debug("Fetching feature flag: {}", flagName);
+                    return webClient
+                            .get()
+                            .uri("/api/flags/name/{name}", flagName)
+                            .retrieve()
+                            .bodyToMono(FeatureFlagResponseDTO.class)
+                            .timeout(Duration.ofSeconds(5));
+                })
+                .doOnNext(flag -> logger.debug("Successfully fetched flag: {} = {}", flag.getName(), flag.getEnabled()))
+                .onErrorResume(e -> {
+                    // Return empty for missing flags instead of throwing exception
+                    if (e instanceof WebClientException) {
+                        logger.warn("Error fetching flag '{}': {}", flagName, e.getMessage());
+                    } else {
+                        logger.error("Unexpected error while fetching flag: {}", flagName, e);
+                    }
+                    return Mono.empty();
+                });
     }
 
     /**
      * Health check for Feature Flag Service
      */
     public boolean isServiceHealthy() {
-        try {
-            logger.debug("Checking Feature Flag Service health");
-
-            Mono<String> responseMono = webClient
-                    .get()
-                    .uri("/api/flags/health")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(3));
-
-            String response = responseMono.block();
-            boolean healthy = response != null && response.contains("healthy");
-
-            logger.debug("Feature Flag Service health check: {}", healthy ? "HEALTHY" : "UNHEALTHY");
-            return healthy;
+        return Boolean.TRUE.equals(isServiceHealthyReactive().block());
+    }
 
-        } catch (Exception e) {
-            logger.warn("Feature Flag Service health check failed", e);
-            return false;
-        }
+    /**
+     * Non-blocking health check for Feature Flag Service
+     */
+    public Mono<Boolean> isServiceHealthyReactive() {
+        return Mono.defer(() -> {
+                    logger.debug("Checking Feature Flag Service health");
+                    return webClient
+                            .get()
+                            .uri("/api/flags/health")
+                            .retrieve()
+                            .bodyToMono(String.class)
+                            .timeout(Duration.ofSeconds(3));
+                })
+                .map(response -> response.contains("healthy"))
+                .defaultIfEmpty(false)
+                .doOnNext(healthy ->
+                        logger.debug("Feature Flag Service health check: {}", healthy ? "HEALTHY" : "UNHEALTHY"))
+                .onErrorResume(e -> {
+                    logger.warn("Feature Flag Service health check failed", e);
+                    return Mono.just(false);
+                });
     }
 
     /**
@@ -0,0 +1,146 @@
+package com.movieSearch.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.movieSearch.dto.MovieSearchResponseDTO;
+import com.movieSearch.exception.ExternalApiException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-operation circuit breakers around OMDB calls.
+ * Opens on a high failure or slow-call rate over a sliding window, then lets a few probe calls through
+ * once the wait time has passed. While open, callers get the last known good response for their key,
+ * or fail fast with {@link ExternalApiException} instead of waiting for the upstream timeout.
+ */
+@Component
+public class OMDBCircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(OMDBCircuitBreaker.class);
+
+    public static final String SEARCH = "search";
+    public static final String DETAILS = "details";
+
+    private final Map<String, CircuitBreaker> breakers = new LinkedHashMap<>();
+    private final Cache<String, MovieSearchResponseDTO> lastKnownGood;
+    private final MeterRegistry meterRegistry;
+
+    public OMDBCircuitBreaker(MeterRegistry meterRegistry,
+                              @Value("${omdb.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+                              @Value("${omdb.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                              @Value("${omdb.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+                              @Value("${omdb.circuit-breaker.slow-call-rate-threshold:50}") float slowCallRateThreshold,
+                              @Value("${omdb.circuit-breaker.slow-call-duration:3s}") Duration slowCallDuration,
+                              @Value("${omdb.circuit-breaker.open-duration:30s}") Duration openDuration,
+                              @Value("${omdb.circuit-breaker.half-open-calls:3}") int halfOpenCalls,
+                              @Value("${omdb.circuit-breaker.stale.max-size:10000}") long staleMaxSize,
+                              @Value("${omdb.circuit-breaker.stale.ttl:6h}") Duration staleTtl) {
+        this.meterRegistry = meterRegistry;
+
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slowCallDurationThreshold(slowCallDuration)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        for (String operation : new String[]{SEARCH, DETAILS}) {
+            CircuitBreaker breaker = registry.circuitBreaker("omdb-" + operation);
+            breaker.getEventPublisher().onStateTransition(event -> {
+                logger.warn("OMDB {} circuit breaker: {}", operation, event.getStateTransition());
+                Counter.builder("omdb.circuitbreaker.transitions")
+                        .description("OMDB circuit breaker state transitions")
+                        .tag("operation", operation)
+                        .tag("from", event.getStateTransition().getFromState().name())
+                        .tag("to", event.getStateTransition().getToState().name())
+                        .register(meterRegistry)
+                        .increment();
+            });
+            breakers.put(operation, breaker);
+        }
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        this.lastKnownGood = Caffeine.newBuilder()
+                .maximumSize(staleMaxSize)
+                .expireAfterWrite(staleTtl)
+                .build();
+    }
+
+    /**
+     * Run an upstream call through the operation's breaker, falling back to the last good response when open
+     */
+    public Mono<MovieSearchResponseDTO> execute(String operation, String key, Mono<MovieSearchResponseDTO> call) {
+        CircuitBreaker breaker = breakers.get(operation);
+
+        return call
+                .transformDeferred(CircuitBreakerOperator.of(breaker))
+                .doOnNext(response -> {
+                    if ("True".equalsIgnoreCase(response.getResponse())) {
+                        lastKnownGood.put(operation + ":" + key, response);
+                    }
+                })
+                .onErrorResume(CallNotPermittedException.class, e -> fallback(operation, key));
+    }
+
+    /**
+     * Current state of each breaker, keyed by operation
+     */
+    public Map<String, String> getStates() {
+        Map<String, String> states = new LinkedHashMap<>();
+        breakers.forEach((operation, breaker) -> states.put(operation, breaker.getState().name()));
+        return states;
+    }
+
+    /**
+     * True when any operation is currently rejecting calls
+     */
+    public boolean isOpen() {
+        return breakers.values().stream().anyMatch(breaker ->
+                breaker.getState() == CircuitBreaker.State.OPEN
+                        || breaker.getState() == CircuitBreaker.State.FORCED_OPEN);
+    }
+
+    private Mono<MovieSearchResponseDTO> fallback(String operation, String key) {
+        MovieSearchResponseDTO stale = lastKnownGood.getIfPresent(operation + ":" + key);
+
+        if (stale != null) {
+            logger.info("OMDB {} circuit open - serving stale response for '{}'", operation, key);
+            countFallback(operation, "stale");
+            return Mono.just(stale);
+        }
+
+        logger.warn("OMDB {} circuit open - rejecting request for '{}'", operation, key);
+        countFallback(operation, "rejected");
+        return Mono.error(new ExternalApiException("Movie database is temporarily unavailable"));
+    }
+
+    private void countFallback(String operation, String outcome) {
+        Counter.builder("omdb.circuitbreaker.fallback")
+                .description("Calls answered while the OMDB circuit was open")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
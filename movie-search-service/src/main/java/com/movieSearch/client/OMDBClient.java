@@ -1,16 +1,22 @@
 package com.movieSearch.client;
 
+import com.movieSearch.cache.MovieCacheKeys;
 import com.movieSearch.dto.MovieSearchResponseDTO;
 import com.movieSearch.exception.ExternalApiException;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientException;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
 
 import java.time.Duration;
+import java.util.Map;
 
 @Component
 public class OMDBClient {
@@ -20,13 +26,32 @@ public class OMDBClient {
     private final WebClient webClient;
     private final String apiKey;
 
+    // Concurrent identical lookups share a single upstream call
+    private final RequestCoalescer<MovieSearchResponseDTO> searchCoalescer;
+    private final RequestCoalescer<MovieSearchResponseDTO> detailsCoalescer;
+
+    private final OMDBCircuitBreaker circuitBreaker;
+    private final RequestHedger hedger;
+    private final OMDBHealthMonitor healthMonitor;
+
     public OMDBClient(WebClient.Builder webClientBuilder,
+                      @Qualifier("omdbHttpClient") HttpClient httpClient,
+                      MeterRegistry meterRegistry,
+                      OMDBCircuitBreaker circuitBreaker,
+                      RequestHedger hedger,
+                      OMDBHealthMonitor healthMonitor,
                       @Value("${omdb.api.key}") String apiKey,
                       @Value("${omdb.api.url:http://www.omdbapi.com/}") String apiUrl) {
         this.apiKey = apiKey;
         this.webClient = webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .baseUrl(apiUrl)
                 .build();
+        this.searchCoalescer = new RequestCoalescer<>("search", meterRegistry);
+        this.detailsCoalescer = new RequestCoalescer<>("details", meterRegistry);
+        this.circuitBreaker = circuitBreaker;
+        this.hedger = hedger;
+        this.healthMonitor = healthMonitor;
 
         logger.info("OMDB Client initialized with API URL: {}", apiUrl);
     }
@@ -49,101 +74,135 @@ public class OMDBClient {
      * Search for movies by title with type filter
      */
     public MovieSearchResponseDTO searchMovies(String title, int page, String type) {
-        logger.info("Searching movies with title: '{}', page: {}, type: {}", title, page, type);
-
-        try {
-            Mono<MovieSearchResponseDTO> responseMono = webClient
-                    .get()
-                    .uri(uriBuilder -> {
-                        var builder = uriBuilder
-                                .queryParam("apikey", apiKey)
-                                .queryParam("s", title)
-                                .queryParam("page", page);
-
-                        if (type != null && !type.trim().isEmpty()) {
-                            builder.queryParam("type", type);
-                        }
-
-                        return builder.build();
-                    })
-                    .retrieve()
-                    .bodyToMono(MovieSearchResponseDTO.class)
-                    .timeout(Duration.ofSeconds(10));
-
-            MovieSearchResponseDTO response = responseMono.block();
-
-            if (response == null) {
-                logger.warn("Received null response from OMDB API for title: {}", title);
-                throw new ExternalApiException("No response received from movie database");
-            }
-
-            if ("False".equals(response.getResponse()) && response.getError() != null) {
-                logger.warn("OMDB API returned error for title '{}': {}", title, response.getError());
-                // Don't throw exception for "Movie not found" - return the response as is
-                // The frontend can handle this case
-            }
-
-            logger.debug("Successfully retrieved {} results for title: {}",
-                    response.getSearch() != null ? response.getSearch().size() : 0, title);
-
-            return response;
-
-        } catch (WebClientException e) {
-            logger.error("Error calling OMDB API for title: {}", title, e);
-            throw new ExternalApiException("Failed to search movies: " + e.getMessage(), e);
-        } catch (Exception e) {
-            logger.error("Unexpected error while searching movies for title: {}", title, e);
-            throw new ExternalApiException("Unexpected error occurred while searching movies", e);
-        }
+        return searchMoviesReactive(title, page, type).block();
+    }
+
+    /**
+     * Non-blocking search for movies by title with type filter
+     */
+    public Mono<MovieSearchResponseDTO> searchMoviesReactive(String title, int page, String type) {
+        return Mono.defer(() -> {
+                    logger.info("Searching movies with title: '{}', page: {}, type: {}", title, page, type);
+                    String key = MovieCacheKeys.search(title, page, type);
+                    return searchCoalescer.execute(key,
+                            () -> protect(OMDBCircuitBreaker.SEARCH, key, requestSearch(title, page, type)));
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    logger.warn("Received null response from OMDB API for title: {}", title);
+                    return Mono.error(new ExternalApiException("No response received from movie database"));
+                }))
+                .doOnNext(response -> {
+                    if ("False".equals(response.getResponse()) && response.getError() != null) {
+                        logger.warn("OMDB API returned error for title '{}': {}", title, response.getError());
+                        // Don't throw exception for "Movie not found" - return the response as is
+                        // The frontend can handle this case
+                    }
+
+                    logger.debug("Successfully retrieved {} results for title: {}",
+                            response.getSearch() != null ? response.getSearch().size() : 0, title);
+                })
+                .onErrorMap(e -> !(e instanceof ExternalApiException), e -> {
+                    if (e instanceof WebClientException) {
+                        logger.error("Error calling OMDB API for title: {}", title, e);
+                        return new ExternalApiException("Failed to search movies: " + e.getMessage(), e);
+                    }
+                    logger.error("Unexpected error while searching movies for title: {}", title, e);
+                    return new ExternalApiException("Unexpected error occurred while searching movies", e);
+                });
     }
 
     /**
      * Get movie details by IMDB ID
      */
     public MovieSearchResponseDTO getMovieById(String imdbId) {
-        logger.info("Getting movie details for IMDB ID: {}", imdbId);
+        return getMovieByIdReactive(imdbId).block();
+    }
 
-        try {
-            Mono<MovieSearchResponseDTO> responseMono = webClient
-                    .get()
-                    .uri(uriBuilder -> uriBuilder
+    /**
+     * Non-blocking lookup of movie details by IMDB ID
+     */
+    public Mono<MovieSearchResponseDTO> getMovieByIdReactive(String imdbId) {
+        return Mono.defer(() -> {
+                    logger.info("Getting movie details for IMDB ID: {}", imdbId);
+                    String key = MovieCacheKeys.details(imdbId);
+                    return detailsCoalescer.execute(key,
+                            () -> protect(OMDBCircuitBreaker.DETAILS, key, requestDetails(imdbId)));
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    logger.warn("Received null response from OMDB API for IMDB ID: {}", imdbId);
+                    return Mono.error(new ExternalApiException("No response received from movie database"));
+                }))
+                .doOnNext(response -> logger.debug("Successfully retrieved movie details for IMDB ID: {}", imdbId))
+                .onErrorMap(e -> !(e instanceof ExternalApiException), e -> {
+                    if (e instanceof WebClientException) {
+                        logger.error("Error calling OMDB API for IMDB ID: {}", imdbId, e);
+                        return new ExternalApiException("Failed to get movie details: " + e.getMessage(), e);
+                    }
+                    logger.error("Unexpected error while getting movie details for IMDB ID: {}", imdbId, e);
+                    return new ExternalApiException("Unexpected error occurred while getting movie details", e);
+                });
+    }
+
+    /**
+     * Current waiter count per in-flight upstream request, keyed by operation
+     */
+    public Map<String, Map<String, Integer>> getInFlightRequests() {
+        return Map.of(
+                "search", searchCoalescer.getInFlightWaiters(),
+                "details", detailsCoalescer.getInFlightWaiters()
+        );
+    }
+
+    /**
+     * Circuit breaker state per operation
+     */
+    public Map<String, String> getCircuitStates() {
+        return circuitBreaker.getStates();
+    }
+
+    /**
+     * Circuit breaker around health tracking around the (possibly hedged) upstream call
+     */
+    private Mono<MovieSearchResponseDTO> protect(String operation, String key, Mono<MovieSearchResponseDTO> call) {
+        return circuitBreaker.execute(operation, key, healthMonitor.track(hedger.execute(operation, call)));
+    }
+
+    private Mono<MovieSearchResponseDTO> requestSearch(String title, int page, String type) {
+        return webClient
+                .get()
+                .uri(uriBuilder -> {
+                    var builder = uriBuilder
                             .queryParam("apikey", apiKey)
-                            .queryParam("i", imdbId)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(MovieSearchResponseDTO.class)
-                    .timeout(Duration.ofSeconds(10));
-
-            MovieSearchResponseDTO response = responseMono.block();
-
-            if (response == null) {
-                logger.warn("Received null response from OMDB API for IMDB ID: {}", imdbId);
-                throw new ExternalApiException("No response received from movie database");
-            }
-
-            logger.debug("Successfully retrieved movie details for IMDB ID: {}", imdbId);
-            return response;
-
-        } catch (WebClientException e) {
-            logger.error("Error calling OMDB API for IMDB ID: {}", imdbId, e);
-            throw new ExternalApiException("Failed to get movie details: " + e.getMessage(), e);
-        } catch (Exception e) {
-            logger.error("Unexpected error while getting movie details for IMDB ID: {}", imdbId, e);
-            throw new ExternalApiException("Unexpected error occurred while getting movie details", e);
-        }
+                            .queryParam("s", title)
+                            .queryParam("page", page);
+
+                    if (type != null && !type.trim().isEmpty()) {
+                        builder.queryParam("type", type);
+                    }
+
+                    return builder.build();
+                })
+                .retrieve()
+                .bodyToMono(MovieSearchResponseDTO.class)
+                .timeout(Duration.ofSeconds(10));
+    }
+
+    private Mono<MovieSearchResponseDTO> requestDetails(String imdbId) {
+        return webClient
+                .get()
+                .uri(uriBuilder -> uriBuilder
+                        .queryParam("apikey", apiKey)
+                        .queryParam("i", imdbId)
+                        .build())
+                .retrieve()
+                .bodyToMono(MovieSearchResponseDTO.class)
+                .timeout(Duration.ofSeconds(10));
     }
 
     /**
-     * Health check for OMDB API
+     * Health check for OMDB API, answered from recent call outcomes without calling OMDB
      */
     public boolean isApiHealthy() {
-        try {
-            // Try a simple search to check if API is responsive
-            MovieSearchResponseDTO response = searchMovies("test", 1);
-            return response != null;
-        } catch (Exception e) {
-            logger.warn("OMDB API health check failed", e);
-            return false;
-        }
+        return !circuitBreaker.isOpen() && healthMonitor.isHealthy();
     }
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.movieSearch.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OMDB health derived passively from the outcome and latency of real upstream calls.
+ * Health checks read the cached state instead of calling OMDB; {@link OMDBHealthProbe}
+ * only adds a probe call when there has been no traffic for a while. The reported status is also
+ * DOWN while an {@link OMDBCircuitBreaker} is open, matching {@link OMDBClient#isApiHealthy()}.
+ */
+@Component("omdbHealthIndicator")
+public class OMDBHealthMonitor implements HealthIndicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(OMDBHealthMonitor.class);
+
+    // Weight of the newest sample in the latency moving average
+    private static final double LATENCY_ALPHA = 0.2;
+
+    private final OMDBCircuitBreaker circuitBreaker;
+    private final int failureThreshold;
+    private final Duration slowThreshold;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile double averageLatencyMillis;
+    private volatile Instant lastCallAt;
+    private volatile Instant lastSuccessAt;
+    private volatile String lastError;
+    private volatile boolean healthy = true;
+
+    public OMDBHealthMonitor(OMDBCircuitBreaker circuitBreaker,
+                             @Value("${omdb.health.failure-threshold:3}") int failureThreshold,
+                             @Value("${omdb.health.slow-threshold:5s}") Duration slowThreshold) {
+        this.circuitBreaker = circuitBreaker;
+        this.failureThreshold = failureThreshold;
+        this.slowThreshold = slowThreshold;
+    }
+
+    /**
+     * Record the outcome and latency of an upstream call
+     */
+    public <V> Mono<V> track(Mono<V> call) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call
+                    .doOnNext(value -> recordSuccess(Duration.ofNanos(System.nanoTime() - start)))
+                    .doOnError(this::recordFailure);
+        });
+    }
+
+    /**
+     * Last known OMDB health from call outcomes alone; never calls OMDB
+     */
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * Time since the last upstream call, or null if there has been none
+     */
+    public Duration getIdleTime() {
+        Instant last = lastCallAt;
+        return last != null ? Duration.between(last, Instant.now()) : null;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = healthy && !circuitBreaker.isOpen() ? Health.up() : Health.down();
+        builder.withDetail("circuitBreakers", circuitBreaker.getStates())
+                .withDetail("consecutiveFailures", consecutiveFailures.get())
+                .withDetail("averageLatencyMs", Math.round(averageLatencyMillis));
+        if (lastSuccessAt != null) {
+            builder.withDetail("lastSuccess", lastSuccessAt.toString());
+        }
+        if (lastError != null && !healthy) {
+            builder.withDetail("lastError", lastError);
+        }
+        return builder.build();
+    }
+
+    private void recordSuccess(Duration latency) {
+        Instant now = Instant.now();
+        lastCallAt = now;
+        lastSuccessAt = now;
+        consecutiveFailures.set(0);
+
+        double millis = latency.toNanos() / 1_000_000.0;
+        averageLatencyMillis = averageLatencyMillis == 0
+                ? millis
+                : LATENCY_ALPHA * millis + (1 - LATENCY_ALPHA) * averageLatencyMillis;
+
+        update();
+    }
+
+    private void recordFailure(Throwable error) {
+        lastCallAt = Instant.now();
+        lastError = error.getMessage();
+        consecutiveFailures.incrementAndGet();
+        update();
+    }
+
+    private void update() {
+        boolean nowHealthy = consecutiveFailures.get() < failureThreshold
+                && averageLatencyMillis < slowThreshold.toMillis();
+
+        if (nowHealthy != healthy) {
+            logger.warn("OMDB API health changed to {} (consecutive failures: {}, average latency: {} ms)",
+                    nowHealthy ? "UP" : "DOWN", consecutiveFailures.get(), Math.round(averageLatencyMillis));
+        }
+        healthy = nowHealthy;
+    }
+}
@@ -0,0 +1,51 @@
+package com.movieSearch.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Keeps OMDB health fresh when there is no real traffic to observe.
+ * A probe search is sent only after the upstream has been idle for the configured time.
+ */
+@Component
+public class OMDBHealthProbe {
+
+    private static final Logger logger = LoggerFactory.getLogger(OMDBHealthProbe.class);
+
+    private final OMDBClient omdbClient;
+    private final OMDBHealthMonitor healthMonitor;
+    private final Duration idleThreshold;
+
+    public OMDBHealthProbe(OMDBClient omdbClient,
+                           OMDBHealthMonitor healthMonitor,
+                           @Value("${omdb.health.idle-threshold:60s}") Duration idleThreshold) {
+        this.omdbClient = omdbClient;
+        this.healthMonitor = healthMonitor;
+        this.idleThreshold = idleThreshold;
+    }
+
+    /**
+     * Probe OMDB if no real call has been made recently
+     */
+    @Scheduled(fixedDelayString = "${omdb.health.probe-interval:PT30S}",
+            initialDelayString = "${omdb.health.probe-interval:PT30S}")
+    public void probeIfIdle() {
+        Duration idle = healthMonitor.getIdleTime();
+        if (idle != null && idle.compareTo(idleThreshold) < 0) {
+            return;
+        }
+
+        logger.debug("OMDB idle for {} - sending health probe", idle);
+        try {
+            // The outcome is recorded by the health monitor like any other call
+            omdbClient.searchMovies("test", 1);
+        } catch (Exception e) {
+            logger.warn("OMDB health probe failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.movieSearch.client;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint listing in-flight OMDB requests and how many callers wait on each
+ */
+@Component
+@Endpoint(id = "omdbrequests")
+public class OMDBRequestsEndpoint {
+
+    private final OMDBClient omdbClient;
+
+    public OMDBRequestsEndpoint(OMDBClient omdbClient) {
+        this.omdbClient = omdbClient;
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, Integer>> inFlightRequests() {
+        return omdbClient.getInFlightRequests();
+    }
+}
@@ -0,0 +1,102 @@
+package com.movieSearch.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution: concurrent calls with the same key share one upstream call.
+ * The first caller starts the call; later callers wait on the same result until it completes.
+ */
+public class RequestCoalescer<V> {
+
+    private final Map<String, Flight<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaders;
+    private final Counter followers;
+    private final DistributionSummary waitersPerCall;
+
+    public RequestCoalescer(String operation, MeterRegistry meterRegistry) {
+        this.leaders = Counter.builder("omdb.requests.coalescing")
+                .description("Calls that started an upstream OMDB request")
+                .tag("operation", operation)
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.followers = Counter.builder("omdb.requests.coalescing")
+                .description("Calls that joined an in-flight upstream OMDB request")
+                .tag("operation", operation)
+                .tag("role", "follower")
+                .register(meterRegistry);
+        this.waitersPerCall = DistributionSummary.builder("omdb.requests.coalescing.waiters")
+                .description("Number of callers served by each upstream OMDB request")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        meterRegistry.gauge("omdb.requests.inflight",
+                Tags.of("operation", operation), inFlight, Map::size);
+    }
+
+    /**
+     * Execute the upstream call for this key, or join the one already in flight
+     */
+    public Mono<V> execute(String key, Supplier<Mono<V>> upstream) {
+        return Mono.defer(() -> {
+            Flight<V> created = new Flight<>();
+            Flight<V> existing = inFlight.putIfAbsent(key, created);
+
+            if (existing != null) {
+                existing.waiters.incrementAndGet();
+                followers.increment();
+                return Mono.fromFuture(existing.result, true);
+            }
+
+            leaders.increment();
+            start(key, created, upstream);
+            return Mono.fromFuture(created.result, true);
+        });
+    }
+
+    /**
+     * Current waiter count per in-flight key
+     */
+    public Map<String, Integer> getInFlightWaiters() {
+        Map<String, Integer> snapshot = new LinkedHashMap<>();
+        inFlight.forEach((key, flight) -> snapshot.put(key, flight.waiters.get()));
+        return snapshot;
+    }
+
+    private void start(String key, Flight<V> flight, Supplier<Mono<V>> upstream) {
+        Mono<V> call;
+        try {
+            call = upstream.get();
+        } catch (RuntimeException e) {
+            call = Mono.error(e);
+        }
+
+        call.subscribe(
+                value -> complete(key, flight, () -> flight.result.complete(value)),
+                error -> complete(key, flight, () -> flight.result.completeExceptionally(error)),
+                () -> complete(key, flight, () -> flight.result.complete(null)));
+    }
+
+    private void complete(String key, Flight<V> flight, Runnable completion) {
+        // Remove before completing so callers arriving afterwards start a fresh call
+        if (inFlight.remove(key, flight)) {
+            waitersPerCall.record(flight.waiters.get());
+            completion.run();
+        }
+    }
+
+    private static final class Flight<V> {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger(1);
+    }
+}
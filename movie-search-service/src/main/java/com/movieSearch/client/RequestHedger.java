@@ -0,0 +1,186 @@
+package com.movieSearch.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Hedged requests: if an upstream call has not answered within the recent latency percentile for its
+ * operation, an identical second call is started and whichever answers first wins; the other is cancelled.
+ * Hedges draw from a shared budget that grows by a fixed fraction of each request, which caps the extra
+ * upstream traffic (e.g. 5%) no matter how slow the upstream gets.
+ */
+@Component
+public class RequestHedger {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestHedger.class);
+
+    private static final int SAMPLE_WINDOW = 512;
+    private static final int RECOMPUTE_EVERY = 32;
+    private static final long TOKEN = 1_000;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final Duration initialDelay;
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong budget;
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+
+    public RequestHedger(MeterRegistry meterRegistry,
+                         @Value("${omdb.hedging.enabled:false}") boolean enabled,
+                         @Value("${omdb.hedging.percentile:0.95}") double percentile,
+                         @Value("${omdb.hedging.initial-delay:1s}") Duration initialDelay,
+                         @Value("${omdb.hedging.min-delay:50ms}") Duration minDelay,
+                         @Value("${omdb.hedging.max-delay:3s}") Duration maxDelay,
+                         @Value("${omdb.hedging.budget-ratio:0.05}") double budgetRatio,
+                         @Value("${omdb.hedging.budget-burst:10}") int budgetBurst) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.initialDelay = initialDelay;
+        this.minDelay = minDelay;
+        this.maxDelay = maxDelay;
+        this.depositPerRequest = Math.round(budgetRatio * TOKEN);
+        this.maxBalance = budgetBurst * TOKEN;
+        this.budget = new AtomicLong(maxBalance);
+
+        logger.info("OMDB request hedging {} (p{} delay, budget {}%)",
+                enabled ? "enabled" : "disabled", Math.round(percentile * 100), Math.round(budgetRatio * 100));
+    }
+
+    /**
+     * Run the call, hedging it with a second subscription if it is slower than usual for this operation
+     */
+    public <V> Mono<V> execute(String operation, Mono<V> call) {
+        if (!enabled) {
+            return call;
+        }
+
+        return Mono.defer(() -> {
+            LatencyWindow window = windows.computeIfAbsent(operation, this::newWindow);
+            deposit();
+
+            AtomicBoolean hedged = new AtomicBoolean();
+            Mono<V> primary = timed(call, window);
+
+            // Hedge failures are ignored so they never beat a primary that may still succeed
+            Mono<V> hedge = Mono.delay(window.delay())
+                    .flatMap(tick -> {
+                        if (!tryWithdraw()) {
+                            count(operation, "denied");
+                            return Mono.<V>never();
+                        }
+                        hedged.set(true);
+                        count(operation, "fired");
+                        return timed(call, window)
+                                .doOnNext(value -> count(operation, "won"))
+                                .onErrorResume(e -> Mono.never());
+                    });
+
+            return Mono.firstWithSignal(primary, hedge)
+                    .doOnNext(value -> {
+                        if (!hedged.get()) {
+                            count(operation, "none");
+                        }
+                    });
+        });
+    }
+
+    private LatencyWindow newWindow(String operation) {
+        LatencyWindow window = new LatencyWindow();
+        TimeGauge.builder("omdb.requests.hedge.delay", window, TimeUnit.NANOSECONDS, w -> w.delay().toNanos())
+                .description("Current delay before a hedge request is sent")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        return window;
+    }
+
+    private <V> Mono<V> timed(Mono<V> call, LatencyWindow window) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call.doOnNext(value -> window.record(System.nanoTime() - start));
+        });
+    }
+
+    private void deposit() {
+        budget.accumulateAndGet(depositPerRequest, (balance, amount) -> Math.min(maxBalance, balance + amount));
+    }
+
+    private boolean tryWithdraw() {
+        long balance;
+        do {
+            balance = budget.get();
+            if (balance < TOKEN) {
+                return false;
+            }
+        } while (!budget.compareAndSet(balance, balance - TOKEN));
+        return true;
+    }
+
+    private void count(String operation, String outcome) {
+        Counter.builder("omdb.requests.hedge")
+                .description("Hedging decisions for OMDB requests (fired, won, denied by budget, none)")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Ring buffer of recent successful call latencies; the percentile is recomputed every few samples
+     */
+    private final class LatencyWindow {
+
+        private final AtomicLongArray samples = new AtomicLongArray(SAMPLE_WINDOW);
+        private final AtomicLong recorded = new AtomicLong();
+        private volatile Duration delay = initialDelay;
+
+        void record(long nanos) {
+            long n = recorded.getAndIncrement();
+            samples.set((int) (n % SAMPLE_WINDOW), nanos);
+            if ((n + 1) % RECOMPUTE_EVERY == 0) {
+                recompute(Math.min(n + 1, SAMPLE_WINDOW));
+            }
+        }
+
+        Duration delay() {
+            return delay;
+        }
+
+        private void recompute(long count) {
+            long[] sorted = new long[(int) count];
+            for (int i = 0; i < count; i++) {
+                sorted[i] = samples.get(i);
+            }
+            Arrays.sort(sorted);
+
+            int index = (int) Math.max(0, Math.min(count - 1, Math.ceil(percentile * count) - 1));
+            Duration value = Duration.ofNanos(sorted[index]);
+            if (value.compareTo(minDelay) < 0) {
+                value = minDelay;
+            } else if (value.compareTo(maxDelay) > 0) {
+                value = maxDelay;
+            }
+            delay = value;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.movieSearch.config;
+
+import com.movieSearch.cache.MovieCacheKeys;
+import com.movieSearch.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+public class CacheConfig {
+
+    @Value("${movie-cache.l1.max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${movie-cache.l1.ttl:5m}")
+    private Duration localTtl;
+
+    @Value("${movie-cache.search.ttl:30m}")
+    private Duration searchTtl;
+
+    @Value("${movie-cache.details.ttl:24h}")
+    private Duration detailsTtl;
+
+    @Value("${movie-cache.key-prefix:movie-search:}")
+    private String keyPrefix;
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, MeterRegistry meterRegistry) {
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .prefixCacheNameWith(keyPrefix)
+                .disableCachingNullValues()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair
+                        .fromSerializer(new GenericJackson2JsonRedisSerializer()));
+
+        Map<String, Duration> cacheTtls = Map.of(
+                MovieCacheKeys.MOVIE_SEARCH_CACHE, searchTtl,
+                MovieCacheKeys.MOVIE_DETAILS_CACHE, detailsTtl
+        );
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults)
+                .withInitialCacheConfigurations(Map.of(
+                        MovieCacheKeys.MOVIE_SEARCH_CACHE, defaults.entryTtl(searchTtl),
+                        MovieCacheKeys.MOVIE_DETAILS_CACHE, defaults.entryTtl(detailsTtl)
+                ))
+                .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoTierCacheManager(redisCacheManager, cacheTtls, localMaxSize, localTtl, meterRegistry);
+    }
+}
@@ -1,21 +1,35 @@
 package com.movieSearch.config;
 
 import com.movieSearch.service.FlagChangeEventListener;
+import com.movieSearch.service.FlagChangeStreamListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+
+import java.time.Duration;
 
 @Configuration
 public class RedisConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(RedisConfig.class);
+
     @Value("${spring.data.redis.host:localhost}")
     private String redisHost;
 
@@ -23,6 +37,10 @@ public class RedisConfig {
     private int redisPort;
 
     private static final String FEATURE_FLAG_CHANNEL = "feature-flags-updates";
+    private static final String FEATURE_FLAG_STREAM = "feature-flags-events";
+
+    // Pause after a failed stream read so a Redis outage does not turn into a hot retry loop
+    private static final Duration STREAM_ERROR_BACKOFF = Duration.ofSeconds(1);
 
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
@@ -51,6 +69,7 @@ public class RedisConfig {
     }
 
     @Bean
+    @ConditionalOnProperty(name = "feature-flag.events.transport", havingValue = "pubsub", matchIfMissing = true)
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
             MessageListenerAdapter messageListenerAdapter,
@@ -61,4 +80,40 @@ public class RedisConfig {
         container.addMessageListener(messageListenerAdapter, featureFlagTopic);
         return container;
     }
+
+    /**
+     * Reads flag change events from the Redis Stream instead of pub/sub.
+     * Every instance reads the whole stream on its own, continuing from the last record ID it saw,
+     * so after a Redis disconnect it catches up on everything still retained in the stream.
+     */
+    // The stream container does not auto-start; the context still stops it on shutdown
+    @Bean(initMethod = "start")
+    @ConditionalOnProperty(name = "feature-flag.events.transport", havingValue = "stream")
+    public StreamMessageListenerContainer<String, MapRecord<String, String, String>> flagStreamListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            FlagChangeStreamListener listener) {
+
+        StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+                StreamMessageListenerContainerOptions.builder()
+                        .pollTimeout(Duration.ofSeconds(2))
+                        .serializer(new StringRedisSerializer())
+                        .errorHandler(e -> {
+                            logger.warn("Reading flag change stream failed: {}", e.getMessage());
+                            try {
+                                Thread.sleep(STREAM_ERROR_BACKOFF.toMillis());
+                            } catch (InterruptedException interrupted) {
+                                Thread.currentThread().interrupt();
+                            }
+                        })
+                        .build();
+
+        StreamMessageListenerContainer<String, MapRecord<String, String, String>> container =
+                StreamMessageListenerContainer.create(connectionFactory, options);
+
+        // Starts at the stream tail; the startup sync covers everything before it
+        container.register(StreamReadRequest.builder(StreamOffset.create(FEATURE_FLAG_STREAM, ReadOffset.lastConsumed()))
+                .cancelOnError(e -> false)
+                .build(), listener);
+        return container;
+    }
 }
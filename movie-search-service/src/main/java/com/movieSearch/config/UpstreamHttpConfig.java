@@ -0,0 +1,85 @@
+package com.movieSearch.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * One dedicated Reactor Netty connection pool per upstream, so a burst against OMDB
+ * cannot starve flag sync and each pool can be sized from its own metrics.
+ * Pool meters are published as reactor.netty.connection.provider.* tagged with the pool name,
+ * and the time spent waiting for a connection as upstream.connection.acquire.
+ */
+@Configuration
+@EnableConfigurationProperties(UpstreamHttpProperties.class)
+public class UpstreamHttpConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpstreamHttpConfig.class);
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider omdbConnectionProvider(UpstreamHttpProperties properties) {
+        return connectionProvider("omdb", properties.getOmdb());
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider featureFlagConnectionProvider(UpstreamHttpProperties properties) {
+        return connectionProvider("feature-flag", properties.getFeatureFlag());
+    }
+
+    @Bean
+    public HttpClient omdbHttpClient(ConnectionProvider omdbConnectionProvider,
+                                     UpstreamHttpProperties properties,
+                                     MeterRegistry meterRegistry) {
+        return httpClient("omdb", omdbConnectionProvider, properties.getOmdb(), meterRegistry);
+    }
+
+    @Bean
+    public HttpClient featureFlagHttpClient(ConnectionProvider featureFlagConnectionProvider,
+                                            UpstreamHttpProperties properties,
+                                            MeterRegistry meterRegistry) {
+        return httpClient("feature-flag", featureFlagConnectionProvider, properties.getFeatureFlag(), meterRegistry);
+    }
+
+    private ConnectionProvider connectionProvider(String name, UpstreamHttpProperties.Pool pool) {
+        logger.info("Creating '{}' connection pool: maxConnections={}, pendingAcquireMaxCount={}, maxIdleTime={}",
+                name, pool.getMaxConnections(), pool.getPendingAcquireMaxCount(), pool.getMaxIdleTime());
+
+        return ConnectionProvider.builder(name)
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictionInterval())
+                .metrics(true)
+                .build();
+    }
+
+    private HttpClient httpClient(String name, ConnectionProvider provider, UpstreamHttpProperties.Pool pool,
+                                  MeterRegistry meterRegistry) {
+        Timer acquireTimer = Timer.builder("upstream.connection.acquire")
+                .description("Time from requesting a pooled connection until one is available (includes connecting)")
+                .tag("pool", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        return HttpClient.create(provider)
+                .mapConnect(connection -> Mono.defer(() -> {
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    return connection.doOnNext(c -> sample.stop(acquireTimer));
+                }))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) pool.getConnectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, pool.isKeepAlive())
+                .keepAlive(pool.isKeepAlive())
+                .responseTimeout(pool.getResponseTimeout())
+                .compress(pool.isCompression());
+    }
+}
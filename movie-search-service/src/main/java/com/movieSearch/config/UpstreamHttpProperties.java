@@ -0,0 +1,141 @@
+package com.movieSearch.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Connection pool and HTTP settings for each upstream service (upstream.omdb.*, upstream.feature-flag.*)
+ */
+@ConfigurationProperties(prefix = "upstream")
+public class UpstreamHttpProperties {
+
+    private Pool omdb = new Pool();
+    private Pool featureFlag = new Pool();
+
+    public Pool getOmdb() {
+        return omdb;
+    }
+
+    public void setOmdb(Pool omdb) {
+        this.omdb = omdb;
+    }
+
+    public Pool getFeatureFlag() {
+        return featureFlag;
+    }
+
+    public void setFeatureFlag(Pool featureFlag) {
+        this.featureFlag = featureFlag;
+    }
+
+    public static class Pool {
+
+        /** Maximum open connections to the upstream */
+        private int maxConnections = 100;
+
+        /** Maximum requests waiting for a free connection before failing fast */
+        private int pendingAcquireMaxCount = 500;
+
+        /** How long a request may wait for a free connection */
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+        /** Idle connections older than this are closed */
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        /** Connections are recycled after this age, idle or not */
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        /** How often idle and expired connections are evicted in the background */
+        private Duration evictionInterval = Duration.ofSeconds(30);
+
+        private Duration connectTimeout = Duration.ofSeconds(2);
+
+        private Duration responseTimeout = Duration.ofSeconds(10);
+
+        private boolean keepAlive = true;
+
+        /** Request gzip responses */
+        private boolean compression = false;
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getPendingAcquireMaxCount() {
+            return pendingAcquireMaxCount;
+        }
+
+        public void setPendingAcquireMaxCount(int pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+
+        public Duration getPendingAcquireTimeout() {
+            return pendingAcquireTimeout;
+        }
+
+        public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+            this.pendingAcquireTimeout = pendingAcquireTimeout;
+        }
+
+        public Duration getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        public void setMaxIdleTime(Duration maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        public Duration getMaxLifeTime() {
+            return maxLifeTime;
+        }
+
+        public void setMaxLifeTime(Duration maxLifeTime) {
+            this.maxLifeTime = maxLifeTime;
+        }
+
+        public Duration getEvictionInterval() {
+            return evictionInterval;
+        }
+
+        public void setEvictionInterval(Duration evictionInterval) {
+            this.evictionInterval = evictionInterval;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getResponseTimeout() {
+            return responseTimeout;
+        }
+
+        public void setResponseTimeout(Duration responseTimeout) {
+            this.responseTimeout = responseTimeout;
+        }
+
+        public boolean isKeepAlive() {
+            return keepAlive;
+        }
+
+        public void setKeepAlive(boolean keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+
+        public boolean isCompression() {
+            return compression;
+        }
+
+        public void setCompression(boolean compression) {
+            this.compression = compression;
+        }
+    }
+}
@@ -1,27 +1,35 @@
 package com.movieSearch.controller;
 
+import com.movieSearch.dto.MovieBatchRequestDTO;
+import com.movieSearch.dto.MovieBatchResponseDTO;
 import com.movieSearch.dto.MovieSearchResponseDTO;
+import com.movieSearch.service.MovieBatchService;
 import com.movieSearch.service.MovieSearchService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Map;
-
+/**
+ * Blocking search endpoints; active unless movie-search.execution-mode=reactive
+ */
 @RestController
 @RequestMapping("/api")
 @CrossOrigin(origins = "*") // For development - configure properly for production
+@ConditionalOnProperty(name = "movie-search.execution-mode", havingValue = "blocking", matchIfMissing = true)
 public class MovieSearchController {
 
     private static final Logger logger = LoggerFactory.getLogger(MovieSearchController.class);
 
     private final MovieSearchService movieSearchService;
+    private final MovieBatchService movieBatchService;
 
     @Autowired
-    public MovieSearchController(MovieSearchService movieSearchService) {
+    public MovieSearchController(MovieSearchService movieSearchService, MovieBatchService movieBatchService) {
         this.movieSearchService = movieSearchService;
+        this.movieBatchService = movieBatchService;
     }
 
     /**
@@ -51,55 +59,14 @@ public class MovieSearchController {
     }
 
     /**
-     * Health check endpoint
-     */
-    @GetMapping("/health")
-    public ResponseEntity<?> healthCheck() {
-        logger.debug("GET /api/health - Health check requested");
-
-        MovieSearchService.ServiceHealthDTO health = movieSearchService.getHealthStatus();
-        return ResponseEntity.ok(health);
-    }
-
-    /**
-     * Get feature flag status
-     */
-    @GetMapping("/flags/status")
-    public ResponseEntity<?> getFlagStatus() {
-        logger.debug("GET /api/flags/status - Flag status requested");
-
-        MovieSearchService.FeatureFlagStatusDTO flagStatus = movieSearchService.getFeatureFlagStatus();
-        return ResponseEntity.ok(flagStatus);
-    }
-
-    /**
-     * Refresh feature flag cache (manual sync)
+     * Get movie details for a batch of IMDB IDs
      */
-    @PostMapping("/flags/refresh")
-    public ResponseEntity<?> refreshFlags() {
-        logger.info("POST /api/flags/refresh - Manual flag refresh requested");
-
-        try {
-            movieSearchService.refreshFeatureFlags();
-            MovieSearchService.FeatureFlagStatusDTO flagStatus = movieSearchService.getFeatureFlagStatus();
-            return ResponseEntity.ok(Map.of(
-                    "message", "Feature flags refreshed successfully",
-                    "flagStatus", flagStatus
-            ));
-        } catch (Exception e) {
-            logger.error("Failed to refresh feature flags", e);
-            return ResponseEntity.status(500).body(Map.of(
-                    "error", "Failed to refresh feature flags",
-                    "message", e.getMessage()
-            ));
-        }
-    }
+    @PostMapping("/movies/batch")
+    public ResponseEntity<MovieBatchResponseDTO> getMovieDetailsBatch(@RequestBody MovieBatchRequestDTO request) {
+        logger.info("POST /api/movies/batch - Getting details for {} IMDB IDs",
+                request.getImdbIds() != null ? request.getImdbIds().size() : 0);
 
-    /**
-     * Simple ping endpoint
-     */
-    @GetMapping("/ping")
-    public ResponseEntity<String> ping() {
-        return ResponseEntity.ok("Movie Search Service is running");
+        MovieBatchResponseDTO result = movieBatchService.getMovieDetailsBatch(request.getImdbIds()).block();
+        return ResponseEntity.ok(result);
     }
-}
\ No newline at end of file
+}
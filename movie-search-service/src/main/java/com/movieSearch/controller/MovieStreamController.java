@@ -0,0 +1,43 @@
+package com.movieSearch.controller;
+
+import com.movieSearch.dto.MovieResponseDTO;
+import com.movieSearch.service.MovieStreamService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streaming search across all result pages, available in every execution mode.
+ * Movies are written as soon as their page arrives: SSE by default, NDJSON with Accept: application/x-ndjson.
+ */
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*") // For development - configure properly for production
+public class MovieStreamController {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovieStreamController.class);
+
+    private final MovieStreamService movieStreamService;
+
+    @Autowired
+    public MovieStreamController(MovieStreamService movieStreamService) {
+        this.movieStreamService = movieStreamService;
+    }
+
+    /**
+     * Stream every movie matching the title
+     */
+    @GetMapping(value = "/movies/search/stream",
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<MovieResponseDTO> streamSearch(
+            @RequestParam("title") String title,
+            @RequestParam(value = "type", required = false) String type) {
+
+        logger.info("GET /api/movies/search/stream - title: '{}', type: {}", title, type);
+
+        return movieStreamService.streamSearch(title, type);
+    }
+}
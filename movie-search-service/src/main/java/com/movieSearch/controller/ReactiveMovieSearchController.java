@@ -0,0 +1,70 @@
+package com.movieSearch.controller;
+
+import com.movieSearch.dto.MovieBatchRequestDTO;
+import com.movieSearch.dto.MovieBatchResponseDTO;
+import com.movieSearch.dto.MovieSearchResponseDTO;
+import com.movieSearch.service.MovieBatchService;
+import com.movieSearch.service.MovieSearchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking search endpoints; active when movie-search.execution-mode=reactive.
+ * The request thread is released while OMDB is called and the response is written on completion.
+ */
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*") // For development - configure properly for production
+@ConditionalOnProperty(name = "movie-search.execution-mode", havingValue = "reactive")
+public class ReactiveMovieSearchController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveMovieSearchController.class);
+
+    private final MovieSearchService movieSearchService;
+    private final MovieBatchService movieBatchService;
+
+    @Autowired
+    public ReactiveMovieSearchController(MovieSearchService movieSearchService, MovieBatchService movieBatchService) {
+        this.movieSearchService = movieSearchService;
+        this.movieBatchService = movieBatchService;
+    }
+
+    /**
+     * Search movies by title
+     */
+    @GetMapping("/movies/search")
+    public Mono<MovieSearchResponseDTO> searchMovies(
+            @RequestParam("title") String title,
+            @RequestParam(value = "page", defaultValue = "1") int page,
+            @RequestParam(value = "type", required = false) String type) {
+
+        logger.info("GET /api/movies/search (reactive) - title: '{}', page: {}, type: {}", title, page, type);
+
+        return movieSearchService.searchMoviesReactive(title, page, type);
+    }
+
+    /**
+     * Get movie details by IMDB ID
+     */
+    @GetMapping("/movies/{imdbId}")
+    public Mono<MovieSearchResponseDTO> getMovieDetails(@PathVariable String imdbId) {
+        logger.info("GET /api/movies/{} (reactive) - Getting movie details", imdbId);
+
+        return movieSearchService.getMovieDetailsReactive(imdbId);
+    }
+
+    /**
+     * Get movie details for a batch of IMDB IDs
+     */
+    @PostMapping("/movies/batch")
+    public Mono<MovieBatchResponseDTO> getMovieDetailsBatch(@RequestBody MovieBatchRequestDTO request) {
+        logger.info("POST /api/movies/batch (reactive) - Getting details for {} IMDB IDs",
+                request.getImdbIds() != null ? request.getImdbIds().size() : 0);
+
+        return movieBatchService.getMovieDetailsBatch(request.getImdbIds());
+    }
+}
@@ -0,0 +1,87 @@
+package com.movieSearch.controller;
+
+import com.movieSearch.evaluation.EvaluationContext;
+import com.movieSearch.service.MovieSearchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Health, feature flag and ping endpoints, available in every execution mode
+ */
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*") // For development - configure properly for production
+public class ServiceStatusController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceStatusController.class);
+
+    public static final String USER_KEY_HEADER = "X-User-Key";
+
+    private final MovieSearchService movieSearchService;
+
+    @Autowired
+    public ServiceStatusController(MovieSearchService movieSearchService) {
+        this.movieSearchService = movieSearchService;
+    }
+
+    /**
+     * Health check endpoint
+     */
+    @GetMapping("/health")
+    public ResponseEntity<?> healthCheck() {
+        logger.debug("GET /api/health - Health check requested");
+
+        MovieSearchService.ServiceHealthDTO health = movieSearchService.getHealthStatus();
+        return ResponseEntity.ok(health);
+    }
+
+    /**
+     * Get feature flag status, evaluated for the user in {@code X-User-Key} when given
+     */
+    @GetMapping("/flags/status")
+    public ResponseEntity<?> getFlagStatus(@RequestHeader(value = USER_KEY_HEADER, required = false) String userKey) {
+        logger.debug("GET /api/flags/status - Flag status requested");
+
+        MovieSearchService.FeatureFlagStatusDTO flagStatus = movieSearchService.getFeatureFlagStatus(
+                userKey != null && !userKey.isBlank() ? EvaluationContext.of(userKey.trim()) : EvaluationContext.ANONYMOUS);
+        return ResponseEntity.ok(flagStatus);
+    }
+
+    /**
+     * Refresh feature flag cache (manual sync)
+     */
+    @PostMapping("/flags/refresh")
+    public ResponseEntity<?> refreshFlags() {
+        logger.info("POST /api/flags/refresh - Manual flag refresh requested");
+
+        try {
+            boolean refreshed = movieSearchService.refreshFeatureFlags();
+            MovieSearchService.FeatureFlagStatusDTO flagStatus = movieSearchService.getFeatureFlagStatus();
+            return ResponseEntity.ok(Map.of(
+                    "message", refreshed
+                            ? "Feature flags refreshed successfully"
+                            : "Feature flag sync already in progress",
+                    "flagStatus", flagStatus
+            ));
+        } catch (Exception e) {
+            logger.error("Failed to refresh feature flags", e);
+            return ResponseEntity.status(500).body(Map.of(
+                    "error", "Failed to refresh feature flags",
+                    "message", e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * Simple ping endpoint
+     */
+    @GetMapping("/ping")
+    public ResponseEntity<String> ping() {
+        return ResponseEntity.ok("Movie Search Service is running");
+    }
+}
\ No newline at end of file
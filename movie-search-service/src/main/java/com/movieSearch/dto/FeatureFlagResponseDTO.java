@@ -8,6 +8,7 @@ public class FeatureFlagResponseDTO {
     private String name;
     private Boolean enabled;
     private String description;
+    private FlagTargetingDTO targeting;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -47,6 +48,14 @@ public class FeatureFlagResponseDTO {
         this.description = description;
     }
 
+    public FlagTargetingDTO getTargeting() {
+        return targeting;
+    }
+
+    public void setTargeting(FlagTargetingDTO targeting) {
+        this.targeting = targeting;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -15,6 +15,14 @@ public class FlagChangeEvent {
     @JsonProperty("changeType")
     private String changeType;
 
+    // Targeting rules; null for a flag that is on for everyone while enabled
+    @JsonProperty("targeting")
+    private FlagTargetingDTO targeting;
+
+    // Flag-set version of the change; null for events from publishers that do not send one
+    @JsonProperty("version")
+    private Long version;
+
     public FlagChangeEvent() {}
 
     public FlagChangeEvent(String flagName, Boolean enabled, String changeType) {
@@ -48,12 +56,29 @@ public class FlagChangeEvent {
         this.changeType = changeType;
     }
 
+    public FlagTargetingDTO getTargeting() {
+        return targeting;
+    }
+
+    public void setTargeting(FlagTargetingDTO targeting) {
+        this.targeting = targeting;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "FlagChangeEvent{" +
                 "flagName='" + flagName + '\'' +
                 ", enabled=" + enabled +
                 ", changeType='" + changeType + '\'' +
+                ", version=" + version +
                 '}';
     }
 }
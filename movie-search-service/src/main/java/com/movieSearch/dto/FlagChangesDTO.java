@@ -0,0 +1,82 @@
+package com.movieSearch.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * Response of the Feature Flag Service delta endpoint ({@code GET /api/flags?sinceVersion=}).
+ * Either the changes since {@code fromVersion}, or, when {@code resetRequired} is set,
+ * the full flag list at {@code version}. Batches received over Redis also name the publishing
+ * instance ({@code origin}) and the publish time in epoch microseconds.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class FlagChangesDTO {
+
+    private long fromVersion;
+    private long version;
+    private boolean resetRequired;
+    private List<FlagChangeEvent> changes;
+    private List<FeatureFlagResponseDTO> flags;
+    private String origin;
+    private Long publishedAtMicros;
+
+    public FlagChangesDTO() {}
+
+    // Getters and Setters
+    public long getFromVersion() {
+        return fromVersion;
+    }
+
+    public void setFromVersion(long fromVersion) {
+        this.fromVersion = fromVersion;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public boolean isResetRequired() {
+        return resetRequired;
+    }
+
+    public void setResetRequired(boolean resetRequired) {
+        this.resetRequired = resetRequired;
+    }
+
+    public List<FlagChangeEvent> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<FlagChangeEvent> changes) {
+        this.changes = changes;
+    }
+
+    public List<FeatureFlagResponseDTO> getFlags() {
+        return flags;
+    }
+
+    public void setFlags(List<FeatureFlagResponseDTO> flags) {
+        this.flags = flags;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+
+    public Long getPublishedAtMicros() {
+        return publishedAtMicros;
+    }
+
+    public void setPublishedAtMicros(Long publishedAtMicros) {
+        this.publishedAtMicros = publishedAtMicros;
+    }
+}
@@ -0,0 +1,100 @@
+package com.movieSearch.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Targeting rules of a flag as sent by the Feature Flag Service; compiled into a
+ * {@link com.movieSearch.evaluation.FlagEvaluator} when the flag is cached.
+ * Operators are kept as strings so an operator this service does not know yet never matches instead of failing the sync.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class FlagTargetingDTO {
+
+    private List<Rule> rules = new ArrayList<>();
+    private double rollout = 100;
+
+    public FlagTargetingDTO() {}
+
+    // Getters and Setters
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules != null ? rules : new ArrayList<>();
+    }
+
+    public double getRollout() {
+        return rollout;
+    }
+
+    public void setRollout(double rollout) {
+        this.rollout = rollout;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Rule {
+
+        private List<Condition> conditions = new ArrayList<>();
+        private double rollout = 100;
+
+        public List<Condition> getConditions() {
+            return conditions;
+        }
+
+        public void setConditions(List<Condition> conditions) {
+            this.conditions = conditions != null ? conditions : new ArrayList<>();
+        }
+
+        public double getRollout() {
+            return rollout;
+        }
+
+        public void setRollout(double rollout) {
+            this.rollout = rollout;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Condition {
+
+        private String attribute;
+        private String operator;
+        private List<String> values = new ArrayList<>();
+
+        public Condition() {}
+
+        public Condition(String attribute, String operator, List<String> values) {
+            this.attribute = attribute;
+            this.operator = operator;
+            this.values = values;
+        }
+
+        public String getAttribute() {
+            return attribute;
+        }
+
+        public void setAttribute(String attribute) {
+            this.attribute = attribute;
+        }
+
+        public String getOperator() {
+            return operator;
+        }
+
+        public void setOperator(String operator) {
+            this.operator = operator;
+        }
+
+        public List<String> getValues() {
+            return values;
+        }
+
+        public void setValues(List<String> values) {
+            this.values = values != null ? values : new ArrayList<>();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.movieSearch.dto;
+
+import java.util.List;
+
+public class MovieBatchRequestDTO {
+
+    private List<String> imdbIds;
+
+    // Constructors
+    public MovieBatchRequestDTO() {}
+
+    public MovieBatchRequestDTO(List<String> imdbIds) {
+        this.imdbIds = imdbIds;
+    }
+
+    // Getters and Setters
+    public List<String> getImdbIds() {
+        return imdbIds;
+    }
+
+    public void setImdbIds(List<String> imdbIds) {
+        this.imdbIds = imdbIds;
+    }
+}
@@ -0,0 +1,35 @@
+package com.movieSearch.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class MovieBatchResponseDTO {
+
+    private Map<String, MovieSearchResponseDTO> results = new LinkedHashMap<>();
+    private Map<String, String> errors = new LinkedHashMap<>();
+
+    // Constructors
+    public MovieBatchResponseDTO() {}
+
+    public MovieBatchResponseDTO(Map<String, MovieSearchResponseDTO> results, Map<String, String> errors) {
+        this.results = results;
+        this.errors = errors;
+    }
+
+    // Getters and Setters
+    public Map<String, MovieSearchResponseDTO> getResults() {
+        return results;
+    }
+
+    public void setResults(Map<String, MovieSearchResponseDTO> results) {
+        this.results = results;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(Map<String, String> errors) {
+        this.errors = errors;
+    }
+}
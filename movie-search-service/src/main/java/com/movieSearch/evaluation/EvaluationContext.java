@@ -0,0 +1,47 @@
+package com.movieSearch.evaluation;
+
+import java.util.Map;
+
+/**
+ * Who a flag is evaluated for: a user key, used for rollout bucketing and key segments, and
+ * attributes for attribute conditions. Immutable; build it once per request and reuse it for every flag.
+ */
+public final class EvaluationContext {
+
+    /**
+     * No key and no attributes; only gets flags rolled out to everyone
+     */
+    public static final EvaluationContext ANONYMOUS = new EvaluationContext(null, Map.of());
+
+    private final String key;
+    private final Map<String, String> attributes;
+
+    private EvaluationContext(String key, Map<String, String> attributes) {
+        this.key = key;
+        this.attributes = attributes;
+    }
+
+    public static EvaluationContext of(String key) {
+        return of(key, Map.of());
+    }
+
+    public static EvaluationContext of(String key, Map<String, String> attributes) {
+        if (key == null && attributes.isEmpty()) {
+            return ANONYMOUS;
+        }
+        return new EvaluationContext(key, Map.copyOf(attributes));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public String toString() {
+        return "EvaluationContext{key='" + key + "', attributes=" + attributes + '}';
+    }
+}
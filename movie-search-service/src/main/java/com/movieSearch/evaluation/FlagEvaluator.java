@@ -0,0 +1,14 @@
+package com.movieSearch.evaluation;
+
+/**
+ * Compiled, immutable answer to "is this flag on for this context". Implementations must be
+ * thread-safe and must not allocate, since evaluation runs on every request.
+ */
+@FunctionalInterface
+public interface FlagEvaluator {
+
+    FlagEvaluator ON = context -> true;
+    FlagEvaluator OFF = context -> false;
+
+    boolean isEnabled(EvaluationContext context);
+}
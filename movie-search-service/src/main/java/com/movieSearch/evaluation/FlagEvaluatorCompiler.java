@@ -0,0 +1,173 @@
+package com.movieSearch.evaluation;
+
+import com.movieSearch.dto.FlagTargetingDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Turns a flag's state and targeting into a {@link FlagEvaluator}. All parsing, validation and hashing of
+ * the flag name happens here, once per flag change; the compiled evaluator only walks arrays and hash sets.
+ * <p>
+ * Rules are checked in order and the first whose conditions all match decides; contexts matching no rule
+ * fall through to the flag-wide rollout. A context is inside a rollout of {@code p} percent when its bucket,
+ * a stable hash of flag name and key in {@code [0, 10000)}, is below {@code p * 100}. Contexts without a key
+ * are only inside full rollouts.
+ */
+public final class FlagEvaluatorCompiler {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlagEvaluatorCompiler.class);
+
+    public static final String KEY_ATTRIBUTE = "key";
+    public static final int BUCKETS = 10_000;
+
+    private static final int FNV_OFFSET = 0x811c9dc5;
+    private static final int FNV_PRIME = 0x01000193;
+
+    private FlagEvaluatorCompiler() {}
+
+    /**
+     * Compile the evaluator for a flag; disabled flags are off for everyone, untargeted enabled flags on
+     */
+    public static FlagEvaluator compile(String flagName, boolean enabled, FlagTargetingDTO targeting) {
+        if (!enabled) {
+            return FlagEvaluator.OFF;
+        }
+        if (targeting == null) {
+            return FlagEvaluator.ON;
+        }
+
+        List<FlagTargetingDTO.Rule> rules = targeting.getRules();
+        int rollout = basisPoints(targeting.getRollout());
+        if (rules.isEmpty()) {
+            if (rollout >= BUCKETS) {
+                return FlagEvaluator.ON;
+            }
+            if (rollout <= 0) {
+                return FlagEvaluator.OFF;
+            }
+        }
+
+        CompiledRule[] compiledRules = new CompiledRule[rules.size()];
+        for (int i = 0; i < compiledRules.length; i++) {
+            compiledRules[i] = compileRule(flagName, rules.get(i));
+        }
+        return new CompiledEvaluator(seed(flagName), compiledRules, rollout);
+    }
+
+    /**
+     * Bucket of a key for a flag, in {@code [0, BUCKETS)}: 32-bit FNV-1a over {@code flagName + ':' + key},
+     * finished with the MurmurHash3 mixer so close keys land far apart
+     */
+    public static int bucket(String flagName, String key) {
+        return bucket(seed(flagName), key);
+    }
+
+    private static int seed(String flagName) {
+        int hash = FNV_OFFSET;
+        for (int i = 0; i < flagName.length(); i++) {
+            hash = (hash ^ flagName.charAt(i)) * FNV_PRIME;
+        }
+        return (hash ^ ':') * FNV_PRIME;
+    }
+
+    private static int bucket(int seed, String key) {
+        int hash = seed;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * FNV_PRIME;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return Math.floorMod(hash, BUCKETS);
+    }
+
+    private static int basisPoints(double percentage) {
+        return (int) Math.max(0, Math.min(BUCKETS, Math.round(percentage * 100)));
+    }
+
+    private static CompiledRule compileRule(String flagName, FlagTargetingDTO.Rule rule) {
+        List<FlagTargetingDTO.Condition> conditions = rule.getConditions();
+        CompiledCondition[] compiled = new CompiledCondition[conditions.size()];
+        boolean matchable = !conditions.isEmpty();
+        for (int i = 0; i < compiled.length; i++) {
+            FlagTargetingDTO.Condition condition = conditions.get(i);
+            String operator = condition.getOperator();
+            boolean negate = "NOT_IN".equals(operator);
+            if (!negate && !"IN".equals(operator)) {
+                logger.warn("Flag '{}' has a rule with unknown operator '{}'; the rule never matches", flagName, operator);
+                matchable = false;
+            }
+            String attribute = condition.getAttribute();
+            compiled[i] = new CompiledCondition(
+                    KEY_ATTRIBUTE.equals(attribute) ? null : attribute,
+                    Set.copyOf(condition.getValues().stream().filter(Objects::nonNull).toList()),
+                    negate);
+        }
+        return new CompiledRule(matchable ? compiled : null, basisPoints(rule.getRollout()));
+    }
+
+    private static final class CompiledEvaluator implements FlagEvaluator {
+
+        private final int seed;
+        private final CompiledRule[] rules;
+        private final int rollout;
+
+        CompiledEvaluator(int seed, CompiledRule[] rules, int rollout) {
+            this.seed = seed;
+            this.rules = rules;
+            this.rollout = rollout;
+        }
+
+        @Override
+        public boolean isEnabled(EvaluationContext context) {
+            for (CompiledRule rule : rules) {
+                if (rule.matches(context)) {
+                    return inRollout(rule.rollout, context);
+                }
+            }
+            return inRollout(rollout, context);
+        }
+
+        private boolean inRollout(int rollout, EvaluationContext context) {
+            if (rollout >= BUCKETS) {
+                return true;
+            }
+            if (rollout <= 0) {
+                return false;
+            }
+            String key = context.getKey();
+            return key != null && bucket(seed, key) < rollout;
+        }
+    }
+
+    // A null condition array marks a rule that can never match
+    private record CompiledRule(CompiledCondition[] conditions, int rollout) {
+
+        boolean matches(EvaluationContext context) {
+            if (conditions == null) {
+                return false;
+            }
+            for (CompiledCondition condition : conditions) {
+                if (!condition.matches(context)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // A null attribute means the context key; a missing value is in no list
+    private record CompiledCondition(String attribute, Set<String> values, boolean negate) {
+
+        boolean matches(EvaluationContext context) {
+            String value = attribute == null ? context.getKey() : context.getAttribute(attribute);
+            return (value != null && values.contains(value)) != negate;
+        }
+    }
+}
@@ -1,109 +1,297 @@
 package com.movieSearch.service;
 
+import com.movieSearch.dto.FeatureFlagResponseDTO;
 import com.movieSearch.dto.FlagChangeEvent;
+import com.movieSearch.dto.FlagChangesDTO;
+import com.movieSearch.dto.FlagTargetingDTO;
+import com.movieSearch.evaluation.EvaluationContext;
+import com.movieSearch.evaluation.FlagEvaluator;
+import com.movieSearch.evaluation.FlagEvaluatorCompiler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Local copy of every feature flag, for wait-free reads on the request path.
+ * The flags live in an immutable map that is replaced as a whole in one volatile write (copy-on-write),
+ * so readers never lock and always see either the state before or after a sync, never part of one.
+ * Every value remembers the flag-set version it came from; an older change arriving late (a delayed
+ * event, a sync that raced an event) is ignored. Targeting rules are compiled into each value's
+ * {@link FlagEvaluator} when it is cached.
+ * <p>
+ * Hot paths should resolve a {@link FlagHandle} once and read it instead of looking the flag up by name.
+ * Flags that were never seen, or were deleted, are off.
+ */
 @Service
 public class FeatureFlagCacheService {
 
     private static final Logger logger = LoggerFactory.getLogger(FeatureFlagCacheService.class);
 
-    // In-memory cache for feature flags
-    private final Map<String, Boolean> flagCache = new ConcurrentHashMap<>();
-
-    // Known flags that this service cares about
     private static final String DARK_MODE_FLAG = "dark_mode";
     private static final String MAINTENANCE_MODE_FLAG = "maintenance_mode";
 
+    // Immutable; replaced as a whole under writeLock
+    private volatile Map<String, CachedFlag> flagCache = Map.of();
+
+    // Every change up to this flag-set version is applied; the base for the next delta request. Null before the first sync
+    private volatile Long syncedVersion;
+
+    // Repointed under writeLock whenever the map is replaced
+    private final Map<String, FlagHandle> handles = new ConcurrentHashMap<>();
+
+    private final Object writeLock = new Object();
+
+    private final FlagHandle darkMode;
+    private final FlagHandle maintenanceMode;
+
     public FeatureFlagCacheService() {
-        // Initialize with default values
-        flagCache.put(DARK_MODE_FLAG, false);
-        flagCache.put(MAINTENANCE_MODE_FLAG, false);
-        logger.info("Initialized feature flag cache with default values");
+        this.darkMode = handle(DARK_MODE_FLAG);
+        this.maintenanceMode = handle(MAINTENANCE_MODE_FLAG);
+        logger.info("Initialized empty feature flag cache");
     }
 
     /**
-     * Check if a feature flag is enabled
+     * Handle for a flag, created on first use; it follows the flag through every later change
+     */
+    public FlagHandle handle(String flagName) {
+        FlagHandle handle = handles.get(flagName);
+        if (handle != null) {
+            return handle;
+        }
+        // Under the write lock, so no map replacement can slip between reading the flag and registering the handle
+        synchronized (writeLock) {
+            return handles.computeIfAbsent(flagName, name -> new FlagHandle(name, evaluatorOf(flagCache.get(name))));
+        }
+    }
+
+    /**
+     * Check if a feature flag is enabled for anonymous callers, i.e. enabled and rolled out to everyone
      */
     public boolean isFlagEnabled(String flagName) {
-        boolean enabled = flagCache.getOrDefault(flagName, false);
-        logger.debug("Flag '{}' is {}", flagName, enabled ? "enabled" : "disabled");
-        return enabled;
+        return isFlagEnabled(flagName, EvaluationContext.ANONYMOUS);
+    }
+
+    /**
+     * Check if a feature flag is enabled for the given context
+     */
+    public boolean isFlagEnabled(String flagName, EvaluationContext context) {
+        return evaluatorOf(flagCache.get(flagName)).isEnabled(context);
     }
 
     /**
      * Check if dark mode is enabled
      */
     public boolean isDarkModeEnabled() {
-        return isFlagEnabled(DARK_MODE_FLAG);
+        return darkMode.isEnabled();
+    }
+
+    /**
+     * Check if dark mode is enabled for the given context
+     */
+    public boolean isDarkModeEnabled(EvaluationContext context) {
+        return darkMode.isEnabled(context);
     }
 
     /**
      * Check if maintenance mode is enabled
      */
     public boolean isMaintenanceModeEnabled() {
-        return isFlagEnabled(MAINTENANCE_MODE_FLAG);
+        return maintenanceMode.isEnabled();
     }
 
     /**
      * Update flag cache when receiving flag change events
      */
     public void updateFlag(FlagChangeEvent event) {
-        String flagName = event.getFlagName();
+        updateFlags(List.of(event));
+    }
 
-        if (isRelevantFlag(flagName)) {
-            if ("DELETED".equals(event.getChangeType())) {
-                flagCache.remove(flagName);
-                logger.info("Removed flag '{}' from cache", flagName);
-            } else {
-                Boolean enabled = event.getEnabled();
-                flagCache.put(flagName, enabled != null ? enabled : false);
-                logger.info("Updated flag '{}' in cache to {}", flagName, enabled);
+    /**
+     * Apply a batch of flag change events in one step, so readers never see part of a batch.
+     * Unlike {@link #applyChanges} this does not move the synced version; events may arrive out of order.
+     */
+    public void updateFlags(List<FlagChangeEvent> events) {
+        synchronized (writeLock) {
+            Map<String, CachedFlag> updated = new HashMap<>(flagCache);
+            boolean changed = false;
+            for (FlagChangeEvent event : events) {
+                changed |= apply(updated, event);
+            }
+            if (changed) {
+                publish(updated);
             }
-        } else {
-            logger.debug("Ignoring irrelevant flag update: {}", flagName);
         }
     }
 
     /**
-     * Check if this service cares about the flag
+     * Apply a batch received as an event. When it continues from the synced version it also advances the
+     * synced version, so the next delta sync does not fetch it again; otherwise it is applied like
+     * {@link #updateFlags} and the gap is left for the delta sync to fill.
      */
-    private boolean isRelevantFlag(String flagName) {
-        return DARK_MODE_FLAG.equals(flagName) || MAINTENANCE_MODE_FLAG.equals(flagName);
+    public void applyBatch(FlagChangesDTO batch) {
+        List<FlagChangeEvent> changes = batch.getChanges() != null ? batch.getChanges() : List.of();
+        synchronized (writeLock) {
+            updateFlags(changes);
+            Long current = syncedVersion;
+            if (current != null && batch.getVersion() > current && batch.getFromVersion() >= 0
+                    && batch.getFromVersion() <= current) {
+                syncedVersion = batch.getVersion();
+            }
+        }
+    }
+
+    /**
+     * Replace the cache with a full flag list at the given flag-set version (null if the server sent none).
+     * Values that are already newer than the snapshot are kept; everything else not in the list is dropped.
+     */
+    public void applySnapshot(Long version, List<FeatureFlagResponseDTO> flags) {
+        long snapshotVersion = version != null ? version : 0;
+
+        synchronized (writeLock) {
+            Map<String, CachedFlag> updated = new HashMap<>(flags.size() * 4 / 3 + 1);
+            for (FeatureFlagResponseDTO flag : flags) {
+                if (flag.getName() != null) {
+                    updated.put(flag.getName(), CachedFlag.of(
+                            flag.getName(), Boolean.TRUE.equals(flag.getEnabled()), flag.getTargeting(), snapshotVersion));
+                }
+            }
+            if (version != null) {
+                flagCache.forEach((flagName, current) -> {
+                    if (current.version() > snapshotVersion) {
+                        updated.put(flagName, current);
+                    }
+                });
+            }
+            publish(updated);
+            syncedVersion = version;
+        }
+        logger.info("Applied feature flag snapshot version {} ({} flags received)", version, flags.size());
+    }
+
+    /**
+     * Apply the changes between the last synced version and {@code version} in one step
+     */
+    public void applyChanges(long version, List<FlagChangeEvent> changes) {
+        int applied = 0;
+        synchronized (writeLock) {
+            Map<String, CachedFlag> updated = new HashMap<>(flagCache);
+            for (FlagChangeEvent change : changes) {
+                if (apply(updated, change)) {
+                    applied++;
+                }
+            }
+            publish(updated);
+            syncedVersion = version;
+        }
+        logger.info("Synced feature flags to version {} ({} of {} changes applied)", version, applied, changes.size());
+    }
+
+    /**
+     * Flag-set version up to which every change has been applied, or null if the cache has never been synced
+     */
+    public Long getSyncedVersion() {
+        return syncedVersion;
+    }
+
+    private boolean apply(Map<String, CachedFlag> flags, FlagChangeEvent event) {
+        String flagName = event.getFlagName();
+        if (flagName == null) {
+            return false;
+        }
+
+        CachedFlag current = flags.get(flagName);
+        Long version = event.getVersion();
+        // A flag missing from the cache is covered by the last sync, which already holds every change up to it
+        long cachedVersion = current != null ? current.version() : (syncedVersion != null ? syncedVersion : -1);
+        if (version != null && version <= cachedVersion) {
+            logger.debug("Ignoring stale change to '{}' (version {}, cached {})", flagName, version, cachedVersion);
+            return false;
+        }
+
+        long newVersion = version != null ? version : Math.max(cachedVersion, 0);
+        if ("DELETED".equals(event.getChangeType())) {
+            flags.put(flagName, CachedFlag.deleted(newVersion));
+            logger.info("Removed flag '{}' from cache", flagName);
+        } else {
+            Boolean enabled = event.getEnabled();
+            flags.put(flagName, CachedFlag.of(flagName, Boolean.TRUE.equals(enabled), event.getTargeting(), newVersion));
+            logger.info("Updated flag '{}' in cache to {}", flagName, enabled);
+        }
+        return true;
+    }
+
+    // Caller holds writeLock
+    private void publish(Map<String, CachedFlag> updated) {
+        Map<String, CachedFlag> previous = flagCache;
+        Map<String, CachedFlag> published = Map.copyOf(updated);
+        flagCache = published;
+        for (FlagHandle handle : handles.values()) {
+            CachedFlag flag = published.get(handle.getName());
+            if (flag != previous.get(handle.getName())) {
+                handle.update(evaluatorOf(flag));
+            }
+        }
+    }
+
+    private static FlagEvaluator evaluatorOf(CachedFlag flag) {
+        return flag != null ? flag.evaluator() : FlagEvaluator.OFF;
     }
 
     /**
      * Get all cached flags for debugging
      */
     public Map<String, Boolean> getAllFlags() {
-        return Map.copyOf(flagCache);
+        Map<String, Boolean> flags = new HashMap<>();
+        flagCache.forEach((name, flag) -> {
+            if (!flag.deleted()) {
+                flags.put(name, flag.enabled());
+            }
+        });
+        return Map.copyOf(flags);
     }
 
     /**
-     * Clear all cached flags (for testing and sync)
+     * Clear all cached flags (for testing)
      */
     public void clearCache() {
-        flagCache.clear();
-        // Restore defaults for critical flags
-        flagCache.put(DARK_MODE_FLAG, false);
-        flagCache.put(MAINTENANCE_MODE_FLAG, false);
-        logger.info("Cleared feature flag cache and restored defaults");
+        synchronized (writeLock) {
+            publish(Map.of());
+            syncedVersion = null;
+        }
+        logger.info("Cleared feature flag cache");
     }
 
     /**
      * Get cache statistics
      */
     public CacheStats getStats() {
-        return new CacheStats(
-                flagCache.size(),
-                (int) flagCache.values().stream().mapToInt(b -> b ? 1 : 0).sum(),
-                flagCache.size() - (int) flagCache.values().stream().mapToInt(b -> b ? 1 : 0).sum()
-        );
+        int total = 0;
+        int enabled = 0;
+        for (CachedFlag flag : flagCache.values()) {
+            if (!flag.deleted()) {
+                total++;
+                if (flag.enabled()) {
+                    enabled++;
+                }
+            }
+        }
+        return new CacheStats(total, enabled, total - enabled);
+    }
+
+    private record CachedFlag(boolean enabled, long version, boolean deleted, FlagEvaluator evaluator) {
+
+        static CachedFlag of(String flagName, boolean enabled, FlagTargetingDTO targeting, long version) {
+            return new CachedFlag(enabled, version, false, FlagEvaluatorCompiler.compile(flagName, enabled, targeting));
+        }
+
+        static CachedFlag deleted(long version) {
+            return new CachedFlag(false, version, true, FlagEvaluator.OFF);
+        }
     }
 
     public static class CacheStats {
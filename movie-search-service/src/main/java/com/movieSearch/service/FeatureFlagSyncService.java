@@ -1,21 +1,22 @@
 package com.movieSearch.service;
 
-import com.movieSearch.dto.FlagChangeEvent;
+import com.movieSearch.client.FeatureFlagClient;
+import com.movieSearch.dto.FeatureFlagResponseDTO;
+import com.movieSearch.dto.FlagChangesDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 public class FeatureFlagSyncService {
@@ -26,12 +27,19 @@ public class FeatureFlagSyncService {
     private String featureFlagServiceUrl;
 
     private final FeatureFlagCacheService flagCacheService;
-    private final RestTemplate restTemplate;
+    private final FlagPropagationTracker propagationTracker;
+    private final FeatureFlagClient featureFlagClient;
+
+    // One sync at a time; a lock rather than a monitor so virtual threads are not pinned during the HTTP call
+    private final ReentrantLock syncLock = new ReentrantLock();
 
     @Autowired
-    public FeatureFlagSyncService(FeatureFlagCacheService flagCacheService, RestTemplate restTemplate) {
+    public FeatureFlagSyncService(FeatureFlagCacheService flagCacheService,
+                                  FlagPropagationTracker propagationTracker,
+                                  FeatureFlagClient featureFlagClient) {
         this.flagCacheService = flagCacheService;
-        this.restTemplate = restTemplate;
+        this.propagationTracker = propagationTracker;
+        this.featureFlagClient = featureFlagClient;
     }
 
     /**
@@ -45,44 +53,47 @@ public class FeatureFlagSyncService {
     }
 
     /**
-     * Sync with Feature Flag Service manually
+     * Sync with Feature Flag Service: a full fetch the first time, afterwards only the changes
+     * since the last synced flag-set version. Also runs periodically to catch missed events.
      */
+    @Scheduled(fixedDelayString = "${feature-flag.sync.interval:PT30S}",
+            initialDelayString = "${feature-flag.sync.interval:PT30S}")
     public void syncWithFeatureFlagService() {
+        syncLock.lock();
         try {
-            logger.info("Attempting to sync with Feature Flag Service at: {}", featureFlagServiceUrl);
-
-            String url = featureFlagServiceUrl + "/api/flags";
-            ResponseEntity<List<Map<String, Object>>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<List<Map<String, Object>>>() {}
-            );
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                List<Map<String, Object>> flags = response.getBody();
-                logger.info("Successfully retrieved {} flags from Feature Flag Service", flags.size());
-
-                // Clear existing cache and update with current flags
-                flagCacheService.clearCache();
-
-                for (Map<String, Object> flagData : flags) {
-                    String flagName = (String) flagData.get("name");
-                    Boolean enabled = (Boolean) flagData.get("enabled");
-
-                    if (flagName != null && enabled != null) {
-                        // Create a flag change event to update the cache
-                        FlagChangeEvent event = new FlagChangeEvent(flagName, enabled, "UPDATED");
-                        flagCacheService.updateFlag(event);
-                        logger.debug("Synced flag: {} = {}", flagName, enabled);
-                    }
-                }
-
-                logger.info("Feature flag synchronization completed successfully");
+            sync();
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Sync unless one is already running, in which case that sync brings the cache up to date.
+     * For callers that must not wait: request threads and the Redis stream poll thread.
+     *
+     * @return false if a sync was already in progress
+     */
+    public boolean trySyncWithFeatureFlagService() {
+        if (!syncLock.tryLock()) {
+            logger.debug("Feature flag sync already in progress");
+            return false;
+        }
+        try {
+            sync();
+            return true;
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void sync() {
+        try {
+            Long syncedVersion = flagCacheService.getSyncedVersion();
+            if (syncedVersion == null) {
+                fullSync();
             } else {
-                logger.warn("Failed to sync flags - received response code: {}", response.getStatusCode());
+                deltaSync(syncedVersion);
             }
-
         } catch (Exception e) {
             logger.error("Failed to sync with Feature Flag Service. Service may not be available yet.", e);
             // Don't throw exception - allow service to start with default flag values
@@ -90,6 +101,64 @@ public class FeatureFlagSyncService {
         }
     }
 
+    private void fullSync() {
+        logger.info("Attempting full sync with Feature Flag Service at: {}", featureFlagServiceUrl);
+
+        // Summary view only; descriptions and timestamps are not used here
+        ResponseEntity<List<FeatureFlagResponseDTO>> response = featureFlagClient.getFlagSummaries();
+
+        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+            List<FeatureFlagResponseDTO> flags = response.getBody();
+            logger.info("Successfully retrieved {} flags from Feature Flag Service", flags.size());
+            flagCacheService.applySnapshot(parseVersion(response.getHeaders().getETag()), flags);
+            propagationTracker.report();
+        } else {
+            logger.warn("Failed to sync flags - received response code: {}", response.getStatusCode());
+        }
+    }
+
+    private void deltaSync(long syncedVersion) {
+        ResponseEntity<FlagChangesDTO> response = featureFlagClient.getChangesSince(syncedVersion);
+
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            logger.debug("Feature flags unchanged at version {}", syncedVersion);
+            return;
+        }
+
+        FlagChangesDTO delta = response.getBody();
+        if (!response.getStatusCode().is2xxSuccessful() || delta == null) {
+            logger.warn("Failed to sync flags - received response code: {}", response.getStatusCode());
+            return;
+        }
+
+        if (delta.isResetRequired()) {
+            logger.info("Flag changelog no longer covers version {}; applying full snapshot", syncedVersion);
+            flagCacheService.applySnapshot(delta.getVersion(),
+                    delta.getFlags() != null ? delta.getFlags() : List.of());
+        } else {
+            flagCacheService.applyChanges(delta.getVersion(),
+                    delta.getChanges() != null ? delta.getChanges() : List.of());
+        }
+        propagationTracker.report();
+    }
+
+    /**
+     * Flag-set version from the flag list ETag, or null if the server did not send one
+     */
+    private Long parseVersion(String etag) {
+        if (etag == null) {
+            return null;
+        }
+        String value = etag.startsWith("W/") ? etag.substring(2) : etag;
+        value = value.replace("\"", "");
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            logger.warn("Unexpected flag list ETag: {}", etag);
+            return null;
+        }
+    }
+
     /**
      * Get the configured Feature Flag Service URL
      */
@@ -1,8 +1,10 @@
 package com.movieSearch.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.movieSearch.dto.FlagChangeEvent;
+import com.movieSearch.dto.FlagChangesDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,17 +12,27 @@ import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
+/**
+ * Applies flag change messages from Redis pub/sub. The Feature Flag Service publishes coalesced batches
+ * (latest change per flag between two flag-set versions); each batch is applied to the cache in one step.
+ */
 @Component
 public class FlagChangeEventListener implements MessageListener {
 
     private static final Logger logger = LoggerFactory.getLogger(FlagChangeEventListener.class);
 
     private final FeatureFlagCacheService flagCacheService;
+    private final FlagPropagationTracker propagationTracker;
     private final ObjectMapper objectMapper;
 
     @Autowired
-    public FlagChangeEventListener(FeatureFlagCacheService flagCacheService, ObjectMapper objectMapper) {
+    public FlagChangeEventListener(FeatureFlagCacheService flagCacheService,
+                                   FlagPropagationTracker propagationTracker,
+                                   ObjectMapper objectMapper) {
         this.flagCacheService = flagCacheService;
+        this.propagationTracker = propagationTracker;
         this.objectMapper = objectMapper;
     }
 
@@ -32,13 +44,14 @@ public class FlagChangeEventListener implements MessageListener {
 
             logger.info("Received message on channel '{}': {}", channel, messageBody);
 
-            // Parse the flag change event
-            FlagChangeEvent event = objectMapper.readValue(messageBody, FlagChangeEvent.class);
+            // Parse the flag change batch
+            FlagChangesDTO batch = parse(objectMapper, messageBody);
 
             // Update the local cache
-            flagCacheService.updateFlag(event);
+            flagCacheService.applyBatch(batch);
+            propagationTracker.recordApplied(batch, "pubsub");
 
-            logger.info("Successfully processed flag change event for flag: {}", event.getFlagName());
+            logger.info("Successfully processed {} flag change(s) up to version {}", batch.getChanges().size(), batch.getVersion());
 
         } catch (JsonProcessingException e) {
             logger.error("Failed to parse flag change event message: {}", new String(message.getBody()), e);
@@ -46,4 +59,26 @@ public class FlagChangeEventListener implements MessageListener {
             logger.error("Error processing flag change event", e);
         }
     }
+
+    /**
+     * Parse a flag change message: a batch, or a single event from a publisher that predates batching
+     */
+    static FlagChangesDTO parse(ObjectMapper objectMapper, String payload) throws JsonProcessingException {
+        JsonNode json = objectMapper.readTree(payload);
+        if (json.has("changes")) {
+            return objectMapper.treeToValue(json, FlagChangesDTO.class);
+        }
+
+        FlagChangeEvent event = objectMapper.treeToValue(json, FlagChangeEvent.class);
+        FlagChangesDTO batch = new FlagChangesDTO();
+        if (event.getVersion() != null) {
+            batch.setFromVersion(event.getVersion() - 1);
+            batch.setVersion(event.getVersion());
+        } else {
+            batch.setFromVersion(-1);
+            batch.setVersion(-1);
+        }
+        batch.setChanges(List.of(event));
+        return batch;
+    }
 }
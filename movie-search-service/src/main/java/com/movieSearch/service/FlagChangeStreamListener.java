@@ -0,0 +1,67 @@
+package com.movieSearch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movieSearch.dto.FlagChangesDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.stream.StreamListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies flag change batches read from the Redis Stream.
+ * Flag-set versions are gap-free, so a jump in versions means events were trimmed from the stream
+ * before this instance read them; a delta sync then fills in what was missed.
+ */
+@Component
+@ConditionalOnProperty(name = "feature-flag.events.transport", havingValue = "stream")
+public class FlagChangeStreamListener implements StreamListener<String, MapRecord<String, String, String>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlagChangeStreamListener.class);
+
+    public static final String EVENT_FIELD = "event";
+
+    private final FeatureFlagCacheService flagCacheService;
+    private final FeatureFlagSyncService syncService;
+    private final FlagPropagationTracker propagationTracker;
+    private final ObjectMapper objectMapper;
+
+    // Only touched by the container's polling thread
+    private long lastVersion = -1;
+
+    @Autowired
+    public FlagChangeStreamListener(FeatureFlagCacheService flagCacheService,
+                                    FeatureFlagSyncService syncService,
+                                    FlagPropagationTracker propagationTracker,
+                                    ObjectMapper objectMapper) {
+        this.flagCacheService = flagCacheService;
+        this.syncService = syncService;
+        this.propagationTracker = propagationTracker;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void onMessage(MapRecord<String, String, String> record) {
+        String payload = record.getValue().get(EVENT_FIELD);
+        try {
+            FlagChangesDTO batch = FlagChangeEventListener.parse(objectMapper, payload);
+            logger.info("Received {} flag change(s) {} from stream, versions {} to {}",
+                    batch.getChanges().size(), record.getId(), batch.getFromVersion() + 1, batch.getVersion());
+
+            if (batch.getVersion() >= 0 && lastVersion >= 0 && batch.getFromVersion() > lastVersion) {
+                logger.warn("Flag change stream skipped from version {} to {}; running delta sync",
+                        lastVersion, batch.getFromVersion() + 1);
+                // Never wait on the poll thread; a sync already running catches up to the same versions
+                syncService.trySyncWithFeatureFlagService();
+            }
+            lastVersion = Math.max(lastVersion, batch.getVersion());
+
+            flagCacheService.applyBatch(batch);
+            propagationTracker.recordApplied(batch, "stream");
+        } catch (Exception e) {
+            logger.error("Failed to process flag change stream record {}: {}", record.getId(), payload, e);
+        }
+    }
+}
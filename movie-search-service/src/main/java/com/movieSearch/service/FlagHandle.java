@@ -0,0 +1,39 @@
+package com.movieSearch.service;
+
+import com.movieSearch.evaluation.EvaluationContext;
+import com.movieSearch.evaluation.FlagEvaluator;
+
+/**
+ * Pre-resolved reference to one flag, from {@link FeatureFlagCacheService#handle(String)}.
+ * The cache repoints it whenever the flag changes, so a read is one volatile field load and the
+ * evaluator call, with no map lookup. Resolve handles once, e.g. in a constructor, and keep them.
+ */
+public final class FlagHandle {
+
+    private final String name;
+    private volatile FlagEvaluator evaluator;
+
+    FlagHandle(String name, FlagEvaluator evaluator) {
+        this.name = name;
+        this.evaluator = evaluator;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Whether the flag is enabled for anonymous callers, i.e. enabled and rolled out to everyone
+     */
+    public boolean isEnabled() {
+        return evaluator.isEnabled(EvaluationContext.ANONYMOUS);
+    }
+
+    public boolean isEnabled(EvaluationContext context) {
+        return evaluator.isEnabled(context);
+    }
+
+    void update(FlagEvaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+}
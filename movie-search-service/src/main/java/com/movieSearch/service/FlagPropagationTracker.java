@@ -0,0 +1,170 @@
+package com.movieSearch.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movieSearch.dto.FlagChangesDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Measures how long flag changes take to reach this instance and reports what it has applied.
+ * <p>
+ * Each batch received over Redis carries its publish time; the gap to when it was applied here is
+ * recorded in the {@code flags.propagation.lag} histogram (tagged by transport and origin). Lag across
+ * hosts is only as accurate as their clock sync. After every batch or sync, and on a heartbeat, the
+ * synced flag-set version is written to the {@value #INSTANCES_KEY} hash, which the Feature Flag
+ * Service reads to answer which instances have applied a version.
+ */
+@Component
+public class FlagPropagationTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlagPropagationTracker.class);
+
+    public static final String INSTANCES_KEY = "feature-flags-instances";
+
+    private final FeatureFlagCacheService flagCacheService;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String instanceId;
+    private final Clock clock;
+
+    // Held across the Redis write so an older report can never overwrite a newer one; a lock rather
+    // than a monitor so batch and refresh threads waiting on it are not pinned to their carriers
+    private final ReentrantLock reportLock = new ReentrantLock();
+
+    // Guarded by reportLock
+    private Long reportedVersion;
+    private Long appliedAtMillis;
+    private Double lastLagMillis;
+
+    @Autowired
+    public FlagPropagationTracker(FeatureFlagCacheService flagCacheService,
+                                  StringRedisTemplate redisTemplate,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${feature-flag.propagation.instance-id:${HOSTNAME:localhost}:${server.port:8081}}") String instanceId) {
+        this(flagCacheService, redisTemplate, objectMapper, meterRegistry, instanceId, Clock.systemUTC());
+    }
+
+    FlagPropagationTracker(FeatureFlagCacheService flagCacheService, StringRedisTemplate redisTemplate,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry, String instanceId, Clock clock) {
+        this.flagCacheService = flagCacheService;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.instanceId = instanceId;
+        this.clock = clock;
+        meterRegistry.gauge("flags.synced.version", flagCacheService,
+                cache -> cache.getSyncedVersion() != null ? cache.getSyncedVersion() : -1);
+    }
+
+    /**
+     * Record the lag of a batch just applied from {@code transport} and report the new synced version
+     */
+    public void recordApplied(FlagChangesDTO batch, String transport) {
+        Long publishedAtMicros = batch.getPublishedAtMicros();
+        if (publishedAtMicros != null) {
+            long lagMicros = Math.max(0, ChronoUnit.MICROS.between(Instant.EPOCH, clock.instant()) - publishedAtMicros);
+            Timer.builder("flags.propagation.lag")
+                    .description("Time from a flag change batch being published to it being applied on this instance")
+                    .tag("transport", transport)
+                    .tag("origin", batch.getOrigin() != null ? batch.getOrigin() : "unknown")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(lagMicros, TimeUnit.MICROSECONDS);
+            reportLock.lock();
+            try {
+                lastLagMillis = lagMicros / 1000.0;
+            } finally {
+                reportLock.unlock();
+            }
+            logger.debug("Flag changes up to version {} from {} applied {} us after publish",
+                    batch.getVersion(), batch.getOrigin(), lagMicros);
+        }
+        report();
+    }
+
+    /**
+     * Write the synced version of this instance to Redis; also a heartbeat, so the Feature Flag Service
+     * can tell live instances from ones that went away
+     */
+    public void report() {
+        reportLock.lock();
+        try {
+            write();
+        } finally {
+            reportLock.unlock();
+        }
+    }
+
+    /**
+     * Heartbeat; skipped while another report is being written, since that one refreshes the entry too
+     */
+    @Scheduled(fixedDelayString = "${feature-flag.propagation.report-interval:PT15S}")
+    public void heartbeat() {
+        if (!reportLock.tryLock()) {
+            return;
+        }
+        try {
+            write();
+        } finally {
+            reportLock.unlock();
+        }
+    }
+
+    private void write() {
+        Long version = flagCacheService.getSyncedVersion();
+        long now = clock.millis();
+        if (version != null && !version.equals(reportedVersion)) {
+            reportedVersion = version;
+            appliedAtMillis = now;
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("appliedVersion", reportedVersion);
+        report.put("appliedAtMillis", appliedAtMillis);
+        report.put("reportedAtMillis", now);
+        report.put("lastLagMillis", lastLagMillis);
+
+        try {
+            redisTemplate.opsForHash().put(INSTANCES_KEY, instanceId, objectMapper.writeValueAsString(report));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize propagation report", e);
+        } catch (Exception e) {
+            logger.warn("Could not report applied flag version to Redis: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Remove this instance's report on shutdown; runs on context close, before the Redis connection factory stops
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void deregister() {
+        try {
+            redisTemplate.opsForHash().delete(INSTANCES_KEY, instanceId);
+        } catch (Exception e) {
+            logger.debug("Could not remove propagation report on shutdown: {}", e.getMessage());
+        }
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+}
@@ -0,0 +1,149 @@
+package com.movieSearch.service;
+
+import com.movieSearch.dto.MovieBatchResponseDTO;
+import com.movieSearch.dto.MovieSearchResponseDTO;
+import com.movieSearch.exception.ExternalApiException;
+import com.movieSearch.exception.MaintenanceModeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Fetches details for many movies in one request.
+ * Cached IDs complete immediately; misses are fetched in parallel with a per-batch concurrency limit.
+ * A failing ID is reported in the errors map without failing the rest of the batch; upstream failures
+ * get the same fixed message as {@code GlobalExceptionHandler}, with the detail only in the log.
+ */
+@Service
+public class MovieBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovieBatchService.class);
+
+    static final String UPSTREAM_ERROR = "Unable to connect to movie database. Please try again later.";
+    static final String UNEXPECTED_ERROR = "An unexpected error occurred. Please try again later.";
+
+    private final MovieSearchService movieSearchService;
+    private final FeatureFlagCacheService flagCacheService;
+    private final int maxSize;
+    private final int concurrency;
+
+    @Autowired
+    public MovieBatchService(MovieSearchService movieSearchService,
+                             FeatureFlagCacheService flagCacheService,
+                             @Value("${movie-search.batch.max-size:50}") int maxSize,
+                             @Value("${movie-search.batch.concurrency:5}") int concurrency) {
+        this.movieSearchService = movieSearchService;
+        this.flagCacheService = flagCacheService;
+        this.maxSize = maxSize;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Get details for every IMDB ID, keyed by ID in request order
+     */
+    public Mono<MovieBatchResponseDTO> getMovieDetailsBatch(List<String> imdbIds) {
+        return Mono.defer(() -> {
+            // One maintenance error for the whole batch rather than one per ID
+            if (flagCacheService.isMaintenanceModeEnabled()) {
+                logger.warn("Movie batch request blocked due to maintenance mode");
+                throw new MaintenanceModeException("Service is currently under maintenance. Please try again later.");
+            }
+
+            List<String> ids = normalize(imdbIds);
+            logger.info("Getting movie details for batch of {} IMDB IDs", ids.size());
+
+            return Flux.fromIterable(ids)
+                    .flatMap(this::fetch, concurrency)
+                    .collectMap(BatchOutcome::imdbId)
+                    .map(outcomes -> toResponse(ids, outcomes));
+        });
+    }
+
+    private Mono<BatchOutcome> fetch(String imdbId) {
+        return movieSearchService.getMovieDetailsReactive(imdbId)
+                .map(result -> "False".equalsIgnoreCase(result.getResponse())
+                        ? BatchOutcome.failure(imdbId, result.getError() != null ? result.getError() : "Movie not found")
+                        : BatchOutcome.success(imdbId, result))
+                .defaultIfEmpty(BatchOutcome.failure(imdbId, "No response received from movie database"))
+                .onErrorResume(e -> {
+                    logger.warn("Batch lookup failed for IMDB ID '{}'", imdbId, e);
+                    return Mono.just(BatchOutcome.failure(imdbId, clientMessage(e)));
+                });
+    }
+
+    /**
+     * What the caller may see about a failed lookup; exception text can carry upstream URLs (with the API key)
+     */
+    private String clientMessage(Throwable e) {
+        if (e instanceof IllegalArgumentException) {
+            // Our own validation of the ID
+            return e.getMessage();
+        }
+        if (e instanceof ExternalApiException || e instanceof WebClientException || e instanceof TimeoutException) {
+            return UPSTREAM_ERROR;
+        }
+        return UNEXPECTED_ERROR;
+    }
+
+    private List<String> normalize(List<String> imdbIds) {
+        if (imdbIds == null || imdbIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one IMDB ID is required");
+        }
+
+        LinkedHashSet<String> ids = new LinkedHashSet<>();
+        imdbIds.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .forEach(ids::add);
+
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one IMDB ID is required");
+        }
+
+        if (ids.size() > maxSize) {
+            throw new IllegalArgumentException("Batch size cannot exceed " + maxSize + " IMDB IDs");
+        }
+        return List.copyOf(ids);
+    }
+
+    private MovieBatchResponseDTO toResponse(List<String> ids, Map<String, BatchOutcome> outcomes) {
+        Map<String, MovieSearchResponseDTO> results = new LinkedHashMap<>();
+        Map<String, String> errors = new LinkedHashMap<>();
+
+        for (String id : ids) {
+            BatchOutcome outcome = outcomes.get(id);
+            if (outcome.result() != null) {
+                results.put(id, outcome.result());
+            } else {
+                errors.put(id, outcome.error());
+            }
+        }
+
+        logger.info("Movie batch completed - {} found, {} failed", results.size(), errors.size());
+        return new MovieBatchResponseDTO(results, errors);
+    }
+
+    private record BatchOutcome(String imdbId, MovieSearchResponseDTO result, String error) {
+
+        static BatchOutcome success(String imdbId, MovieSearchResponseDTO result) {
+            return new BatchOutcome(imdbId, result, null);
+        }
+
+        static BatchOutcome failure(String imdbId, String error) {
+            return new BatchOutcome(imdbId, null, error);
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package com.movieSearch.service;
 
+import com.movieSearch.cache.MovieCacheKeys;
 import com.movieSearch.client.OMDBClient;
 import com.movieSearch.dto.MovieSearchResponseDTO;
+import com.movieSearch.evaluation.EvaluationContext;
+import com.movieSearch.exception.ExternalApiException;
 import com.movieSearch.exception.MaintenanceModeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
 
 @Service
 public class MovieSearchService {
@@ -41,29 +47,16 @@ public class MovieSearchService {
     /**
      * Search movies by title with optional type filter and pagination
      */
-    @Cacheable(value = "movieSearch", key = "#title + '_' + #page + '_' + (#type != null ? #type : 'all')",
-            condition = "#title != null && #title.length() > 2")
+    @Cacheable(value = MovieCacheKeys.MOVIE_SEARCH_CACHE,
+            key = "T(com.movieSearch.cache.MovieCacheKeys).search(#title, #page, #type)",
+            condition = "#title != null && #title.trim().length() > 1 && #page > 0 && !@featureFlagCacheService.isMaintenanceModeEnabled()",
+            unless = "#result == null || (#result.response == 'False' && #result.error != 'Movie not found!')")
     public MovieSearchResponseDTO searchMovies(String title, int page, String type) {
         logger.info("Searching movies: title='{}', page={}, type={}", title, page, type);
 
         // Check maintenance mode first
-        if (flagCacheService.isMaintenanceModeEnabled()) {
-            logger.warn("Movie search blocked due to maintenance mode");
-            throw new MaintenanceModeException("Service is currently under maintenance. Please try again later.");
-        }
-
-        // Validate input
-        if (title == null || title.trim().isEmpty()) {
-            throw new IllegalArgumentException("Movie title cannot be empty");
-        }
-
-        if (page < 1) {
-            throw new IllegalArgumentException("Page number must be greater than 0");
-        }
-
-        if (title.trim().length() < 2) {
-            throw new IllegalArgumentException("Movie title must be at least 2 characters long");
-        }
+        checkMaintenanceMode("Movie search");
+        validateSearchRequest(title, page);
 
         try {
             MovieSearchResponseDTO result = omdbClient.searchMovies(title.trim(), page, type);
@@ -77,23 +70,41 @@ public class MovieSearchService {
         }
     }
 
+    /**
+     * Non-blocking search; shares cache entries with the blocking variant
+     */
+    @Cacheable(value = MovieCacheKeys.MOVIE_SEARCH_CACHE,
+            key = "T(com.movieSearch.cache.MovieCacheKeys).search(#title, #page, #type)",
+            condition = "#title != null && #title.trim().length() > 1 && #page > 0 && !@featureFlagCacheService.isMaintenanceModeEnabled()",
+            unless = "#result == null || (#result.response == 'False' && #result.error != 'Movie not found!')")
+    public Mono<MovieSearchResponseDTO> searchMoviesReactive(String title, int page, String type) {
+        return Mono.defer(() -> {
+                    logger.info("Searching movies (reactive): title='{}', page={}, type={}", title, page, type);
+
+                    checkMaintenanceMode("Movie search");
+                    validateSearchRequest(title, page);
+
+                    return omdbClient.searchMoviesReactive(title.trim(), page, type);
+                })
+                .doOnNext(result -> logger.info("Movie search completed for title '{}' - Found {} results",
+                        title, result.getSearch() != null ? result.getSearch().size() : 0))
+                .doOnError(ExternalApiException.class,
+                        e -> logger.error("Failed to search movies for title: {}", title, e));
+    }
+
     /**
      * Get movie details by IMDB ID
      */
-    @Cacheable(value = "movieDetails", key = "#imdbId")
+    @Cacheable(value = MovieCacheKeys.MOVIE_DETAILS_CACHE,
+            key = "T(com.movieSearch.cache.MovieCacheKeys).details(#imdbId)",
+            condition = "#imdbId != null && !#imdbId.isBlank() && !@featureFlagCacheService.isMaintenanceModeEnabled()",
+            unless = "#result == null || #result.response == 'False'")
     public MovieSearchResponseDTO getMovieDetails(String imdbId) {
         logger.info("Getting movie details for IMDB ID: {}", imdbId);
 
         // Check maintenance mode
-        if (flagCacheService.isMaintenanceModeEnabled()) {
-            logger.warn("Movie details request blocked due to maintenance mode");
-            throw new MaintenanceModeException("Service is currently under maintenance. Please try again later.");
-        }
-
-        // Validate input
-        if (imdbId == null || imdbId.trim().isEmpty()) {
-            throw new IllegalArgumentException("IMDB ID cannot be empty");
-        }
+        checkMaintenanceMode("Movie details request");
+        validateImdbId(imdbId);
 
         try {
             MovieSearchResponseDTO result = omdbClient.getMovieById(imdbId.trim());
@@ -106,6 +117,27 @@ public class MovieSearchService {
         }
     }
 
+    /**
+     * Non-blocking movie details lookup; shares cache entries with the blocking variant
+     */
+    @Cacheable(value = MovieCacheKeys.MOVIE_DETAILS_CACHE,
+            key = "T(com.movieSearch.cache.MovieCacheKeys).details(#imdbId)",
+            condition = "#imdbId != null && !#imdbId.isBlank() && !@featureFlagCacheService.isMaintenanceModeEnabled()",
+            unless = "#result == null || #result.response == 'False'")
+    public Mono<MovieSearchResponseDTO> getMovieDetailsReactive(String imdbId) {
+        return Mono.defer(() -> {
+                    logger.info("Getting movie details (reactive) for IMDB ID: {}", imdbId);
+
+                    checkMaintenanceMode("Movie details request");
+                    validateImdbId(imdbId);
+
+                    return omdbClient.getMovieByIdReactive(imdbId.trim());
+                })
+                .doOnNext(result -> logger.info("Movie details retrieved for IMDB ID: {}", imdbId))
+                .doOnError(ExternalApiException.class,
+                        e -> logger.error("Failed to get movie details for IMDB ID: {}", imdbId, e));
+    }
+
     /**
      * Get service health status
      */
@@ -116,7 +148,8 @@ public class MovieSearchService {
         ServiceHealthDTO health = new ServiceHealthDTO(
                 !maintenanceMode && omdbHealthy ? "UP" : "DOWN",
                 maintenanceMode,
-                omdbHealthy
+                omdbHealthy,
+                omdbClient.getCircuitStates()
         );
 
         logger.debug("Service health check: {}", health);
@@ -127,8 +160,15 @@ public class MovieSearchService {
      * Get current feature flag status for this service
      */
     public FeatureFlagStatusDTO getFeatureFlagStatus() {
+        return getFeatureFlagStatus(EvaluationContext.ANONYMOUS);
+    }
+
+    /**
+     * Get current feature flag status, with user-facing flags evaluated for the given context
+     */
+    public FeatureFlagStatusDTO getFeatureFlagStatus(EvaluationContext context) {
         return new FeatureFlagStatusDTO(
-                flagCacheService.isDarkModeEnabled(),
+                flagCacheService.isDarkModeEnabled(context),
                 flagCacheService.isMaintenanceModeEnabled(),
                 flagCacheService.getStats()
         );
@@ -136,10 +176,39 @@ public class MovieSearchService {
 
     /**
      * Refresh feature flags from Feature Flag Service
+     *
+     * @return false if a sync was already in progress, so this request did not start another
      */
-    public void refreshFeatureFlags() {
+    public boolean refreshFeatureFlags() {
         logger.info("Manually refreshing feature flags");
-        syncService.syncWithFeatureFlagService();
+        return syncService.trySyncWithFeatureFlagService();
+    }
+
+    private void checkMaintenanceMode(String operation) {
+        if (flagCacheService.isMaintenanceModeEnabled()) {
+            logger.warn("{} blocked due to maintenance mode", operation);
+            throw new MaintenanceModeException("Service is currently under maintenance. Please try again later.");
+        }
+    }
+
+    private void validateSearchRequest(String title, int page) {
+        if (title == null || title.trim().isEmpty()) {
+            throw new IllegalArgumentException("Movie title cannot be empty");
+        }
+
+        if (page < 1) {
+            throw new IllegalArgumentException("Page number must be greater than 0");
+        }
+
+        if (title.trim().length() < 2) {
+            throw new IllegalArgumentException("Movie title must be at least 2 characters long");
+        }
+    }
+
+    private void validateImdbId(String imdbId) {
+        if (imdbId == null || imdbId.trim().isEmpty()) {
+            throw new IllegalArgumentException("IMDB ID cannot be empty");
+        }
     }
 
     // Health DTO
@@ -147,16 +216,20 @@ public class MovieSearchService {
         private final String status;
         private final boolean maintenanceMode;
         private final boolean omdbApiHealthy;
+        private final Map<String, String> omdbCircuitStates;
 
-        public ServiceHealthDTO(String status, boolean maintenanceMode, boolean omdbApiHealthy) {
+        public ServiceHealthDTO(String status, boolean maintenanceMode, boolean omdbApiHealthy,
+                                Map<String, String> omdbCircuitStates) {
             this.status = status;
             this.maintenanceMode = maintenanceMode;
             this.omdbApiHealthy = omdbApiHealthy;
+            this.omdbCircuitStates = omdbCircuitStates;
         }
 
         public String getStatus() { return status; }
         public boolean isMaintenanceMode() { return maintenanceMode; }
         public boolean isOmdbApiHealthy() { return omdbApiHealthy; }
+        public Map<String, String> getOmdbCircuitStates() { return omdbCircuitStates; }
     }
 
     // Feature Flag Status DTO
@@ -0,0 +1,83 @@
+package com.movieSearch.service;
+
+import com.movieSearch.dto.MovieResponseDTO;
+import com.movieSearch.dto.MovieSearchResponseDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams every result page of a search as individual movies.
+ * The first page tells us how many pages exist; the rest are fetched in parallel with bounded concurrency.
+ */
+@Service
+public class MovieStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovieStreamService.class);
+
+    private static final int OMDB_PAGE_SIZE = 10;
+
+    private final MovieSearchService movieSearchService;
+    private final int maxPages;
+    private final int concurrency;
+
+    @Autowired
+    public MovieStreamService(MovieSearchService movieSearchService,
+                              @Value("${movie-search.stream.max-pages:10}") int maxPages,
+                              @Value("${movie-search.stream.concurrency:4}") int concurrency) {
+        this.movieSearchService = movieSearchService;
+        this.maxPages = maxPages;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Stream all movies matching the title, deduplicated by IMDB ID, in arrival order
+     */
+    public Flux<MovieResponseDTO> streamSearch(String title, String type) {
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+
+        return movieSearchService.searchMoviesReactive(title, 1, type)
+                .flatMapMany(firstPage -> {
+                    int pages = Math.min(pageCount(firstPage), maxPages);
+                    logger.info("Streaming search for title '{}' - fetching {} page(s)", title, pages);
+
+                    Flux<MovieSearchResponseDTO> remaining = Flux.range(2, Math.max(pages - 1, 0))
+                            .flatMap(page -> fetchPage(title, page, type), concurrency);
+
+                    return Flux.concat(Mono.just(firstPage), remaining);
+                })
+                .flatMapIterable(page -> page.getSearch() != null ? page.getSearch() : List.<MovieResponseDTO>of())
+                .filter(movie -> movie.getImdbId() == null || seen.add(movie.getImdbId()));
+    }
+
+    private Mono<MovieSearchResponseDTO> fetchPage(String title, int page, String type) {
+        // A failed page is skipped so the client still receives every other page
+        return movieSearchService.searchMoviesReactive(title, page, type)
+                .onErrorResume(e -> {
+                    logger.warn("Skipping page {} of streamed search for title '{}': {}", page, title, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private int pageCount(MovieSearchResponseDTO firstPage) {
+        if (!"True".equalsIgnoreCase(firstPage.getResponse()) || firstPage.getTotalResults() == null) {
+            return 1;
+        }
+
+        try {
+            int totalResults = Integer.parseInt(firstPage.getTotalResults().trim());
+            return Math.max(1, (totalResults + OMDB_PAGE_SIZE - 1) / OMDB_PAGE_SIZE);
+        } catch (NumberFormatException e) {
+            logger.warn("Unexpected totalResults '{}' for streamed search", firstPage.getTotalResults());
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.movieSearch.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TwoTierCacheTest {
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private ConcurrentMapCache remote;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        local = Caffeine.newBuilder().maximumSize(100).build();
+        remote = new ConcurrentMapCache("movieSearch");
+        cache = new TwoTierCache("movieSearch", local, remote);
+    }
+
+    @Test
+    void put_WritesBothTiers() {
+        // When
+        cache.put("matrix_1_all", "result");
+
+        // Then
+        assertThat(local.getIfPresent("matrix_1_all")).isEqualTo("result");
+        assertThat(remote.get("matrix_1_all").get()).isEqualTo("result");
+    }
+
+    @Test
+    void get_RemoteHit_PromotesIntoLocal() {
+        // Given
+        remote.put("matrix_1_all", "shared");
+
+        // When
+        Cache.ValueWrapper result = cache.get("matrix_1_all");
+
+        // Then
+        assertThat(result.get()).isEqualTo("shared");
+        assertThat(local.getIfPresent("matrix_1_all")).isEqualTo("shared");
+    }
+
+    @Test
+    void get_RemoteFailure_TreatedAsMiss() {
+        // Given
+        Cache failingRemote = mock(Cache.class);
+        when(failingRemote.get(any())).thenThrow(new IllegalStateException("Redis down"));
+        doThrow(new IllegalStateException("Redis down")).when(failingRemote).put(any(), any());
+        TwoTierCache degraded = new TwoTierCache("movieSearch", local, failingRemote);
+
+        // When
+        degraded.put("matrix_1_all", "result");
+
+        // Then
+        assertThat(degraded.get("matrix_1_all").get()).isEqualTo("result");
+        assertThat(degraded.get("unknown")).isNull();
+    }
+
+    @Test
+    void searchKey_NormalizesTitleAndType() {
+        // Then
+        assertThat(MovieCacheKeys.search("  The Matrix ", 1, null))
+                .isEqualTo(MovieCacheKeys.search("the matrix", 1, " "));
+        assertThat(MovieCacheKeys.search("Matrix", 2, "Movie")).isEqualTo("matrix_2_movie");
+    }
+}
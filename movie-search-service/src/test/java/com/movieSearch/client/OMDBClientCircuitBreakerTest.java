@@ -0,0 +1,73 @@
+package com.movieSearch.client;
+
+import com.movieSearch.dto.MovieSearchResponseDTO;
+import com.movieSearch.exception.ExternalApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OMDBClientCircuitBreakerTest {
+
+    private MockWebServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private OMDBCircuitBreaker circuitBreaker;
+    private OMDBClient omdbClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new OMDBCircuitBreaker(meterRegistry, 2, 2, 50, 100,
+                Duration.ofSeconds(5), Duration.ofMinutes(1), 1, 100, Duration.ofHours(1));
+        RequestHedger hedger = new RequestHedger(meterRegistry, false, 0.95, Duration.ofSeconds(1),
+                Duration.ofMillis(50), Duration.ofSeconds(3), 0.05, 10);
+        OMDBHealthMonitor healthMonitor = new OMDBHealthMonitor(circuitBreaker, 3, Duration.ofSeconds(5));
+        omdbClient = new OMDBClient(WebClient.builder(), HttpClient.create(), meterRegistry, circuitBreaker, hedger,
+                healthMonitor, "test-key", server.url("/").toString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void searchMovies_CircuitOpen_ServesStaleOrFailsFast() {
+        // Given
+        server.enqueue(json("{\"Search\":[],\"totalResults\":\"0\",\"Response\":\"True\"}"));
+        server.enqueue(new MockResponse().setResponseCode(500));
+
+        omdbClient.searchMovies("matrix", 1, null);
+        assertThatThrownBy(() -> omdbClient.searchMovies("alien", 1, null)).isInstanceOf(ExternalApiException.class);
+
+        // When
+        MovieSearchResponseDTO stale = omdbClient.searchMovies("matrix", 1, null);
+
+        // Then
+        assertThat(stale.getResponse()).isEqualTo("True");
+        assertThatThrownBy(() -> omdbClient.searchMovies("alien", 1, null))
+                .isInstanceOf(ExternalApiException.class)
+                .hasMessage("Movie database is temporarily unavailable");
+        assertThat(server.getRequestCount()).isEqualTo(2);
+        assertThat(omdbClient.getCircuitStates()).containsEntry("search", "OPEN").containsEntry("details", "CLOSED");
+        assertThat(omdbClient.isApiHealthy()).isFalse();
+        assertThat(meterRegistry.get("omdb.circuitbreaker.transitions").tag("to", "OPEN").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private MockResponse json(String body) {
+        return new MockResponse().setHeader("Content-Type", "application/json").setBody(body);
+    }
+}
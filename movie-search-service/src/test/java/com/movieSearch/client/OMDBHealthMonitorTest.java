@@ -0,0 +1,81 @@
+package com.movieSearch.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OMDBHealthMonitorTest {
+
+    private OMDBCircuitBreaker circuitBreaker;
+    private OMDBHealthMonitor healthMonitor;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = mock(OMDBCircuitBreaker.class);
+        healthMonitor = new OMDBHealthMonitor(circuitBreaker, 2, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void track_ConsecutiveFailures_ReportsDown() {
+        // When
+        fail();
+        fail();
+
+        // Then
+        assertThat(healthMonitor.isHealthy()).isFalse();
+        assertThat(healthMonitor.health().getStatus()).isEqualTo(Status.DOWN);
+        assertThat(healthMonitor.health().getDetails()).containsEntry("lastError", "OMDB down");
+    }
+
+    @Test
+    void track_SuccessAfterFailures_ReportsUp() {
+        // Given
+        fail();
+        fail();
+
+        // When
+        healthMonitor.track(Mono.just("ok")).block();
+
+        // Then
+        assertThat(healthMonitor.isHealthy()).isTrue();
+        assertThat(healthMonitor.getIdleTime()).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void isHealthy_NoTraffic_AssumesUpAndReportsIdle() {
+        // Then
+        assertThat(healthMonitor.isHealthy()).isTrue();
+        assertThat(healthMonitor.getIdleTime()).isNull();
+    }
+
+    @Test
+    void health_CircuitOpen_ReportsDownDespiteSuccessfulCalls() {
+        // Given
+        healthMonitor.track(Mono.just("ok")).block();
+        when(circuitBreaker.isOpen()).thenReturn(true);
+        when(circuitBreaker.getStates()).thenReturn(Map.of("search", "OPEN", "details", "CLOSED"));
+
+        // When
+        Health health = healthMonitor.health();
+
+        // Then
+        assertThat(healthMonitor.isHealthy()).isTrue();
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("circuitBreakers", Map.of("search", "OPEN", "details", "CLOSED"));
+    }
+
+    private void fail() {
+        healthMonitor.track(Mono.error(new IllegalStateException("OMDB down")))
+                .onErrorResume(e -> Mono.empty())
+                .block();
+    }
+}
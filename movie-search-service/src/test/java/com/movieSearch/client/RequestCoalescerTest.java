@@ -0,0 +1,79 @@
+package com.movieSearch.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescer<String> coalescer;
+    private AtomicInteger upstreamCalls;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new RequestCoalescer<>("search", meterRegistry);
+        upstreamCalls = new AtomicInteger();
+    }
+
+    @Test
+    void execute_ConcurrentSameKey_SharesOneUpstreamCall() {
+        // Given
+        Sinks.One<String> upstream = Sinks.one();
+        Mono<String> first = coalescer.execute("matrix_1_all", () -> countCall(upstream.asMono()));
+        Mono<String> second = coalescer.execute("matrix_1_all", () -> countCall(upstream.asMono()));
+        List<String> results = new CopyOnWriteArrayList<>();
+
+        // When
+        first.subscribe(results::add);
+        second.subscribe(results::add);
+        assertThat(coalescer.getInFlightWaiters()).containsEntry("matrix_1_all", 2);
+        upstream.tryEmitValue("result");
+
+        // Then
+        assertThat(results).containsExactly("result", "result");
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(coalescer.getInFlightWaiters()).isEmpty();
+        assertThat(meterRegistry.get("omdb.requests.coalescing.waiters").summary().max()).isEqualTo(2.0);
+    }
+
+    @Test
+    void execute_AfterCompletion_StartsNewCall() {
+        // When
+        coalescer.execute("matrix_1_all", () -> countCall(Mono.just("first"))).block();
+        String result = coalescer.execute("matrix_1_all", () -> countCall(Mono.just("second"))).block();
+
+        // Then
+        assertThat(result).isEqualTo("second");
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void execute_UpstreamError_PropagatesToAllWaiters() {
+        // Given
+        Sinks.One<String> upstream = Sinks.one();
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        coalescer.execute("matrix_1_all", upstream::asMono).subscribe(v -> {}, errors::add);
+        coalescer.execute("matrix_1_all", upstream::asMono).subscribe(v -> {}, errors::add);
+
+        // When
+        upstream.tryEmitError(new IllegalStateException("OMDB down"));
+
+        // Then
+        assertThat(errors).hasSize(2).allSatisfy(e -> assertThat(e).hasMessage("OMDB down"));
+    }
+
+    private Mono<String> countCall(Mono<String> result) {
+        upstreamCalls.incrementAndGet();
+        return result;
+    }
+}
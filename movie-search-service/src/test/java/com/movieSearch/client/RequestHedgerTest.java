@@ -0,0 +1,80 @@
+package com.movieSearch.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestHedgerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestHedger hedger;
+    private AtomicInteger subscriptions;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Budget of a single hedge that refills at 5% per request
+        hedger = new RequestHedger(meterRegistry, true, 0.95, Duration.ofMillis(50),
+                Duration.ofMillis(10), Duration.ofSeconds(1), 0.05, 1);
+        subscriptions = new AtomicInteger();
+    }
+
+    @Test
+    void execute_SlowPrimary_HedgeWins() {
+        // When
+        String result = hedger.execute("search", slowFirstCall()).block(Duration.ofSeconds(1));
+
+        // Then
+        assertThat(result).isEqualTo("call-2");
+        assertThat(subscriptions.get()).isEqualTo(2);
+        assertThat(hedgeCount("fired")).isEqualTo(1.0);
+        assertThat(hedgeCount("won")).isEqualTo(1.0);
+    }
+
+    @Test
+    void execute_BudgetExhausted_WaitsForPrimary() {
+        // Given
+        hedger.execute("search", slowFirstCall()).block(Duration.ofSeconds(1));
+        subscriptions.set(0);
+
+        // When
+        String result = hedger.execute("search", slowFirstCall()).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo("call-1");
+        assertThat(subscriptions.get()).isEqualTo(1);
+        assertThat(hedgeCount("denied")).isEqualTo(1.0);
+    }
+
+    @Test
+    void execute_Disabled_PassesThrough() {
+        // Given
+        RequestHedger disabled = new RequestHedger(meterRegistry, false, 0.95, Duration.ofMillis(50),
+                Duration.ofMillis(10), Duration.ofSeconds(1), 0.05, 1);
+
+        // When
+        String result = disabled.execute("search", slowFirstCall()).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(result).isEqualTo("call-1");
+        assertThat(subscriptions.get()).isEqualTo(1);
+    }
+
+    private Mono<String> slowFirstCall() {
+        return Mono.defer(() -> {
+            int call = subscriptions.incrementAndGet();
+            Duration latency = call == 1 ? Duration.ofMillis(500) : Duration.ofMillis(5);
+            return Mono.delay(latency).thenReturn("call-" + call);
+        });
+    }
+
+    private double hedgeCount(String outcome) {
+        return meterRegistry.get("omdb.requests.hedge").tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,85 @@
+package com.movieSearch.evaluation;
+
+import com.movieSearch.dto.FlagTargetingDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlagEvaluatorCompilerTest {
+
+    @Test
+    void compile_DisabledOrUntargeted_ReturnsConstants() {
+        // When & Then
+        assertThat(FlagEvaluatorCompiler.compile("dark_mode", false, targeting(100))).isSameAs(FlagEvaluator.OFF);
+        assertThat(FlagEvaluatorCompiler.compile("dark_mode", true, null)).isSameAs(FlagEvaluator.ON);
+        assertThat(FlagEvaluatorCompiler.compile("dark_mode", true, targeting(100))).isSameAs(FlagEvaluator.ON);
+        assertThat(FlagEvaluatorCompiler.compile("dark_mode", true, targeting(0))).isSameAs(FlagEvaluator.OFF);
+    }
+
+    @Test
+    void percentageRollout_IsStableAndCloseToTarget() {
+        // Given
+        FlagEvaluator evaluator = FlagEvaluatorCompiler.compile("dark_mode", true, targeting(25));
+
+        // When
+        long enabled = IntStream.range(0, 20_000)
+                .filter(i -> evaluator.isEnabled(EvaluationContext.of("user-" + i)))
+                .count();
+
+        // Then
+        assertThat(enabled).isBetween(4_600L, 5_400L);
+        assertThat(evaluator.isEnabled(EvaluationContext.of("user-42")))
+                .isEqualTo(FlagEvaluatorCompiler.bucket("dark_mode", "user-42") < 2_500);
+        assertThat(evaluator.isEnabled(EvaluationContext.ANONYMOUS)).isFalse();
+    }
+
+    @Test
+    void rules_FirstMatchingRuleDecides() {
+        // Given
+        FlagTargetingDTO.Rule beta = rule(100, new FlagTargetingDTO.Condition("key", "IN", List.of("alice", "bob")));
+        FlagTargetingDTO.Rule blocked = rule(0,
+                new FlagTargetingDTO.Condition("country", "IN", List.of("DE")),
+                new FlagTargetingDTO.Condition("plan", "NOT_IN", List.of("premium")));
+        FlagTargetingDTO targeting = targeting(100);
+        targeting.setRules(List.of(beta, blocked));
+
+        // When
+        FlagEvaluator evaluator = FlagEvaluatorCompiler.compile("search_v2", true, targeting);
+
+        // Then
+        assertThat(evaluator.isEnabled(EvaluationContext.of("alice", Map.of("country", "DE")))).isTrue();
+        assertThat(evaluator.isEnabled(EvaluationContext.of("carol", Map.of("country", "DE")))).isFalse();
+        assertThat(evaluator.isEnabled(EvaluationContext.of("carol", Map.of("country", "DE", "plan", "premium")))).isTrue();
+        assertThat(evaluator.isEnabled(EvaluationContext.of("carol", Map.of("country", "FR")))).isTrue();
+    }
+
+    @Test
+    void unknownOperator_RuleNeverMatches() {
+        // Given
+        FlagTargetingDTO targeting = targeting(0);
+        targeting.setRules(List.of(rule(100, new FlagTargetingDTO.Condition("key", "MATCHES", List.of("alice")))));
+
+        // When
+        FlagEvaluator evaluator = FlagEvaluatorCompiler.compile("search_v2", true, targeting);
+
+        // Then
+        assertThat(evaluator.isEnabled(EvaluationContext.of("alice"))).isFalse();
+    }
+
+    private static FlagTargetingDTO targeting(double rollout) {
+        FlagTargetingDTO targeting = new FlagTargetingDTO();
+        targeting.setRollout(rollout);
+        return targeting;
+    }
+
+    private static FlagTargetingDTO.Rule rule(double rollout, FlagTargetingDTO.Condition... conditions) {
+        FlagTargetingDTO.Rule rule = new FlagTargetingDTO.Rule();
+        rule.setConditions(List.of(conditions));
+        rule.setRollout(rollout);
+        return rule;
+    }
+}
@@ -1,9 +1,16 @@
 package com.movieSearch.service;
 
+import com.movieSearch.dto.FeatureFlagResponseDTO;
 import com.movieSearch.dto.FlagChangeEvent;
+import com.movieSearch.dto.FlagChangesDTO;
+import com.movieSearch.dto.FlagTargetingDTO;
+import com.movieSearch.evaluation.EvaluationContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class FeatureFlagCacheServiceTest {
@@ -59,4 +66,179 @@ class FeatureFlagCacheServiceTest {
         assertThat(cacheService.isDarkModeEnabled()).isFalse();
         assertThat(cacheService.isMaintenanceModeEnabled()).isFalse();
     }
+
+    @Test
+    void updateFlag_OlderVersionThanCached_IsIgnored() {
+        // Given
+        cacheService.updateFlag(event("maintenance_mode", true, "UPDATED", 5L));
+
+        // When
+        cacheService.updateFlag(event("maintenance_mode", false, "UPDATED", 4L));
+
+        // Then
+        assertThat(cacheService.isMaintenanceModeEnabled()).isTrue();
+    }
+
+    @Test
+    void applySnapshot_KeepsNewerValuesAndMarksMissingFlagsDeleted() {
+        // Given
+        cacheService.updateFlag(event("dark_mode", true, "UPDATED", 9L));
+
+        // When
+        cacheService.applySnapshot(7L, List.of(flag("dark_mode", false)));
+
+        // Then
+        assertThat(cacheService.isDarkModeEnabled()).isTrue();
+        assertThat(cacheService.getAllFlags()).containsOnlyKeys("dark_mode");
+        assertThat(cacheService.getSyncedVersion()).isEqualTo(7L);
+    }
+
+    @Test
+    void applyChanges_AppliesChangesAndAdvancesSyncedVersion() {
+        // Given
+        cacheService.applySnapshot(3L, List.of(flag("dark_mode", false), flag("maintenance_mode", true)));
+
+        // When
+        cacheService.applyChanges(6L, List.of(
+                event("dark_mode", true, "UPDATED", 4L),
+                event("maintenance_mode", false, "DELETED", 6L)));
+
+        // Then
+        assertThat(cacheService.isDarkModeEnabled()).isTrue();
+        assertThat(cacheService.isMaintenanceModeEnabled()).isFalse();
+        assertThat(cacheService.getSyncedVersion()).isEqualTo(6L);
+    }
+
+    @Test
+    void updateFlags_AppliesBatchWithoutMovingSyncedVersion() {
+        // Given
+        cacheService.applySnapshot(3L, List.of(flag("dark_mode", false), flag("maintenance_mode", false)));
+
+        // When
+        cacheService.updateFlags(List.of(
+                event("dark_mode", true, "UPDATED", 4L),
+                event("maintenance_mode", true, "UPDATED", 5L)));
+
+        // Then
+        assertThat(cacheService.isDarkModeEnabled()).isTrue();
+        assertThat(cacheService.isMaintenanceModeEnabled()).isTrue();
+        assertThat(cacheService.getSyncedVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    void applySnapshot_TargetedFlag_EvaluatesPerUser() {
+        // Given
+        FlagTargetingDTO.Rule beta = new FlagTargetingDTO.Rule();
+        beta.setConditions(List.of(new FlagTargetingDTO.Condition("key", "IN", List.of("alice"))));
+        FlagTargetingDTO targeting = new FlagTargetingDTO();
+        targeting.setRules(List.of(beta));
+        targeting.setRollout(0);
+        FeatureFlagResponseDTO darkMode = flag("dark_mode", true);
+        darkMode.setTargeting(targeting);
+
+        // When
+        cacheService.applySnapshot(2L, List.of(darkMode));
+
+        // Then
+        assertThat(cacheService.isDarkModeEnabled(EvaluationContext.of("alice"))).isTrue();
+        assertThat(cacheService.isDarkModeEnabled(EvaluationContext.of("bob"))).isFalse();
+        assertThat(cacheService.isDarkModeEnabled()).isFalse();
+    }
+
+    @Test
+    void updateFlag_AnyFlagName_IsStored() {
+        // When
+        cacheService.updateFlag(event("new_search_ui", true, "CREATED", 3L));
+
+        // Then
+        assertThat(cacheService.isFlagEnabled("new_search_ui")).isTrue();
+        assertThat(cacheService.isFlagEnabled("never_seen")).isFalse();
+        assertThat(cacheService.getStats().getTotalFlags()).isEqualTo(1);
+    }
+
+    @Test
+    void handle_FollowsFlagThroughChangesAndDeletion() {
+        // Given
+        FlagHandle handle = cacheService.handle("new_search_ui");
+        assertThat(handle.isEnabled()).isFalse();
+
+        // When
+        cacheService.applySnapshot(2L, List.of(flag("new_search_ui", true)));
+
+        // Then
+        assertThat(handle.isEnabled()).isTrue();
+        assertThat(cacheService.handle("new_search_ui")).isSameAs(handle);
+
+        // When
+        cacheService.updateFlag(event("new_search_ui", false, "DELETED", 3L));
+
+        // Then
+        assertThat(handle.isEnabled()).isFalse();
+    }
+
+    @Test
+    void updateFlag_UnknownFlagOlderThanLastSync_IsIgnored() {
+        // Given
+        cacheService.applySnapshot(5L, List.of());
+
+        // When
+        cacheService.updateFlag(event("removed_flag", true, "UPDATED", 4L));
+
+        // Then
+        assertThat(cacheService.isFlagEnabled("removed_flag")).isFalse();
+    }
+
+    @Test
+    void applyBatch_ContinuesFromSyncedVersion_AdvancesSyncedVersion() {
+        // Given
+        cacheService.applySnapshot(3L, List.of(flag("dark_mode", false)));
+
+        // When
+        cacheService.applyBatch(batch(3L, 4L, event("dark_mode", true, "UPDATED", 4L)));
+        cacheService.applyBatch(batch(6L, 7L, event("maintenance_mode", true, "CREATED", 7L)));
+
+        // Then
+        assertThat(cacheService.isDarkModeEnabled()).isTrue();
+        assertThat(cacheService.isMaintenanceModeEnabled()).isTrue();
+        assertThat(cacheService.getSyncedVersion()).isEqualTo(4L);
+    }
+
+    @Test
+    void applyBatch_BulkVersionLargerThanRelayBatch_CachesEveryCreatedFlag() {
+        // Given a bulk create of 150 flags at version 7, published whole by the relay
+        cacheService.applySnapshot(6L, List.of());
+        FlagChangeEvent[] creates = IntStream.range(0, 150)
+                .mapToObj(i -> event("bulk_" + i, true, "CREATED", 7L))
+                .toArray(FlagChangeEvent[]::new);
+
+        // When
+        cacheService.applyBatch(batch(6L, 7L, creates));
+        cacheService.applyBatch(batch(7L, 8L, event("bulk_0", false, "UPDATED", 8L)));
+
+        // Then
+        assertThat(IntStream.range(1, 150)).allMatch(i -> cacheService.isFlagEnabled("bulk_" + i));
+        assertThat(cacheService.isFlagEnabled("bulk_0")).isFalse();
+        assertThat(cacheService.getSyncedVersion()).isEqualTo(8L);
+    }
+
+    private FlagChangeEvent event(String name, boolean enabled, String changeType, Long version) {
+        FlagChangeEvent event = new FlagChangeEvent(name, enabled, changeType);
+        event.setVersion(version);
+        return event;
+    }
+
+    private FlagChangesDTO batch(long fromVersion, long version, FlagChangeEvent... changes) {
+        FlagChangesDTO batch = new FlagChangesDTO();
+        batch.setFromVersion(fromVersion);
+        batch.setVersion(version);
+        batch.setChanges(List.of(changes));
+        return batch;
+    }
+
+    private FeatureFlagResponseDTO flag(String name, boolean enabled) {
+        FeatureFlagResponseDTO flag = new FeatureFlagResponseDTO();
+        flag.setName(name);
+        flag.setEnabled(enabled);
+        return flag;
+    }
 }
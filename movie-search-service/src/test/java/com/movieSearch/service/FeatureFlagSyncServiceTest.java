@@ -0,0 +1,195 @@
+package com.movieSearch.service;
+
+import com.movieSearch.client.FeatureFlagClient;
+import com.movieSearch.dto.FeatureFlagResponseDTO;
+import com.movieSearch.dto.FlagChangeEvent;
+import com.movieSearch.dto.FlagChangesDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeatureFlagSyncServiceTest {
+
+    @Mock
+    private FeatureFlagClient featureFlagClient;
+
+    @Mock
+    private FlagPropagationTracker propagationTracker;
+
+    private FeatureFlagCacheService cacheService;
+    private FeatureFlagSyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        cacheService = new FeatureFlagCacheService();
+        syncService = new FeatureFlagSyncService(cacheService, propagationTracker, featureFlagClient);
+    }
+
+    @Test
+    void sync_FirstFullThenDelta_AppliesChangesSinceSyncedVersion() {
+        // Given
+        when(featureFlagClient.getFlagSummaries())
+                .thenReturn(flags("\"3\"", flag("dark_mode", false), flag("maintenance_mode", false)));
+        when(featureFlagClient.getChangesSince(3L))
+                .thenReturn(ResponseEntity.ok(changes(3, 5, event("dark_mode", true, "UPDATED", 5L))));
+
+        // When
+        syncService.syncWithFeatureFlagService();
+        syncService.syncWithFeatureFlagService();
+
+        // Then
+        assertThat(cacheService.getSyncedVersion()).isEqualTo(5L);
+        assertThat(cacheService.isDarkModeEnabled()).isTrue();
+        verify(featureFlagClient, times(1)).getFlagSummaries();
+        verify(propagationTracker, times(2)).report();
+    }
+
+    @Test
+    void sync_NotModified_KeepsCacheAndDoesNotReport() {
+        // Given
+        cacheService.applySnapshot(4L, List.of(flag("dark_mode", true)));
+        when(featureFlagClient.getChangesSince(4L)).thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+
+        // When
+        syncService.syncWithFeatureFlagService();
+
+        // Then
+        assertThat(cacheService.getSyncedVersion()).isEqualTo(4L);
+        assertThat(cacheService.isDarkModeEnabled()).isTrue();
+        verify(featureFlagClient, never()).getFlagSummaries();
+        verifyNoInteractions(propagationTracker);
+    }
+
+    @Test
+    void sync_ResetRequired_ReplacesCacheWithInlineFlags() {
+        // Given
+        cacheService.applySnapshot(2L, List.of(flag("dark_mode", true), flag("retired_flag", true)));
+        FlagChangesDTO reset = new FlagChangesDTO();
+        reset.setFromVersion(2);
+        reset.setVersion(40);
+        reset.setResetRequired(true);
+        reset.setFlags(List.of(flag("dark_mode", false), flag("maintenance_mode", true)));
+        when(featureFlagClient.getChangesSince(2L)).thenReturn(ResponseEntity.ok(reset));
+
+        // When
+        syncService.syncWithFeatureFlagService();
+
+        // Then
+        assertThat(cacheService.getSyncedVersion()).isEqualTo(40L);
+        assertThat(cacheService.getAllFlags())
+                .containsOnlyKeys("dark_mode", "maintenance_mode")
+                .containsEntry("dark_mode", false)
+                .containsEntry("maintenance_mode", true);
+        verify(propagationTracker).report();
+    }
+
+    @Test
+    void sync_WeakETag_ParsesVersion() {
+        // Given
+        when(featureFlagClient.getFlagSummaries()).thenReturn(flags("W/\"7\"", flag("dark_mode", true)));
+
+        // When
+        syncService.syncWithFeatureFlagService();
+
+        // Then
+        assertThat(cacheService.getSyncedVersion()).isEqualTo(7L);
+    }
+
+    @Test
+    void sync_MissingOrUnparseableETag_StaysOnFullSync() {
+        // Given
+        when(featureFlagClient.getFlagSummaries())
+                .thenReturn(flags(null, flag("dark_mode", true)))
+                .thenReturn(flags("\"not-a-version\"", flag("dark_mode", false)));
+
+        // When
+        syncService.syncWithFeatureFlagService();
+        syncService.syncWithFeatureFlagService();
+
+        // Then
+        assertThat(cacheService.getSyncedVersion()).isNull();
+        assertThat(cacheService.isDarkModeEnabled()).isFalse();
+        verify(featureFlagClient, times(2)).getFlagSummaries();
+        verify(featureFlagClient, never()).getChangesSince(anyLong());
+    }
+
+    @Test
+    void sync_ClientFails_DoesNotThrow() {
+        // Given
+        when(featureFlagClient.getFlagSummaries()).thenThrow(new IllegalStateException("Timeout on blocking read"));
+
+        // When
+        syncService.syncWithFeatureFlagService();
+
+        // Then
+        assertThat(cacheService.getSyncedVersion()).isNull();
+        verifyNoInteractions(propagationTracker);
+    }
+
+    @Test
+    void trySync_WhileSyncInProgress_ReturnsWithoutWaiting() throws Exception {
+        // Given
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(featureFlagClient.getFlagSummaries()).thenAnswer(invocation -> {
+            fetching.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return flags("\"1\"", flag("dark_mode", true));
+        });
+        CompletableFuture<Void> running = CompletableFuture.runAsync(syncService::syncWithFeatureFlagService);
+        assertThat(fetching.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        boolean synced = syncService.trySyncWithFeatureFlagService();
+
+        // Then
+        assertThat(synced).isFalse();
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        verify(featureFlagClient, times(1)).getFlagSummaries();
+        assertThat(cacheService.getSyncedVersion()).isEqualTo(1L);
+    }
+
+    private ResponseEntity<List<FeatureFlagResponseDTO>> flags(String etag, FeatureFlagResponseDTO... flags) {
+        HttpHeaders headers = new HttpHeaders();
+        if (etag != null) {
+            headers.setETag(etag);
+        }
+        return new ResponseEntity<>(List.of(flags), headers, HttpStatus.OK);
+    }
+
+    private FlagChangesDTO changes(long fromVersion, long version, FlagChangeEvent... changes) {
+        FlagChangesDTO delta = new FlagChangesDTO();
+        delta.setFromVersion(fromVersion);
+        delta.setVersion(version);
+        delta.setChanges(List.of(changes));
+        return delta;
+    }
+
+    private FlagChangeEvent event(String name, boolean enabled, String changeType, Long version) {
+        FlagChangeEvent event = new FlagChangeEvent(name, enabled, changeType);
+        event.setVersion(version);
+        return event;
+    }
+
+    private FeatureFlagResponseDTO flag(String name, boolean enabled) {
+        FeatureFlagResponseDTO flag = new FeatureFlagResponseDTO();
+        flag.setName(name);
+        flag.setEnabled(enabled);
+        return flag;
+    }
+}
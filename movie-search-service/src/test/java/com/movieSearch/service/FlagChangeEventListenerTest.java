@@ -0,0 +1,45 @@
+package com.movieSearch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movieSearch.dto.FlagChangeEvent;
+import com.movieSearch.dto.FlagChangesDTO;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlagChangeEventListenerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void parse_Batch_ReadsAllChanges() throws Exception {
+        // Given
+        String payload = "{\"fromVersion\":4,\"version\":7,\"resetRequired\":false,\"changes\":["
+                + "{\"version\":6,\"changeType\":\"UPDATED\",\"flagId\":1,\"flagName\":\"maintenance_mode\",\"enabled\":true,\"changedAt\":[2026,1,1,0,0]},"
+                + "{\"version\":7,\"changeType\":\"UPDATED\",\"flagId\":2,\"flagName\":\"dark_mode\",\"enabled\":false,\"changedAt\":[2026,1,1,0,0]}]}";
+
+        // When
+        FlagChangesDTO batch = FlagChangeEventListener.parse(objectMapper, payload);
+
+        // Then
+        assertThat(batch.getFromVersion()).isEqualTo(4L);
+        assertThat(batch.getVersion()).isEqualTo(7L);
+        assertThat(batch.getChanges()).extracting(FlagChangeEvent::getFlagName)
+                .containsExactly("maintenance_mode", "dark_mode");
+    }
+
+    @Test
+    void parse_SingleEvent_WrapsAsOneChangeBatch() throws Exception {
+        // Given
+        String payload = "{\"flagName\":\"dark_mode\",\"enabled\":true,\"changeType\":\"UPDATED\",\"version\":5}";
+
+        // When
+        FlagChangesDTO batch = FlagChangeEventListener.parse(objectMapper, payload);
+
+        // Then
+        assertThat(batch.getFromVersion()).isEqualTo(4L);
+        assertThat(batch.getVersion()).isEqualTo(5L);
+        assertThat(batch.getChanges()).hasSize(1);
+        assertThat(batch.getChanges().get(0).getEnabled()).isTrue();
+    }
+}
@@ -0,0 +1,98 @@
+package com.movieSearch.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.movieSearch.dto.FlagChangesDTO;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FlagPropagationTrackerTest {
+
+    private static final Instant NOW = Instant.ofEpochMilli(1_700_000_000_000L);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Test
+    void recordApplied_RecordsLagAndReportsSyncedVersion() {
+        // Given
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        FeatureFlagCacheService cacheService = new FeatureFlagCacheService();
+        cacheService.applySnapshot(4L, List.of());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        FlagPropagationTracker tracker = new FlagPropagationTracker(cacheService, redisTemplate, new ObjectMapper(),
+                meterRegistry, "ms-1", Clock.fixed(NOW, ZoneOffset.UTC));
+
+        FlagChangesDTO batch = new FlagChangesDTO();
+        batch.setFromVersion(4);
+        batch.setVersion(5);
+        batch.setChanges(List.of());
+        batch.setOrigin("ff-1");
+        batch.setPublishedAtMicros(NOW.toEpochMilli() * 1000 - 12_500);
+        cacheService.applyBatch(batch);
+
+        // When
+        tracker.recordApplied(batch, "pubsub");
+
+        // Then
+        Timer lag = meterRegistry.get("flags.propagation.lag").tags("transport", "pubsub", "origin", "ff-1").timer();
+        assertThat(lag.count()).isEqualTo(1);
+        assertThat(lag.totalTime(TimeUnit.MICROSECONDS)).isEqualTo(12_500);
+        verify(hashOperations).put(eq(FlagPropagationTracker.INSTANCES_KEY), eq("ms-1"),
+                argThat(report -> ((String) report).contains("\"appliedVersion\":5")
+                        && ((String) report).contains("\"lastLagMillis\":12.5")));
+    }
+
+    @Test
+    void heartbeat_WhileReportInFlight_SkipsWrite() throws Exception {
+        // Given
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        FeatureFlagCacheService cacheService = new FeatureFlagCacheService();
+        cacheService.applySnapshot(4L, List.of());
+        FlagPropagationTracker tracker = new FlagPropagationTracker(cacheService, redisTemplate, new ObjectMapper(),
+                new SimpleMeterRegistry(), "ms-1", Clock.fixed(NOW, ZoneOffset.UTC));
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(hashOperations).put(any(), any(), any());
+        CompletableFuture<Void> reporting = CompletableFuture.runAsync(tracker::report);
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        tracker.heartbeat();
+
+        // Then
+        release.countDown();
+        reporting.get(5, TimeUnit.SECONDS);
+        verify(hashOperations, times(1)).put(any(), any(), any());
+    }
+}
@@ -0,0 +1,106 @@
+package com.movieSearch.service;
+
+import com.movieSearch.dto.MovieBatchResponseDTO;
+import com.movieSearch.dto.MovieSearchResponseDTO;
+import com.movieSearch.exception.ExternalApiException;
+import com.movieSearch.exception.MaintenanceModeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MovieBatchServiceTest {
+
+    @Mock
+    private MovieSearchService movieSearchService;
+
+    @Mock
+    private FeatureFlagCacheService flagCacheService;
+
+    private MovieBatchService movieBatchService;
+
+    @BeforeEach
+    void setUp() {
+        movieBatchService = new MovieBatchService(movieSearchService, flagCacheService, 3, 2);
+    }
+
+    @Test
+    void getMovieDetailsBatch_MixedResults_ReturnsPartialResultsWithErrors() {
+        // Given
+        when(flagCacheService.isMaintenanceModeEnabled()).thenReturn(false);
+        when(movieSearchService.getMovieDetailsReactive("tt1")).thenReturn(Mono.just(details("True", null)));
+        when(movieSearchService.getMovieDetailsReactive("tt2")).thenReturn(Mono.just(details("False", "Incorrect IMDb ID.")));
+        when(movieSearchService.getMovieDetailsReactive("tt3")).thenReturn(Mono.error(new ExternalApiException("OMDB down")));
+
+        // When
+        MovieBatchResponseDTO result = movieBatchService.getMovieDetailsBatch(List.of("tt1", "tt2", " tt1 ", "tt3")).block();
+
+        // Then
+        assertThat(result.getResults()).containsOnlyKeys("tt1");
+        assertThat(result.getErrors()).containsEntry("tt2", "Incorrect IMDb ID.").containsEntry("tt3", MovieBatchService.UPSTREAM_ERROR);
+        verify(movieSearchService, times(1)).getMovieDetailsReactive("tt1");
+    }
+
+    @Test
+    void getMovieDetailsBatch_UpstreamFailures_DoNotLeakUpstreamDetails() {
+        // Given
+        when(flagCacheService.isMaintenanceModeEnabled()).thenReturn(false);
+        when(movieSearchService.getMovieDetailsReactive("tt1")).thenReturn(Mono.error(new ExternalApiException(
+                "Failed to fetch movie details from http://www.omdbapi.com/?apikey=secret-key&i=tt1: Connection refused")));
+        when(movieSearchService.getMovieDetailsReactive("tt2")).thenReturn(Mono.error(
+                new IllegalStateException("Timeout on blocking read for 5000000000 NANOSECONDS")));
+        when(movieSearchService.getMovieDetailsReactive("bad")).thenReturn(Mono.error(
+                new IllegalArgumentException("Invalid IMDB ID format")));
+
+        // When
+        MovieBatchResponseDTO result = movieBatchService.getMovieDetailsBatch(List.of("tt1", "tt2", "bad")).block();
+
+        // Then
+        assertThat(result.getErrors())
+                .containsEntry("tt1", MovieBatchService.UPSTREAM_ERROR)
+                .containsEntry("tt2", MovieBatchService.UNEXPECTED_ERROR)
+                .containsEntry("bad", "Invalid IMDB ID format");
+        assertThat(result.getErrors().values())
+                .noneMatch(error -> error.contains("omdbapi") || error.contains("apikey")
+                        || error.contains("Connection refused") || error.contains("Timeout"));
+    }
+
+    @Test
+    void getMovieDetailsBatch_TooManyIds_ThrowsException() {
+        // Given
+        when(flagCacheService.isMaintenanceModeEnabled()).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> movieBatchService.getMovieDetailsBatch(List.of("tt1", "tt2", "tt3", "tt4")).block())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Batch size cannot exceed 3 IMDB IDs");
+    }
+
+    @Test
+    void getMovieDetailsBatch_MaintenanceEnabled_ThrowsException() {
+        // Given
+        when(flagCacheService.isMaintenanceModeEnabled()).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> movieBatchService.getMovieDetailsBatch(List.of("tt1")).block())
+                .isInstanceOf(MaintenanceModeException.class);
+
+        verifyNoInteractions(movieSearchService);
+    }
+
+    private MovieSearchResponseDTO details(String response, String error) {
+        MovieSearchResponseDTO dto = new MovieSearchResponseDTO();
+        dto.setResponse(response);
+        dto.setError(error);
+        return dto;
+    }
+}
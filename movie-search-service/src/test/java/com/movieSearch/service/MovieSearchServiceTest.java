@@ -9,6 +9,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -72,6 +73,31 @@ class MovieSearchServiceTest {
                 .hasMessage("Movie title cannot be empty");
     }
 
+    @Test
+    void searchMoviesReactive_MaintenanceDisabled_EmitsResults() {
+        // Given
+        when(flagCacheService.isMaintenanceModeEnabled()).thenReturn(false);
+        when(omdbClient.searchMoviesReactive("test", 1, null)).thenReturn(Mono.just(mockResponse));
+
+        // When
+        MovieSearchResponseDTO result = movieSearchService.searchMoviesReactive("test", 1, null).block();
+
+        // Then
+        assertThat(result.getResponse()).isEqualTo("True");
+    }
+
+    @Test
+    void searchMoviesReactive_MaintenanceEnabled_EmitsError() {
+        // Given
+        when(flagCacheService.isMaintenanceModeEnabled()).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> movieSearchService.searchMoviesReactive("test", 1, null).block())
+                .isInstanceOf(MaintenanceModeException.class);
+
+        verify(omdbClient, never()).searchMoviesReactive(anyString(), anyInt(), any());
+    }
+
     @Test
     void getHealthStatus_ReturnsHealthInfo() {
         // Given
@@ -0,0 +1,95 @@
+package com.movieSearch.service;
+
+import com.movieSearch.dto.MovieResponseDTO;
+import com.movieSearch.dto.MovieSearchResponseDTO;
+import com.movieSearch.exception.ExternalApiException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MovieStreamServiceTest {
+
+    @Mock
+    private MovieSearchService movieSearchService;
+
+    private MovieStreamService movieStreamService;
+
+    @BeforeEach
+    void setUp() {
+        movieStreamService = new MovieStreamService(movieSearchService, 3, 2);
+    }
+
+    @Test
+    void streamSearch_MultiplePages_FetchesUpToCapAndDeduplicates() {
+        // Given
+        when(movieSearchService.searchMoviesReactive("matrix", 1, null))
+                .thenReturn(Mono.just(page("45", "tt1", "tt2")));
+        when(movieSearchService.searchMoviesReactive("matrix", 2, null))
+                .thenReturn(Mono.just(page("45", "tt2", "tt3")));
+        when(movieSearchService.searchMoviesReactive("matrix", 3, null))
+                .thenReturn(Mono.just(page("45", "tt4")));
+
+        // When
+        List<String> ids = movieStreamService.streamSearch("matrix", null)
+                .map(MovieResponseDTO::getImdbId)
+                .collectList()
+                .block();
+
+        // Then
+        assertThat(ids).containsExactlyInAnyOrder("tt1", "tt2", "tt3", "tt4");
+        verify(movieSearchService, never()).searchMoviesReactive(eq("matrix"), eq(4), any());
+    }
+
+    @Test
+    void streamSearch_FailedPage_SkipsPage() {
+        // Given
+        when(movieSearchService.searchMoviesReactive("matrix", 1, null))
+                .thenReturn(Mono.just(page("20", "tt1")));
+        when(movieSearchService.searchMoviesReactive("matrix", 2, null))
+                .thenReturn(Mono.error(new ExternalApiException("OMDB down")));
+
+        // When
+        List<MovieResponseDTO> movies = movieStreamService.streamSearch("matrix", null).collectList().block();
+
+        // Then
+        assertThat(movies).extracting(MovieResponseDTO::getImdbId).containsExactly("tt1");
+    }
+
+    @Test
+    void streamSearch_MovieNotFound_CompletesEmpty() {
+        // Given
+        MovieSearchResponseDTO notFound = new MovieSearchResponseDTO();
+        notFound.setResponse("False");
+        notFound.setError("Movie not found!");
+        when(movieSearchService.searchMoviesReactive("zzzz", 1, null)).thenReturn(Mono.just(notFound));
+
+        // When
+        List<MovieResponseDTO> movies = movieStreamService.streamSearch("zzzz", null).collectList().block();
+
+        // Then
+        assertThat(movies).isEmpty();
+        verify(movieSearchService, times(1)).searchMoviesReactive(eq("zzzz"), anyInt(), any());
+    }
+
+    private MovieSearchResponseDTO page(String totalResults, String... imdbIds) {
+        MovieSearchResponseDTO response = new MovieSearchResponseDTO();
+        response.setResponse("True");
+        response.setTotalResults(totalResults);
+        response.setSearch(Arrays.stream(imdbIds)
+                .map(id -> new MovieResponseDTO("Movie " + id, "1999", id, "movie", "N/A"))
+                .toList());
+        return response;
+    }
+}